@@ -33,16 +33,27 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
 
     private static final long serialVersionUID = 2106201608L;
 
+    // Padding character of base64 encoding.
+    private static final char PADDING = '=';
+
+    // Base64 encoded value, decoded only when binary data is required
+    private String encodedValue;
+
     // Binary data is a decoded value by base64 decoding scheme from data input (jason)
     private byte[] binaryData;
 
     /**
      * Creates a binary object corresponding to the base 64 encoding value.
+     * The value is decoded only when the binary data is retrieved.
      *
      * @param strValue base64 encoded value
      */
     public YangBinary(String strValue) {
-        setBinaryData(Base64.getDecoder().decode(strValue));
+        if (getDecodedLength(strValue) < 0) {
+            throw new IllegalArgumentException("Input value \"" + strValue
+                                                       + "\" is not a valid base64 encoded value");
+        }
+        encodedValue = strValue;
     }
 
     /**
@@ -51,6 +62,10 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
      * @return binary data
      */
     public byte[] getBinaryData() {
+        if (binaryData == null && encodedValue != null) {
+            binaryData = Base64.getDecoder().decode(encodedValue);
+            encodedValue = null;
+        }
         return binaryData;
     }
 
@@ -61,6 +76,7 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
      */
     public void setBinaryData(byte[] binaryData) {
         this.binaryData = binaryData;
+        encodedValue = null;
     }
 
     /**
@@ -70,7 +86,98 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
      */
     public String toString() {
         return Base64.getEncoder()
-                .encodeToString(binaryData);
+                .encodeToString(getBinaryData());
+    }
+
+    /**
+     * Returns whether the value is a valid base64 encoded value, as accepted
+     * by the base64 decoder, without decoding it.
+     *
+     * @param strValue base64 encoded value
+     * @return true if the value can be decoded, false otherwise
+     */
+    public static boolean isValidBase64String(String strValue) {
+        return getDecodedLength(strValue) >= 0;
+    }
+
+    /**
+     * Returns the number of octets the base64 encoded value decodes to. It
+     * is computed from the encoded value in a single pass, which also
+     * validates the alphabet and the padding, without decoding it.
+     *
+     * @param strValue base64 encoded value
+     * @return number of decoded octets, or -1 if value cannot be decoded
+     */
+    public static long getDecodedLength(String strValue) {
+        int length = strValue.length();
+        int dataLength = 0;
+        int paddingLength = 0;
+        for (int i = 0; i < length; i++) {
+            char character = strValue.charAt(i);
+            if (character == PADDING) {
+                paddingLength++;
+            } else if (paddingLength == 0 && isBase64Char(character)) {
+                dataLength++;
+            } else {
+                return -1;
+            }
+        }
+
+        int remainder = dataLength % 4;
+        switch (paddingLength) {
+            case 0:
+                if (remainder == 1) {
+                    return -1;
+                }
+                break;
+            case 1:
+                if (remainder != 3) {
+                    return -1;
+                }
+                break;
+            case 2:
+                if (remainder != 2) {
+                    return -1;
+                }
+                break;
+            default:
+                return -1;
+        }
+
+        // Each 4 characters decode to 3 octets, remaining 2 or 3 characters
+        // decode to 1 or 2 octets.
+        return (long) dataLength * 3 / 4;
+    }
+
+    /**
+     * Returns the canonical lexical form of the base64 encoded value, which
+     * is padded to a multiple of 4 characters.
+     *
+     * @param strValue base64 encoded value
+     * @return canonical value, or null if value cannot be decoded
+     */
+    public static String getCanonicalBase64String(String strValue) {
+        if (getDecodedLength(strValue) < 0) {
+            return null;
+        }
+        int remainder = strValue.length() % 4;
+        if (remainder == 0) {
+            return strValue;
+        }
+        return remainder == 2 ? strValue + PADDING + PADDING : strValue + PADDING;
+    }
+
+    /**
+     * Returns whether the character belongs to the base64 alphabet.
+     *
+     * @param character character
+     * @return true if the character belongs to base64 alphabet
+     */
+    private static boolean isBase64Char(char character) {
+        return character >= 'A' && character <= 'Z'
+                || character >= 'a' && character <= 'z'
+                || character >= '0' && character <= '9'
+                || character == '+' || character == '/';
     }
 
     @Override
@@ -80,13 +187,15 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
 
     @Override
     public int compareTo(YangBinary o) {
-        for (int i = 0, j = 0; i < this.binaryData.length && j < o.binaryData.length; i++, j++) {
-            int a = (this.binaryData[i] & 0xff);
-            int b = (o.binaryData[j] & 0xff);
+        byte[] data = getBinaryData();
+        byte[] otherData = o.getBinaryData();
+        for (int i = 0, j = 0; i < data.length && j < otherData.length; i++, j++) {
+            int a = (data[i] & 0xff);
+            int b = (otherData[j] & 0xff);
             if (a != b) {
                 return a - b;
             }
         }
-        return this.binaryData.length - o.binaryData.length;
+        return data.length - otherData.length;
     }
 }
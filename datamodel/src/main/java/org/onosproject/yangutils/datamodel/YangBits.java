@@ -238,6 +238,50 @@ public class YangBits extends DefaultLocationInfo implements Parsable, Serializa
         return null;
     }
 
+    /**
+     * Returns whether the given space separated bit names are all defined in
+     * the bits, without updating the bit data set.
+     *
+     * @param bits space separated bit names
+     * @return true if all the bit names are defined, false otherwise
+     */
+    public boolean isValidBitsString(String bits) {
+        for (String bitName : bits.trim().split(SPACE)) {
+            if (!bitNameMap.containsKey(bitName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the canonical lexical form of the given space separated bit
+     * names, which lists each bit once, in the order of bit position,
+     * separated by a single space. The bit data set is not updated.
+     *
+     * @param bits space separated bit names
+     * @return canonical bits value, or null if a bit name is not defined
+     */
+    public String getCanonicalBitsString(String bits) {
+        BitSet positions = new BitSet();
+        for (String bitName : bits.trim().split(SPACE)) {
+            YangBit bit = bitNameMap.get(bitName);
+            if (bit == null) {
+                return null;
+            }
+            positions.set(bit.getPosition());
+        }
+
+        StringBuilder canonical = new StringBuilder(bits.length());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            if (canonical.length() > 0) {
+                canonical.append(SPACE);
+            }
+            canonical.append(bitPositionMap.get(i).getBitName());
+        }
+        return canonical.toString();
+    }
+
     /**
      * Validates the data on entering the corresponding parse tree node.
      *
@@ -19,10 +19,10 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.unmodifiableList;
 import static org.onosproject.yangutils.datamodel.YangNodeType.CASE_NODE;
@@ -154,7 +154,7 @@ public abstract class YangCase
         listOfLeaf = new LinkedList<>();
         listOfLeafList = new LinkedList<>();
         ifFeatureList = new LinkedList<>();
-        yangAugmentedInfo = new ArrayList<>();
+        yangAugmentedInfo = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -417,11 +417,13 @@ public abstract class YangCase
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
@@ -19,10 +19,10 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.unmodifiableList;
 import static org.onosproject.yangutils.datamodel.YangNodeType.CHOICE_NODE;
@@ -174,7 +174,7 @@ public abstract class YangChoice
         super(CHOICE_NODE, new HashMap<>());
         yangAppErrorInfo = new YangAppErrorInfo();
         ifFeatureList = new LinkedList<>();
-        yangAugmentedInfo = new ArrayList<>();
+        yangAugmentedInfo = new CopyOnWriteArrayList<>();
         yangAppErrorInfo.setErrorTag(DATA_MISSING_ERROR_TAG);
         yangAppErrorInfo.setErrorAppTag(MISSING_CHOICE_ERROR_APP_TAG);
         yangAppErrorInfo.setErrorAppPath(ERROR_PATH_MISSING_CHOICE);
@@ -466,11 +466,13 @@ public abstract class YangChoice
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
@@ -20,10 +20,10 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.detectCollidingChildUtil;
 
@@ -128,7 +128,7 @@ public abstract class YangContainer
      */
     private String reference;
 
-    private List<YangAugment> yangAugmentedInfo = new ArrayList<>();
+    private List<YangAugment> yangAugmentedInfo = new CopyOnWriteArrayList<>();
 
     /**
      * Status of the node.
@@ -493,11 +493,13 @@ public abstract class YangContainer
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
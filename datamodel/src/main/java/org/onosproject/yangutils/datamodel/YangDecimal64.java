@@ -51,6 +51,21 @@ public class YangDecimal64<T> extends DefaultLocationInfo
      */
     private static final String MAX_KEYWORD = "max";
 
+    /**
+     * Maximum count of exponent digits which fits in the BigDecimal scale.
+     */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    /**
+     * Maximum count of digits of a scaled value which always fits in long.
+     */
+    private static final int MAX_SCALED_DIGITS = 18;
+
+    /**
+     * Indicates the value cannot be represented as scaled long.
+     */
+    static final long NOT_SCALED = Long.MIN_VALUE;
+
     /**
      * Valid minimum value of YANG's fraction-digits.
      */
@@ -230,46 +245,200 @@ public class YangDecimal64<T> extends DefaultLocationInfo
 
 
     /**
-     * Checks whether value is in correct decimal64 value range.
+     * Returns whether the value represented in string is a valid decimal64
+     * value. It accepts the same input as creating the decimal64 from
+     * string, but indicates an invalid value without raising exception.
      *
-     * @throws DataModelException a violation of data model rules
+     * @param valueInString value represented in string
+     * @return true if the value is a valid decimal64 value, false otherwise
      */
-    public void validateDecimal64() throws DataModelException {
+    static boolean isValidDecimal64String(String valueInString) {
+        if (valueInString.equals(MIN_KEYWORD) || valueInString.equals(MAX_KEYWORD)) {
+            return true;
+        }
+
+        int length = valueInString.length();
+        int index = 0;
+        if (length > 0 && (valueInString.charAt(0) == '-'
+                || valueInString.charAt(0) == '+')) {
+            index++;
+        }
+        int digits = 0;
+        while (index < length && isDigit(valueInString.charAt(index))) {
+            index++;
+            digits++;
+        }
+        if (index < length && valueInString.charAt(index) == '.') {
+            index++;
+            while (index < length && isDigit(valueInString.charAt(index))) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (index < length && (valueInString.charAt(index) == 'e'
+                || valueInString.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (valueInString.charAt(index) == '-'
+                    || valueInString.charAt(index) == '+')) {
+                index++;
+            }
+            int exponentDigits = 0;
+            while (index < length && isDigit(valueInString.charAt(index))) {
+                index++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+                return false;
+            }
+        }
+        if (index != length) {
+            return false;
+        }
+
+        double value = new BigDecimal(valueInString).doubleValue();
+        return value >= MIN_VALUE.doubleValue() && value <= MAX_VALUE.doubleValue();
+    }
+
+    /**
+     * Returns the value represented in string as long scaled by 10 to the
+     * power of fraction-digits, without allocating. Only plain decimal
+     * value, with not more fraction digits than fraction-digits and not
+     * more than 18 digits when scaled, is represented, for other value
+     * {@link #NOT_SCALED} is returned.
+     *
+     * @param valueInString value represented in string
+     * @param fractionDigit fraction-digits
+     * @return scaled value, or NOT_SCALED if it cannot be represented
+     */
+    static long getScaledValue(String valueInString, int fractionDigit) {
+        int length = valueInString.length();
+        int index = 0;
+        boolean isNegative = false;
+        if (length > 0 && (valueInString.charAt(0) == '-'
+                || valueInString.charAt(0) == '+')) {
+            isNegative = valueInString.charAt(0) == '-';
+            index++;
+        }
+
+        long scaledValue = 0;
+        int digits = 0;
+        while (index < length && isDigit(valueInString.charAt(index))) {
+            scaledValue = scaledValue * 10 + valueInString.charAt(index) - '0';
+            index++;
+            digits++;
+        }
+        int fractionDigits = 0;
+        if (index < length && valueInString.charAt(index) == '.') {
+            index++;
+            while (index < length && isDigit(valueInString.charAt(index))) {
+                scaledValue = scaledValue * 10 + valueInString.charAt(index) - '0';
+                index++;
+                fractionDigits++;
+            }
+        }
+        if (index != length || digits + fractionDigits == 0 || fractionDigits > fractionDigit
+                || digits + fractionDigit > MAX_SCALED_DIGITS) {
+            return NOT_SCALED;
+        }
+
+        for (int i = fractionDigits; i < fractionDigit; i++) {
+            scaledValue *= 10;
+        }
+        return isNegative ? -scaledValue : scaledValue;
+    }
+
+    /**
+     * Returns the canonical lexical form of the decimal64 value scaled by 10
+     * to the power of fraction-digits. The canonical form has no sign "+",
+     * no leading and trailing zeros, and at least one digit before and after
+     * the decimal point.
+     *
+     * @param scaledValue   scaled value
+     * @param fractionDigit fraction-digits of decimal64
+     * @return canonical value
+     */
+    static String getCanonicalString(long scaledValue, int fractionDigit) {
+        String digits = Long.toString(Math.abs(scaledValue));
+        StringBuilder canonical = new StringBuilder(digits.length() + fractionDigit + 3);
+        if (scaledValue < 0) {
+            canonical.append('-');
+        }
+        // Leading zeros to have a digit before decimal point.
+        for (int i = digits.length(); i <= fractionDigit; i++) {
+            canonical.append('0');
+        }
+        canonical.append(digits);
+        int point = canonical.length() - fractionDigit;
+        int end = canonical.length();
+        while (end > point + 1 && canonical.charAt(end - 1) == '0') {
+            end--;
+        }
+        canonical.setLength(end);
+        canonical.insert(point, '.');
+        return canonical.toString();
+    }
+
+    /**
+     * Returns the canonical lexical form of the decimal64 value.
+     *
+     * @param value decimal64 value
+     * @return canonical value
+     */
+    static String getCanonicalString(BigDecimal value) {
+        String canonical = value.stripTrailingZeros().toPlainString();
+        return canonical.indexOf('.') < 0 ? canonical + ".0" : canonical;
+    }
+
+    /**
+     * Returns whether the character is an ASCII digit.
+     *
+     * @param character character
+     * @return true if the character is a digit
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Returns whether value is in correct decimal64 value range.
+     *
+     * @return true if value is in range, false otherwise
+     */
+    public boolean isValidDecimal64() {
         YangRangeRestriction rangeRestriction =
                 (YangRangeRestriction) getRangeRestrictedExtendedInfo();
         if (rangeRestriction != null) {
             // Check whether value is within provided range value
             ListIterator<YangRangeInterval> rangeListIterator =
                     rangeRestriction.getAscendingRangeIntervals().listIterator();
-
-            boolean isMatched = false;
             while (rangeListIterator.hasNext()) {
                 YangRangeInterval rangeInterval = rangeListIterator.next();
-                rangeInterval.setCharPosition(getCharPosition());
-                rangeInterval.setLineNumber(getLineNumber());
-                rangeInterval.setFileName(getFileName());
                 BigDecimal startValue = ((YangDecimal64) rangeInterval.getStartValue()).getValue();
                 BigDecimal endValue = ((YangDecimal64) rangeInterval.getEndValue()).getValue();
                 if (value.doubleValue() >= startValue.doubleValue() &&
                         value.doubleValue() <= endValue.doubleValue()) {
-                    isMatched = true;
-                    break;
+                    return true;
                 }
             }
-            // If range is not matched then throw error
-            if (!isMatched) {
-                throw new DataModelException(getErrorMsg(
-                        "YANG file error : decimal64 validation failed.", "decimal64",
-                        getLineNumber(), getCharPosition(), getFileName() + "\""));
-            }
-        } else {
-            // Check value is in fraction-digits decimal64 value range
-            if (!FractionDigits.isValueInDecimal64Range(value, getFractionDigit())) {
-                throw new DataModelException(getErrorMsg(
-                        "YANG file error : decimal64 validation failed.", "decimal64",
-                        getLineNumber(), getCharPosition(), getFileName() + "\""));
+            return false;
+        }
+        // Check value is in fraction-digits decimal64 value range
+        return FractionDigits.isValueInDecimal64Range(value, getFractionDigit());
+    }
 
-            }
+    /**
+     * Checks whether value is in correct decimal64 value range.
+     *
+     * @throws DataModelException a violation of data model rules
+     */
+    public void validateDecimal64() throws DataModelException {
+        if (!isValidDecimal64()) {
+            throw new DataModelException(getErrorMsg(
+                    "YANG file error : decimal64 validation failed.", "decimal64",
+                    getLineNumber(), getCharPosition(), getFileName() + "\""));
         }
     }
 
@@ -16,6 +16,10 @@
 
 package org.onosproject.yangutils.datamodel;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -40,6 +44,12 @@ public abstract class YangEnumeration
     // Enumeration info set.
     private SortedSet<YangEnum> enumSet;
 
+    // Index of ENUM on its name, rebuilt on deserialization.
+    private transient Map<String, YangEnum> enumNameIndex;
+
+    // Index of ENUM on its value, rebuilt on deserialization.
+    private transient Map<Integer, YangEnum> enumValueIndex;
+
     /**
      * Creates an enumeration object.
      */
@@ -80,12 +90,13 @@ public abstract class YangEnumeration
     }
 
     /**
-     * Sets the ENUM set.
+     * Sets the ENUM set and rebuilds the ENUM indexes from it.
      *
      * @param enumSet the ENUM set to set
      */
     private void setEnumSet(SortedSet<YangEnum> enumSet) {
         this.enumSet = enumSet;
+        buildEnumIndex();
     }
 
     /**
@@ -103,6 +114,59 @@ public abstract class YangEnumeration
                     getCharPosition() +
                     " in " + getFileName() + "\"");
         }
+        enumNameIndex.put(enumInfo.getNamedValue(), enumInfo);
+        enumValueIndex.put(enumInfo.getValue(), enumInfo);
+    }
+
+    /**
+     * Returns the ENUM with the given name.
+     *
+     * @param namedValue name of the ENUM
+     * @return ENUM information, null if the ENUM is not present
+     */
+    public YangEnum getEnumByName(String namedValue) {
+        return enumNameIndex.get(namedValue);
+    }
+
+    /**
+     * Returns the ENUM with the given value.
+     *
+     * @param value value of the ENUM
+     * @return ENUM information, null if the ENUM is not present
+     */
+    public YangEnum getEnumByValue(int value) {
+        return enumValueIndex.get(value);
+    }
+
+    /**
+     * Sets the name of an ENUM in the ENUM set, keeping the name index in
+     * sync.
+     *
+     * @param enumInfo   ENUM information present in the ENUM set
+     * @param namedValue new name of the ENUM
+     */
+    public void setEnumNamedValue(YangEnum enumInfo, String namedValue) {
+        enumNameIndex.remove(enumInfo.getNamedValue());
+        enumInfo.setNamedValue(namedValue);
+        enumNameIndex.put(namedValue, enumInfo);
+    }
+
+    /**
+     * Rebuilds the ENUM indexes from the ENUM set.
+     */
+    private void buildEnumIndex() {
+        enumNameIndex = new HashMap<>();
+        enumValueIndex = new HashMap<>();
+        for (YangEnum enumInfo : getEnumSet()) {
+            enumNameIndex.put(enumInfo.getNamedValue(), enumInfo);
+            enumValueIndex.put(enumInfo.getValue(), enumInfo);
+        }
+    }
+
+    private void readObject(ObjectInputStream inputStream)
+            throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        buildEnumIndex();
     }
 
     /**
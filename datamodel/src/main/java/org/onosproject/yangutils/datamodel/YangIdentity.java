@@ -16,6 +16,14 @@
 package org.onosproject.yangutils.datamodel;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
@@ -65,6 +73,25 @@ public abstract class YangIdentity
     //YANG reference of the identity.
     private String reference;
 
+    /*
+     * Identities derived from the identity directly or transitively, on
+     * their module qualified name "module:identity". It is computed after
+     * linking.
+     */
+    private transient Map<String, YangIdentity> derivedIdentities;
+
+    /*
+     * Identities derived from the identity on their name, the name of
+     * identities of different modules having same name is mapped to null.
+     */
+    private transient Map<String, YangIdentity> derivedIdentityNames;
+
+    /*
+     * Identities from which the identity is derived directly or
+     * transitively.
+     */
+    private transient Set<YangIdentity> baseIdentities;
+
     //Creates a identity type of node.
     public YangIdentity() {
         super(YangNodeType.IDENTITY_NODE, null);
@@ -154,4 +181,91 @@ public abstract class YangIdentity
     public void setBaseNode(YangBase baseNode) {
         this.baseNode = baseNode;
     }
+
+    /**
+     * Returns whether the identity is derived from the base identity,
+     * directly or through other identities. An identity is not derived from
+     * itself.
+     *
+     * @param base base identity
+     * @return true if derived from base identity
+     */
+    public boolean isDerivedFrom(YangIdentity base) {
+        return baseIdentities != null && baseIdentities.contains(base);
+    }
+
+    /**
+     * Returns the identities derived from the identity, directly or through
+     * other identities.
+     *
+     * @return derived identities
+     */
+    public Collection<YangIdentity> getDerivedIdentities() {
+        if (derivedIdentities == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(derivedIdentities.values());
+    }
+
+    /**
+     * Returns the identity of the module derived from the identity.
+     *
+     * @param moduleName name of module defining the identity
+     * @param name       name of identity
+     * @return derived identity, or null if there is no such derived identity
+     */
+    public YangIdentity getDerivedIdentity(String moduleName, String name) {
+        if (derivedIdentities == null) {
+            return null;
+        }
+        return derivedIdentities.get(moduleName + ":" + name);
+    }
+
+    /**
+     * Returns the identity derived from the identity with the name, when
+     * identities of only one module have the name.
+     *
+     * @param name name of identity
+     * @return derived identity, or null if there is no such derived identity
+     * or the name is ambiguous
+     */
+    public YangIdentity getDerivedIdentity(String name) {
+        if (derivedIdentityNames == null) {
+            return null;
+        }
+        return derivedIdentityNames.get(name);
+    }
+
+    /**
+     * Adds the identity derived from the identity, directly or through
+     * other identities.
+     *
+     * @param moduleName name of module defining the derived identity
+     * @param identity   derived identity
+     */
+    public void addDerivedIdentity(String moduleName, YangIdentity identity) {
+        if (derivedIdentities == null) {
+            derivedIdentities = new LinkedHashMap<>();
+            derivedIdentityNames = new HashMap<>();
+        }
+        derivedIdentities.put(moduleName + ":" + identity.getName(), identity);
+        if (derivedIdentityNames.containsKey(identity.getName())) {
+            derivedIdentityNames.put(identity.getName(), null);
+        } else {
+            derivedIdentityNames.put(identity.getName(), identity);
+        }
+        if (identity.baseIdentities == null) {
+            identity.baseIdentities = new HashSet<>();
+        }
+        identity.baseIdentities.add(this);
+    }
+
+    /**
+     * Resets the derived and base identities of the identity.
+     */
+    public void resetDerivedIdentities() {
+        derivedIdentities = null;
+        derivedIdentityNames = null;
+        baseIdentities = null;
+    }
 }
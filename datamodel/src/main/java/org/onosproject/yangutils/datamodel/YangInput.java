@@ -20,10 +20,10 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.unmodifiableList;
 import static org.onosproject.yangutils.datamodel.YangNodeType.INPUT_NODE;
@@ -103,7 +103,7 @@ public abstract class YangInput
         super(INPUT_NODE, new HashMap<>());
         listOfLeaf = new LinkedList<>();
         listOfLeafList = new LinkedList<>();
-        yangAugmentedInfo = new ArrayList<>();
+        yangAugmentedInfo = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -201,11 +201,13 @@ public abstract class YangInput
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
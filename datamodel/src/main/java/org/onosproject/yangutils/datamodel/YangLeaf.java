@@ -140,6 +140,16 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     private YangLeaf referredLeaf;
 
+    /**
+     * Absolute schema path of the node, computed after linking.
+     */
+    private String schemaPath;
+
+    /**
+     * Depth of the node in schema tree, computed after linking.
+     */
+    private int schemaDepth;
+
     /**
      * Creates a YANG leaf.
      */
@@ -540,6 +550,34 @@ public abstract class YangLeaf extends DefaultLocationInfo
         return referredLeaf;
     }
 
+    @Override
+    public String getSchemaPath() {
+        return schemaPath;
+    }
+
+    /**
+     * Sets absolute schema path of the node.
+     *
+     * @param schemaPath absolute schema path
+     */
+    public void setSchemaPath(String schemaPath) {
+        this.schemaPath = schemaPath;
+    }
+
+    @Override
+    public int getSchemaDepth() {
+        return schemaDepth;
+    }
+
+    /**
+     * Sets depth of the node in schema tree.
+     *
+     * @param schemaDepth depth of the node in schema tree
+     */
+    public void setSchemaDepth(int schemaDepth) {
+        this.schemaDepth = schemaDepth;
+    }
+
     /**
      * Sets referred schema leaf. This is only applicable for grouping.
      *
@@ -16,10 +16,10 @@
 
 package org.onosproject.yangutils.datamodel;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
@@ -145,7 +145,7 @@ public abstract class YangList
      */
     private List<YangLeafList> listOfLeafList;
 
-    private List<YangAugment> yangAugmentedInfo = new ArrayList<>();
+    private List<YangAugment> yangAugmentedInfo = new CopyOnWriteArrayList<>();
 
     /**
      * Reference RFC 6020.
@@ -770,11 +770,13 @@ public abstract class YangList
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
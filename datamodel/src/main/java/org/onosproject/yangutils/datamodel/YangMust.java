@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
+import org.onosproject.yangutils.datamodel.utils.xpath.YangXPathExpression;
 import static org.onosproject.yangutils.datamodel.utils.YangErrMsgConstants.OPERATION_FAILED_ERROR_TAG;
 import static org.onosproject.yangutils.datamodel.utils.YangErrMsgConstants.MUST_VIOLATION_ERROR_APP_TAG;
 
@@ -60,6 +61,18 @@ public class YangMust extends DefaultLocationInfo
      */
     private String constraint;
 
+    /**
+     * Compiled constraint, set on linking if the constraint is supported by
+     * the XPath compiler.
+     */
+    private transient YangXPathExpression compiledConstraint;
+
+    /**
+     * Context node the constraint is compiled for, the must of a grouping
+     * being shared by its copies until compiled for another context node.
+     */
+    private transient YangSchemaNode compiledContext;
+
     /**
      * Description string.
      */
@@ -102,6 +115,36 @@ public class YangMust extends DefaultLocationInfo
         this.constraint = constraint;
     }
 
+    /**
+     * Returns the compiled constraint.
+     *
+     * @return compiled constraint, null if not compiled
+     */
+    public YangXPathExpression getCompiledConstraint() {
+        return compiledConstraint;
+    }
+
+    /**
+     * Returns the context node the constraint is compiled for.
+     *
+     * @return context node, null if not compiled
+     */
+    public YangSchemaNode getCompiledContext() {
+        return compiledContext;
+    }
+
+    /**
+     * Sets the constraint compiled for the context node.
+     *
+     * @param compiledConstraint compiled constraint, null if not supported
+     * @param compiledContext    context node of compiled constraint
+     */
+    public void setCompiledConstraint(YangXPathExpression compiledConstraint,
+                                      YangSchemaNode compiledContext) {
+        this.compiledConstraint = compiledConstraint;
+        this.compiledContext = compiledContext;
+    }
+
     /**
      * Returns the description.
      *
@@ -17,9 +17,12 @@ package org.onosproject.yangutils.datamodel;
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
+import org.onosproject.yangutils.datamodel.utils.YangAugmentedChildMap;
+import org.onosproject.yangutils.datamodel.utils.YangSymbolTable;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
@@ -113,6 +116,43 @@ public abstract class YangNode extends DefaultLocationInfo
      */
     private YangNode referredSchemaNode;
 
+    /**
+     * Absolute schema path of the node, computed after linking.
+     */
+    private String schemaPath;
+
+    /**
+     * Depth of the node in schema tree, computed after linking.
+     */
+    private int schemaDepth;
+
+    /**
+     * Mandatory child schema nodes, computed after linking.
+     */
+    private YangSchemaNode[] mandatoryChildren;
+
+    /**
+     * Child leaves having a default value, computed after linking.
+     */
+    private YangLeaf[] defaultLeaves;
+
+    /**
+     * Canonical default values of the default leaves, in the same order.
+     */
+    private String[] defaultValues;
+
+    /**
+     * Symbol table of the definitions in the scope of the node, created on
+     * first lookup and discarded when the children of the node change.
+     */
+    private transient volatile YangSymbolTable symbolTable;
+
+    /**
+     * Map of the data children added by the augments of the node, created
+     * on first lookup and discarded when an augment is added or removed.
+     */
+    private transient volatile YangAugmentedChildMap augmentedChildMap;
+
     /**
      * Returns the priority of the node.
      *
@@ -220,6 +260,7 @@ public abstract class YangNode extends DefaultLocationInfo
      */
     public void setChild(YangNode child) {
         this.child = child;
+        symbolTable = null;
     }
 
     /**
@@ -238,6 +279,9 @@ public abstract class YangNode extends DefaultLocationInfo
      */
     public void setNextSibling(YangNode sibling) {
         nextSibling = sibling;
+        if (parent != null) {
+            parent.symbolTable = null;
+        }
     }
 
     /**
@@ -834,6 +878,9 @@ public abstract class YangNode extends DefaultLocationInfo
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
+        if (parent != null) {
+            parent.symbolTable = null;
+        }
     }
 
     @Override
@@ -883,6 +930,164 @@ public abstract class YangNode extends DefaultLocationInfo
         return referredSchemaNode;
     }
 
+    @Override
+    public String getSchemaPath() {
+        return schemaPath;
+    }
+
+    /**
+     * Sets absolute schema path of the node.
+     *
+     * @param schemaPath absolute schema path
+     */
+    public void setSchemaPath(String schemaPath) {
+        this.schemaPath = schemaPath;
+    }
+
+    @Override
+    public int getSchemaDepth() {
+        return schemaDepth;
+    }
+
+    /**
+     * Sets depth of the node in schema tree.
+     *
+     * @param schemaDepth depth of the node in schema tree
+     */
+    public void setSchemaDepth(int schemaDepth) {
+        this.schemaDepth = schemaDepth;
+    }
+
+    /**
+     * Returns the mandatory child schema nodes of the node. These are the
+     * mandatory leaves and choices, the leaf-lists and lists with minimum
+     * elements and the non presence containers having a mandatory child.
+     * The returned array must not be modified.
+     *
+     * @return mandatory child schema nodes
+     */
+    public YangSchemaNode[] getMandatoryChildren() {
+        if (mandatoryChildren == null) {
+            return new YangSchemaNode[0];
+        }
+        return mandatoryChildren;
+    }
+
+    /**
+     * Sets the mandatory child schema nodes of the node and updates the
+     * mandatory child count.
+     *
+     * @param mandatoryChildren mandatory child schema nodes
+     */
+    public void setMandatoryChildren(YangSchemaNode[] mandatoryChildren) {
+        this.mandatoryChildren = mandatoryChildren;
+        setMandatoryChildCount(mandatoryChildren.length);
+    }
+
+    /**
+     * Returns the child leaves of the node having a default value. For a
+     * choice, these are the leaves of its default case. The returned array
+     * must not be modified.
+     *
+     * @return leaves having a default value
+     */
+    public YangLeaf[] getDefaultLeaves() {
+        if (defaultLeaves == null) {
+            return new YangLeaf[0];
+        }
+        return defaultLeaves;
+    }
+
+    /**
+     * Returns the canonical default values of the default leaves, in the
+     * order of the default leaves. The returned array must not be modified.
+     *
+     * @return canonical default values
+     */
+    public String[] getDefaultValues() {
+        if (defaultValues == null) {
+            return new String[0];
+        }
+        return defaultValues;
+    }
+
+    /**
+     * Returns the symbol table of the typedefs, groupings, identities and
+     * features defined in the scope of the node, creating it if it is not
+     * created or is out of date.
+     *
+     * @return symbol table of the node
+     */
+    public YangSymbolTable getSymbolTable() {
+        YangSymbolTable table = symbolTable;
+        if (table == null || !table.isFeatureListCurrent(this)) {
+            table = new YangSymbolTable(this);
+            symbolTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the map of the data children added by the augments of the
+     * node, creating it if it is not created or is out of date.
+     *
+     * @return map of augmented children, null if the node is not augmentable
+     */
+    public YangAugmentedChildMap getAugmentedChildMap() {
+        if (!(this instanceof YangAugmentableNode)) {
+            return null;
+        }
+        YangAugmentedChildMap childMap = augmentedChildMap;
+        if (childMap == null) {
+            childMap = new YangAugmentedChildMap((YangAugmentableNode) this);
+            augmentedChildMap = childMap;
+        }
+        return childMap;
+    }
+
+    /**
+     * Discards the map of the data children added by the augments of the
+     * node, when the augments or the children of the node change. When the
+     * node is an augment, or a choice or case within an augment, the map of
+     * the augmented node is discarded too.
+     */
+    public void resetAugmentedChildMap() {
+        augmentedChildMap = null;
+        YangNode node = this;
+        while ((node instanceof YangChoice || node instanceof YangCase) && node.getParent() != null) {
+            node = node.getParent();
+            node.augmentedChildMap = null;
+        }
+        if (node instanceof YangAugment && ((YangAugment) node).getAugmentedNode() != null) {
+            ((YangAugment) node).getAugmentedNode().resetAugmentedChildMap();
+        }
+    }
+
+    /**
+     * Returns the symbol table of the node if it is created.
+     *
+     * @return symbol table of the node, null if not created
+     */
+    public YangSymbolTable getCreatedSymbolTable() {
+        return symbolTable;
+    }
+
+    /**
+     * Sets the child leaves having a default value with their canonical
+     * default values and updates the default child map.
+     *
+     * @param defaultLeaves leaves having a default value
+     * @param defaultValues canonical default values of the leaves
+     */
+    public void setDefaultLeaves(YangLeaf[] defaultLeaves, String[] defaultValues) {
+        this.defaultLeaves = defaultLeaves;
+        this.defaultValues = defaultValues;
+        defaultChildMap = new LinkedHashMap<>();
+        for (YangLeaf leaf : defaultLeaves) {
+            defaultChildMap.put(leaf.getYangSchemaNodeIdentifier(), leaf);
+        }
+    }
+
     /**
      * Returns true if op type info required for node.
      *
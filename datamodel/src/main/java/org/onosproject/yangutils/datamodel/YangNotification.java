@@ -23,6 +23,7 @@ import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.unmodifiableList;
 import static org.onosproject.yangutils.datamodel.YangNodeType.NOTIFICATION_NODE;
@@ -130,7 +131,7 @@ public abstract class YangNotification
         listOfLeaf = new LinkedList<>();
         listOfLeafList = new LinkedList<>();
         ifFeatureList = new LinkedList<>();
-        yangAugmentedInfo = new LinkedList<>();
+        yangAugmentedInfo = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -268,11 +269,13 @@ public abstract class YangNotification
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.add(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
         yangAugmentedInfo.remove(augmentInfo);
+        resetAugmentedChildMap();
     }
 
     @Override
@@ -193,6 +193,23 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
                     "", getLineNumber(), getCharPosition(), getFileName() + "\""));
         }
 
+        return isValueInRange(valueInString);
+    }
+
+    /**
+     * Validates if the given value lies in one of the range intervals. The
+     * value must already be known to be a valid value of the restricted
+     * built-in type, it returns false if there is no range interval.
+     *
+     * @param valueInString value
+     * @return true, if the value is in range, false otherwise
+     */
+    boolean isValueInRange(String valueInString) {
+        if (getAscendingRangeIntervals() == null
+                || getAscendingRangeIntervals().isEmpty()) {
+            return false;
+        }
+
         YangDataTypes type = getAscendingRangeIntervals().get(0).getStartValue().getYangType();
         YangBuiltInDataTypeInfo<?> value = getDataObjectFromString(valueInString, type);
 
@@ -146,4 +146,24 @@ public interface YangSchemaNode extends LocationInfo {
      * @return referred schema node
      */
     YangSchemaNode getReferredSchema();
+
+    /**
+     * Returns absolute schema path of the node. It is computed once after
+     * linking, so that consumers need not walk the parent chain. Each path
+     * step is the node name, qualified with the module name for top level
+     * nodes and wherever the module differs from the previous step. Module
+     * and sub-module have "/" as schema path. It is null for nodes which are
+     * not part of the schema tree, like grouping or typedef contents.
+     *
+     * @return absolute schema path
+     */
+    String getSchemaPath();
+
+    /**
+     * Returns depth of the node in schema tree, where module and sub-module
+     * are at depth zero. It is valid only if schema path is available.
+     *
+     * @return depth of the node in schema tree
+     */
+    int getSchemaDepth();
 }
@@ -18,6 +18,7 @@ package org.onosproject.yangutils.datamodel;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
+import org.onosproject.yangutils.datamodel.utils.YangResolutionBatches;
 
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -27,14 +28,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import static java.util.Collections.unmodifiableList;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_BASE;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_COMPILER_ANNOTATION;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IF_FEATURE;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_LEAFREF;
-import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_USES;
 import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_SINGLE_INSTANCE_NODE;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.detectCollidingChildUtil;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.linkInterFileReferences;
@@ -205,48 +198,13 @@ public abstract class YangSubModule
      * matching "typedef" or "grouping" statement among the immediate
      * sub-statements of each ancestor statement.
      */
-    private List<YangResolutionInfo> derivedTypeResolutionList;
-
-    /**
-     * Uses resolution list.
-     */
-    private List<YangResolutionInfo> usesResolutionList;
-
-    /**
-     * If-feature resolution list.
-     */
-    private List<YangResolutionInfo> ifFeatureResolutionList;
-
-    /**
-     * LeafRef resolution list.
-     */
-    private List<YangResolutionInfo> leafRefResolutionList;
-
-    /**
-     * Base resolution list.
-     */
-    private List<YangResolutionInfo> baseResolutionList;
-
-    /**
-     * IdentityRef resolution list.
-     */
-    private List<YangResolutionInfo> identityRefResolutionList;
-
-    /**
-     * Compiler annotation list.
-     */
-    private List<YangResolutionInfo> compilerAnnotationList;
+    private YangResolutionBatches resolutionBatches;
 
     /**
      * extension list.
      */
     private List<YangExtension> extensionList;
 
-    /**
-     * Augment resolution list.
-     */
-    private List<YangResolutionInfo> augmentResolutionList;
-
     /**
      * Flag to indicate the presence of notification.
      */
@@ -272,20 +230,12 @@ public abstract class YangSubModule
      */
     public YangSubModule() {
         super(YangNodeType.SUB_MODULE_NODE, new HashMap<>());
-        derivedTypeResolutionList = new LinkedList<>();
-        augmentResolutionList = new LinkedList<>();
-        usesResolutionList = new LinkedList<>();
-        ifFeatureResolutionList = new LinkedList<>();
-        leafRefResolutionList = new LinkedList<>();
-        baseResolutionList = new LinkedList<>();
-        identityRefResolutionList = new LinkedList<>();
-        compilerAnnotationList = new LinkedList<>();
+        resolutionBatches = new YangResolutionBatches();
         importList = new LinkedList<>();
         includeList = new LinkedList<>();
         listOfLeaf = new LinkedList<>();
         listOfLeafList = new LinkedList<>();
         extensionList = new LinkedList<>();
-        compilerAnnotationList = new LinkedList<>();
         listOfFeature = new LinkedList<>();
         notificationEnumMap = new HashMap<>();
         augments = new LinkedList<>();
@@ -618,67 +568,19 @@ public abstract class YangSubModule
 
     @Override
     public List<YangResolutionInfo> getUnresolvedResolutionList(ResolvableType type) {
-        if (type == YANG_DERIVED_DATA_TYPE) {
-            return unmodifiableList(derivedTypeResolutionList);
-        } else if (type == YANG_USES) {
-            return unmodifiableList(usesResolutionList);
-        } else if (type == YANG_AUGMENT) {
-            return unmodifiableList(augmentResolutionList);
-        } else if (type == YANG_IF_FEATURE) {
-            return unmodifiableList(ifFeatureResolutionList);
-        } else if (type == YANG_LEAFREF) {
-            return unmodifiableList(leafRefResolutionList);
-        } else if (type == YANG_BASE) {
-            return unmodifiableList(baseResolutionList);
-        } else if (type == YANG_IDENTITYREF) {
-            return unmodifiableList(identityRefResolutionList);
-        } else {
-            return unmodifiableList(compilerAnnotationList);
-        }
+        return resolutionBatches.getBatch(type);
     }
 
     @Override
     public void addToResolutionList(YangResolutionInfo resolutionInfo,
                                     ResolvableType type) {
-        if (type == YANG_DERIVED_DATA_TYPE) {
-            derivedTypeResolutionList.add(resolutionInfo);
-        } else if (type == YANG_USES) {
-            usesResolutionList.add(resolutionInfo);
-        } else if (type == YANG_IF_FEATURE) {
-            ifFeatureResolutionList.add(resolutionInfo);
-        } else if (type == YANG_LEAFREF) {
-            leafRefResolutionList.add(resolutionInfo);
-        } else if (type == YANG_BASE) {
-            baseResolutionList.add(resolutionInfo);
-        } else if (type == YANG_AUGMENT) {
-            augmentResolutionList.add(resolutionInfo);
-        } else if (type == YANG_IDENTITYREF) {
-            identityRefResolutionList.add(resolutionInfo);
-        } else if (type == YANG_COMPILER_ANNOTATION) {
-            compilerAnnotationList.add(resolutionInfo);
-        }
+        resolutionBatches.add(resolutionInfo, type);
     }
 
     @Override
     public void setResolutionList(List<YangResolutionInfo> resolutionList,
                                   ResolvableType type) {
-        if (type == YANG_DERIVED_DATA_TYPE) {
-            derivedTypeResolutionList = resolutionList;
-        } else if (type == YANG_USES) {
-            usesResolutionList = resolutionList;
-        } else if (type == YANG_IF_FEATURE) {
-            ifFeatureResolutionList.add((YangResolutionInfo) resolutionList);
-        } else if (type == YANG_LEAFREF) {
-            leafRefResolutionList = resolutionList;
-        } else if (type == YANG_BASE) {
-            baseResolutionList = resolutionList;
-        } else if (type == YANG_AUGMENT) {
-            augmentResolutionList = resolutionList;
-        } else if (type == YANG_IDENTITYREF) {
-            identityRefResolutionList = resolutionList;
-        } else if (type == YANG_COMPILER_ANNOTATION) {
-            compilerAnnotationList = resolutionList;
-        }
+        resolutionBatches.setBatch(resolutionList, type);
     }
 
     /**
@@ -17,18 +17,13 @@
 package org.onosproject.yangutils.datamodel;
 
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
-import org.onosproject.yangutils.datamodel.utils.DataModelUtils;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.ResolvableStatus;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
-import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
 
 import java.io.Serializable;
-import java.math.BigInteger;
-import java.util.Iterator;
-import java.util.ListIterator;
 
 import static org.onosproject.yangutils.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.isOfRangeRestrictedType;
@@ -60,6 +55,10 @@ import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangData
 
 /**
  * Represents the data type information.
+ * <p>
+ * After linking, structurally identical types may be shared between leaves,
+ * leaf-lists and union members, hence a linked type must not be modified in
+ * place.
  *
  * @param <T> YANG data type info
  */
@@ -104,6 +103,12 @@ public class YangType<T> extends DefaultLocationInfo
      */
     private boolean isTypeNotResolvedTillRootNode;
 
+    /**
+     * Validator compiled from the type, it is discarded when the type is
+     * modified or resolved again.
+     */
+    private transient volatile YangValueValidator validator;
+
     /**
      * Creates a YANG type object.
      */
@@ -165,6 +170,7 @@ public class YangType<T> extends DefaultLocationInfo
      */
     public void setDataType(YangDataTypes dataType) {
         this.dataType = dataType;
+        validator = null;
     }
 
     /**
@@ -183,6 +189,7 @@ public class YangType<T> extends DefaultLocationInfo
      */
     public void setDataTypeExtendedInfo(T dataTypeInfo) {
         this.dataTypeExtendedInfo = dataTypeInfo;
+        validator = null;
     }
 
     /**
@@ -211,6 +218,7 @@ public class YangType<T> extends DefaultLocationInfo
         resolvableStatus = ResolvableStatus.UNRESOLVED;
         dataType = null;
         dataTypeExtendedInfo = null;
+        validator = null;
     }
 
     /**
@@ -253,6 +261,7 @@ public class YangType<T> extends DefaultLocationInfo
     @Override
     public void setResolvableStatus(ResolvableStatus resolvableStatus) {
         this.resolvableStatus = resolvableStatus;
+        validator = null;
     }
 
     @Override
@@ -297,6 +306,15 @@ public class YangType<T> extends DefaultLocationInfo
      */
     void isValidValue(String value)
             throws DataModelException {
+        if (isValidValueString(value)) {
+            return;
+        }
+
+        /*
+         * Value is invalid, the exception is constructed only here to
+         * provide the detailed reason.
+         */
+        YangDataTypes dataType = getDataType();
         switch (getDataType()) {
             case INT8:
             case INT16:
@@ -306,14 +324,7 @@ public class YangType<T> extends DefaultLocationInfo
             case UINT16:
             case UINT32:
             case UINT64: {
-                if (getDataTypeExtendedInfo() == null) {
-                    getDataObjectFromString(value, getDataType());
-                } else {
-                    if (!((YangRangeRestriction) getDataTypeExtendedInfo()).isValidValueString(value)) {
-                        throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                            getDataType());
-                    }
-                }
+                getDataObjectFromString(value, getDataType());
                 break;
             }
             case DECIMAL64: {
@@ -324,143 +335,34 @@ public class YangType<T> extends DefaultLocationInfo
                                   decimal64.getRangeRestrictedExtendedInfo());
                 break;
             }
-            case STRING: {
-                if (getDataTypeExtendedInfo() == null) {
-                    break;
-                } else if (!(((YangStringRestriction) getDataTypeExtendedInfo()).isValidStringOnLengthRestriction(value)
-                        && ((YangStringRestriction) getDataTypeExtendedInfo())
-                        .isValidStringOnPatternRestriction(value))) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
-                }
-                break;
-            }
-            case BOOLEAN:
-                if (!(value.equals(DataModelUtils.TRUE) || value.equals(DataModelUtils.FALSE))) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
-                }
-                break;
-            case ENUMERATION: {
-                Iterator<YangEnum> iterator = ((YangEnumeration) getDataTypeExtendedInfo()).getEnumSet().iterator();
-                boolean isValidated = false;
-                while (iterator.hasNext()) {
-                    YangEnum enumTemp = iterator.next();
-                    if (enumTemp.getNamedValue().equals(value)) {
-                        isValidated = true;
-                        break;
-                    }
-                }
-
-                if (!isValidated) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
-                }
-                break;
-            }
-            case BITS: {
-                YangBits bits = (YangBits) getDataTypeExtendedInfo();
-                if (bits.fromString(value) == null) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
-                }
-                break;
+            case EMPTY: {
+                throw new DataTypeException("YANG file error : Input value \"" + value
+                                                    + "\" is not allowed for a data type " + getDataType());
             }
-            case BINARY: {
-                if (!isValidBinary(value, (YangRangeRestriction) getDataTypeExtendedInfo())) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
+            case DERIVED: {
+                YangDerivedInfo<?> derivedInfo = (YangDerivedInfo<?>) getDataTypeExtendedInfo();
+                dataType = derivedInfo.getEffectiveBuiltInType();
+                if (isOfRangeRestrictedType(dataType)) {
+                    getDataObjectFromString(value, dataType);
+                } else if (dataType != YangDataTypes.STRING && dataType != YangDataTypes.BINARY
+                        && derivedInfo.getReferredTypeDef() != null) {
+                    // Validated by the type at the end of typedef chain.
+                    derivedInfo.getReferredTypeDef().getTypeDefBaseType().isValidValue(value);
                 }
                 break;
             }
             case LEAFREF: {
-                YangLeafRef<?> leafRef = (YangLeafRef<?>) getDataTypeExtendedInfo();
-                leafRef.validateDataOnExit();
+                // Validated by the type of the referred leaf or leaf-list.
+                ((YangLeafRef<?>) getDataTypeExtendedInfo()).getEffectiveDataType().isValidValue(value);
                 break;
             }
+            case STRING:
+            case BOOLEAN:
+            case ENUMERATION:
+            case BITS:
+            case BINARY:
+            case UNION:
             case IDENTITYREF: {
-                // TODO TBD
-                break;
-            }
-            case EMPTY: {
-                if (value.length() > 0) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value
-                                                        + "\" is not allowed for a data type " + getDataType());
-                }
-                break;
-            }
-            case UNION: {
-                ListIterator<YangType<?>> listIterator = ((YangUnion) getDataTypeExtendedInfo()).getTypeList()
-                        .listIterator();
-                boolean isValidated = false;
-                while (listIterator.hasNext()) {
-                    YangType<?> type = (YangType<?>) listIterator.next();
-                    try {
-                        type.isValidValue(value);
-                        // If it is not thrown exception then validation is success
-                        isValidated = true;
-                        break;
-                    } catch (Exception e) {
-                    }
-                }
-
-                if (!isValidated) {
-                    throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                        getDataType());
-                }
-                break;
-            }
-            case INSTANCE_IDENTIFIER: {
-                // TODO TBD
-                break;
-            }
-            case DERIVED: {
-                YangDataTypes dataType = ((YangDerivedInfo) getDataTypeExtendedInfo()).getEffectiveBuiltInType();
-                if (isOfRangeRestrictedType(dataType)) {
-                    if (((YangDerivedInfo) getDataTypeExtendedInfo()).getResolvedExtendedInfo() == null) {
-                        getDataObjectFromString(value,
-                                                ((YangDerivedInfo) getDataTypeExtendedInfo())
-                                                        .getEffectiveBuiltInType());
-                    } else {
-                        if (!((YangRangeRestriction) ((YangDerivedInfo) getDataTypeExtendedInfo())
-                                .getResolvedExtendedInfo()).isValidValueString(value)) {
-                            throw new DataTypeException("YANG file error : Input value \"" + value
-                                                                + "\" is not a valid " + dataType);
-                        }
-                    }
-                } else if (dataType == YangDataTypes.STRING) {
-                    if (((YangDerivedInfo) getDataTypeExtendedInfo()).getResolvedExtendedInfo() != null) {
-                        YangStringRestriction stringRestriction =
-                                ((YangStringRestriction) ((YangDerivedInfo) getDataTypeExtendedInfo())
-                                        .getResolvedExtendedInfo());
-                        if (!(stringRestriction.isValidStringOnLengthRestriction(value) &&
-                                stringRestriction.isValidStringOnPatternRestriction(value))) {
-                            throw new DataTypeException("YANG file error : Input value \"" + value
-                                                                + "\" is not a valid " + dataType);
-                        }
-                    }
-                } else if (dataType == YangDataTypes.BITS) {
-                    YangBits bits = (YangBits) getDataTypeExtendedInfo();
-                    if (bits.fromString(value) == null) {
-                        throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                            dataType);
-                    }
-                } else if (dataType == YangDataTypes.BINARY) {
-                    if (!isValidBinary(value, (YangRangeRestriction) ((YangDerivedInfo)
-                            getDataTypeExtendedInfo()).getResolvedExtendedInfo())) {
-                        throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
-                                                            dataType);
-                    }
-                } else if (dataType == YangDataTypes.DECIMAL64) {
-                    YangDerivedInfo derivedInfo = (YangDerivedInfo) getDataTypeExtendedInfo();
-                    YangTypeDef typedef = (YangTypeDef) derivedInfo.getReferredTypeDef();
-                    YangType<YangDecimal64> decimal64Type =
-                            (YangType<YangDecimal64>) typedef.getTypeList().iterator().next();
-                    YangDecimal64<YangRangeRestriction> decimal64 = decimal64Type.getDataTypeExtendedInfo();
-                    // Fraction-Digits and range needs to get it from yang
-                    validateDecimal64(value, decimal64.getFractionDigit(),
-                                      decimal64.getRangeRestrictedExtendedInfo());
-                }
                 break;
             }
             default: {
@@ -468,61 +370,83 @@ public class YangType<T> extends DefaultLocationInfo
                                                     "unsupported data type " + getDataType());
             }
         }
+        throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
+                                            dataType);
     }
 
-
     /**
-     * Checks whether specific string is valid decimal64 value.
+     * Returns whether the input data value is permissible for the type as per
+     * the YANG file. An invalid value is indicated without constructing any
+     * exception, hence it is to be used where invalid values are expected,
+     * like matching the member types of union.
      *
-     * @param value decimal64 value
+     * @param value input data value
+     * @return true if value is valid, false otherwise
      */
-    private void validateDecimal64(String value, int fractionDigit, YangRangeRestriction rangeRestriction)
-            throws DataModelException {
-        YangDecimal64<YangRangeRestriction> decimal64 = YangDecimal64.fromString(value);
-        decimal64.setFractionDigit(fractionDigit);
-        decimal64.setRangeRestrictedExtendedInfo(rangeRestriction);
-        decimal64.validateDecimal64();
+    public boolean isValidValueString(String value) {
+        if (getDataType() == null) {
+            return false;
+        }
+        return getValidator().isValid(value);
     }
 
     /**
-     * Checks whether specific string is valid binary.
+     * Returns the canonical lexical form of the input data value if it is
+     * permissible for the type, like "7" for "+007" of an integer type. The
+     * value is validated and canonicalized in one pass.
      *
-     * @param value binary value
-     * @return true if validation success otherwise false
+     * @param value input data value
+     * @return canonical value, or null if value is not valid
      */
-    private boolean isValidBinary(String value, YangRangeRestriction lengthRestriction) {
-        YangBinary binary = new YangBinary(value);
-
-        // After decoding binary, its length should not be zero
-        if (binary.getBinaryData().length == 0) {
-            return false;
+    public String getCanonicalValue(String value) {
+        if (getDataType() == null) {
+            return null;
         }
+        return getValidator().getCanonicalValue(value);
+    }
 
-        if (lengthRestriction == null || lengthRestriction.getAscendingRangeIntervals() == null
-                || lengthRestriction.getAscendingRangeIntervals().isEmpty()) {
-            // Length restriction is optional
-            return true;
+    /**
+     * Returns the validator of the data values of the type. The validator is
+     * compiled on first use after the type is resolved and is cached in the
+     * type. For a type which is not yet resolved, a validator accepting any
+     * value is returned and is not cached.
+     *
+     * @return value validator
+     */
+    public YangValueValidator getValidator() {
+        YangValueValidator compiledValidator = getCompiledValidator();
+        if (compiledValidator == null) {
+            return YangValueValidators.ACCEPT_ALL;
         }
+        return compiledValidator;
+    }
 
-        ListIterator<YangRangeInterval<YangUint64>> rangeListIterator = lengthRestriction.getAscendingRangeIntervals()
-                .listIterator();
-        boolean isMatched = false;
-        while (rangeListIterator.hasNext()) {
-            YangRangeInterval rangeInterval = rangeListIterator.next();
-            rangeInterval.setFileName(getFileName());
-            rangeInterval.setLineNumber(getLineNumber());
-            rangeInterval.setCharPosition(getCharPosition());
-            BigInteger startValue = ((YangUint64) rangeInterval.getStartValue()).getValue();
-            BigInteger endValue = ((YangUint64) rangeInterval.getEndValue()).getValue();
-            // convert (encode) back and check length
-            if ((binary.toString().length() >= startValue.intValue()) &&
-                    (binary.toString().length() <= endValue.intValue())) {
-                isMatched = true;
-                break;
-            }
+    /**
+     * Returns the cached validator of the data values of the type, compiling
+     * it if not yet compiled.
+     *
+     * @return value validator, or null if type is not yet resolved
+     */
+    YangValueValidator getCompiledValidator() {
+        YangValueValidator compiledValidator = validator;
+        if (compiledValidator == null) {
+            compiledValidator = YangValueValidators.compile(this);
+            validator = compiledValidator;
         }
+        return compiledValidator;
+    }
 
-        return isMatched;
+    /**
+     * Checks whether specific string is valid decimal64 value.
+     *
+     * @param value decimal64 value
+     */
+    private void validateDecimal64(String value, int fractionDigit, YangRangeRestriction rangeRestriction)
+            throws DataModelException {
+        YangDecimal64<YangRangeRestriction> decimal64 = YangDecimal64.fromString(value);
+        decimal64.setFractionDigit(fractionDigit);
+        decimal64.setRangeRestrictedExtendedInfo(rangeRestriction);
+        decimal64.validateDecimal64();
     }
 
     public boolean isTypeForInterFileGroupingResolution() {
@@ -545,6 +469,7 @@ public class YangType<T> extends DefaultLocationInfo
     public YangType<T> clone()
             throws CloneNotSupportedException {
         YangType<T> clonedNode = (YangType<T>) super.clone();
+        clonedNode.validator = null;
         return clonedNode;
     }
 
@@ -137,6 +137,12 @@ public abstract class YangUses
      */
     private int currentGroupingDepth;
 
+    /**
+     * True when the uses is linked to its grouping, but the grouping is not
+     * yet expanded at the uses.
+     */
+    private boolean expansionDeferred;
+
     /**
      * Creates an YANG uses node.
      */
@@ -540,6 +546,25 @@ public abstract class YangUses
         return currentGroupingDepth;
     }
 
+    /**
+     * Returns true if the uses is linked to its grouping, but the grouping
+     * is not yet expanded at the uses.
+     *
+     * @return true if expansion of the grouping is deferred
+     */
+    public boolean isExpansionDeferred() {
+        return expansionDeferred;
+    }
+
+    /**
+     * Sets whether the expansion of the grouping at the uses is deferred.
+     *
+     * @param expansionDeferred true if expansion of the grouping is deferred
+     */
+    public void setExpansionDeferred(boolean expansionDeferred) {
+        this.expansionDeferred = expansionDeferred;
+    }
+
     @Override
     public String getName() {
         return nodeIdentifier.getName();
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Represents result of validating a batch of leaf values. The failed
+ * values are recorded in a bit set on their index in the batch, the error
+ * detail of a failed value is built only when asked for.
+ * <p>
+ * A result may be passed again to the batch validator to be reused for the
+ * next batch, in which case its earlier content is discarded.
+ */
+public final class YangValueBatchResult {
+
+    private final BitSet failures = new BitSet();
+    private List<? extends YangSchemaNode> schemaNodes;
+    private List<String> values;
+    private int size;
+
+    /**
+     * Creates an empty result of batch validation.
+     */
+    public YangValueBatchResult() {
+    }
+
+    /**
+     * Resets the result for a new batch.
+     *
+     * @param schemaNodes schema nodes of values
+     * @param values      values of batch
+     */
+    void reset(List<? extends YangSchemaNode> schemaNodes, List<String> values) {
+        this.schemaNodes = schemaNodes;
+        this.values = values;
+        size = values.size();
+        failures.clear();
+    }
+
+    /**
+     * Records failure of the value at the index.
+     *
+     * @param index index of value in batch
+     */
+    void setFailed(int index) {
+        failures.set(index);
+    }
+
+    /**
+     * Returns number of values in the batch.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether all the values of batch are valid.
+     *
+     * @return true if all values are valid
+     */
+    public boolean isAllValid() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns whether the value at the index is valid.
+     *
+     * @param index index of value in batch
+     * @return true if value is valid
+     */
+    public boolean isValid(int index) {
+        return !failures.get(index);
+    }
+
+    /**
+     * Returns number of values which failed validation.
+     *
+     * @return number of failed values
+     */
+    public int getFailureCount() {
+        return failures.cardinality();
+    }
+
+    /**
+     * Returns index of the next failed value, starting from the index.
+     *
+     * @param fromIndex index to start from, inclusive
+     * @return index of failed value, or -1 if there is no further failure
+     */
+    public int nextFailure(int fromIndex) {
+        return failures.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Returns copy of bit set of the failed values, a bit is set on the
+     * index of each failed value.
+     *
+     * @return bit set of failed values
+     */
+    public BitSet getFailures() {
+        return (BitSet) failures.clone();
+    }
+
+    /**
+     * Returns the detail of the error of value at the index. It is built by
+     * validating the value again through the schema node.
+     *
+     * @param index index of value in batch
+     * @return error detail, or null if value is valid
+     */
+    public String getErrorMessage(int index) {
+        if (!failures.get(index)) {
+            return null;
+        }
+        String value = values.get(index);
+        if (value == null) {
+            return "YANG file error : Input value is not present for " + schemaNodes.get(index).getName();
+        }
+        try {
+            schemaNodes.get(index).isValueValid(value);
+        } catch (DataModelException | DataTypeException e) {
+            return e.getMessage();
+        }
+        return "YANG file error : Input value \"" + value + "\" is not valid for "
+                + schemaNodes.get(index).getName();
+    }
+
+    /**
+     * Returns the details of errors of all the failed values, in the order
+     * of their index.
+     *
+     * @return list of error details
+     */
+    public List<String> getErrorMessages() {
+        List<String> errorMessages = new LinkedList<>();
+        for (int i = failures.nextSetBit(0); i >= 0; i = failures.nextSetBit(i + 1)) {
+            errorMessages.add(getErrorMessage(i));
+        }
+        return errorMessages;
+    }
+}
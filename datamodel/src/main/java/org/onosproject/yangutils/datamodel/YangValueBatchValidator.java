@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents validator of batches of leaf and leaf-list values. The values
+ * are validated by the compiled validators of the types, without any
+ * exception or allocation per value, and the failures are recorded in the
+ * batch result.
+ * <p>
+ * The validator of a schema node is looked up once for a run of values of
+ * the same schema node. Values of schema nodes which are not leaf or
+ * leaf-list, or whose type is not resolved, are validated through the
+ * schema node.
+ */
+public final class YangValueBatchValidator {
+
+    /**
+     * Validates the values of the schema nodes, value at an index is of the
+     * schema node at the same index.
+     *
+     * @param schemaNodes schema nodes of values
+     * @param values      values to validate
+     * @return result of validation
+     */
+    public YangValueBatchResult validate(YangSchemaNode[] schemaNodes, String[] values) {
+        return validate(Arrays.asList(schemaNodes), Arrays.asList(values), new YangValueBatchResult());
+    }
+
+    /**
+     * Validates the values of the schema node, like the values of a
+     * leaf-list.
+     *
+     * @param schemaNode schema node of values
+     * @param values     values to validate
+     * @return result of validation
+     */
+    public YangValueBatchResult validate(YangSchemaNode schemaNode, String[] values) {
+        return validate(Collections.nCopies(values.length, schemaNode), Arrays.asList(values),
+                        new YangValueBatchResult());
+    }
+
+    /**
+     * Validates the values of the schema nodes, value at an index is of the
+     * schema node at the same index.
+     *
+     * @param schemaNodes schema nodes of values
+     * @param values      values to validate
+     * @return result of validation
+     */
+    public YangValueBatchResult validate(List<? extends YangSchemaNode> schemaNodes, List<String> values) {
+        return validate(schemaNodes, values, new YangValueBatchResult());
+    }
+
+    /**
+     * Validates the values of the schema nodes into the given result, which
+     * is reset for the batch. Value at an index is of the schema node at the
+     * same index.
+     *
+     * @param schemaNodes schema nodes of values
+     * @param values      values to validate
+     * @param result      result to be reused for the batch
+     * @return the given result
+     */
+    public YangValueBatchResult validate(List<? extends YangSchemaNode> schemaNodes, List<String> values,
+                                         YangValueBatchResult result) {
+        if (schemaNodes.size() != values.size()) {
+            throw new IllegalArgumentException("Number of schema nodes " + schemaNodes.size()
+                                                       + " differs from number of values " + values.size());
+        }
+        result.reset(schemaNodes, values);
+
+        YangSchemaNode lastSchemaNode = null;
+        YangValueValidator lastValidator = null;
+        int index = 0;
+        for (YangSchemaNode schemaNode : schemaNodes) {
+            if (schemaNode != lastSchemaNode) {
+                lastSchemaNode = schemaNode;
+                lastValidator = getValidator(schemaNode);
+            }
+            String value = values.get(index);
+            boolean isValid;
+            if (value == null) {
+                isValid = false;
+            } else if (lastValidator != null) {
+                isValid = lastValidator.isValid(value);
+            } else {
+                isValid = isValidThroughSchemaNode(schemaNode, value);
+            }
+            if (!isValid) {
+                result.setFailed(index);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the compiled validator of the type of schema node.
+     *
+     * @param schemaNode schema node
+     * @return validator, or null if schema node is not a leaf or leaf-list
+     * with resolved type
+     */
+    private static YangValueValidator getValidator(YangSchemaNode schemaNode) {
+        YangType<?> dataType = null;
+        if (schemaNode instanceof YangLeaf) {
+            dataType = ((YangLeaf) schemaNode).getDataType();
+        } else if (schemaNode instanceof YangLeafList) {
+            dataType = ((YangLeafList) schemaNode).getDataType();
+        }
+        if (dataType == null || dataType.getDataType() == null) {
+            return null;
+        }
+        return dataType.getCompiledValidator();
+    }
+
+    /**
+     * Returns whether the value is valid as per the schema node.
+     *
+     * @param schemaNode schema node
+     * @param value      value to validate
+     * @return true if value is valid
+     */
+    private static boolean isValidThroughSchemaNode(YangSchemaNode schemaNode, String value) {
+        try {
+            schemaNode.isValueValid(value);
+            return true;
+        } catch (DataModelException | DataTypeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+/**
+ * Abstraction of validator of the data values of a YANG type. It is compiled
+ * once from a linked type and is immutable, hence the restrictions of the
+ * type are not resolved again on validating each value.
+ */
+public interface YangValueValidator {
+
+    /**
+     * Returns whether the input data value is permissible for the type as
+     * per the YANG file.
+     *
+     * @param value input data value
+     * @return true if value is valid, false otherwise
+     */
+    boolean isValid(String value);
+
+    /**
+     * Returns the canonical lexical form of the input data value if it is
+     * permissible for the type, validating and canonicalizing the value in
+     * one pass.
+     *
+     * @param value input data value
+     * @return canonical value, or null if value is not valid
+     */
+    String getCanonicalValue(String value);
+}
@@ -0,0 +1,630 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.FALSE;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.TRUE;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.getCanonicalIntegerString;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.isOfRangeRestrictedType;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.isValidIntegerString;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.BINARY;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+
+/**
+ * Represents compiler of YANG type into value validator. The data type,
+ * its restrictions and, for derived type, the typedef chain are resolved
+ * only once while compiling.
+ * <p>
+ * The validator of a type made of other types, i.e. union, leafref and a
+ * derived type not restricted by itself, looks up the validators of those
+ * types on use. A type resolved again in place, as for the grouping types
+ * on each use of the grouping, discards its own validator, which is then
+ * not kept by the validators referring it.
+ */
+final class YangValueValidators {
+
+    /**
+     * Validator which accepts any value, used for the types whose values
+     * are not validated.
+     */
+    static final YangValueValidator ACCEPT_ALL = new ConstantValidator(true);
+
+    private static final YangValueValidator REJECT_ALL = new ConstantValidator(false);
+    private static final YangValueValidator BOOLEAN_VALIDATOR = new BooleanValidator();
+    private static final YangValueValidator EMPTY_VALIDATOR = new EmptyValidator();
+
+    // No instantiation.
+    private YangValueValidators() {
+    }
+
+    /**
+     * Returns the validator compiled from the given type. Null is returned
+     * if the type or any type it refers is not yet resolved, as it cannot
+     * be compiled.
+     *
+     * @param type YANG type
+     * @return compiled validator, or null if type is not resolved
+     */
+    static YangValueValidator compile(YangType<?> type) {
+        YangDataTypes dataType = type.getDataType();
+        if (dataType == null) {
+            return null;
+        }
+        Object extendedInfo = type.getDataTypeExtendedInfo();
+        switch (dataType) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+                return new IntegerValidator(dataType, (YangRangeRestriction) extendedInfo);
+            case DECIMAL64: {
+                YangDecimal64<YangRangeRestriction> decimal64 =
+                        (YangDecimal64<YangRangeRestriction>) extendedInfo;
+                return new Decimal64Validator(decimal64.getFractionDigit(),
+                                              decimal64.getRangeRestrictedExtendedInfo());
+            }
+            case STRING:
+                return extendedInfo == null ? ACCEPT_ALL :
+                        new StringValidator((YangStringRestriction) extendedInfo);
+            case BOOLEAN:
+                return BOOLEAN_VALIDATOR;
+            case ENUMERATION:
+                return new EnumerationValidator((YangEnumeration) extendedInfo);
+            case BITS:
+                return new BitsValidator((YangBits) extendedInfo);
+            case BINARY:
+                return new BinaryValidator((YangRangeRestriction) extendedInfo);
+            case EMPTY:
+                return EMPTY_VALIDATOR;
+            case UNION:
+                return compileUnion((YangUnion) extendedInfo);
+            case IDENTITYREF:
+                return compileIdentityRef((YangIdentityRef) extendedInfo);
+            case LEAFREF:
+                return compileLeafRef((YangLeafRef<?>) extendedInfo);
+            case INSTANCE_IDENTIFIER:
+                // Value is a path to an instance in the data tree, not checked against the schema.
+                return ACCEPT_ALL;
+            case DERIVED:
+                return compileDerived((YangDerivedInfo<?>) extendedInfo);
+            default:
+                return REJECT_ALL;
+        }
+    }
+
+    /**
+     * Returns the validator compiled from the member types of union.
+     *
+     * @param union YANG union
+     * @return compiled validator, or null if a member is not resolved
+     */
+    private static YangValueValidator compileUnion(YangUnion union) {
+        List<YangType<?>> typeList = union.getTypeList();
+        YangType<?>[] members = new YangType<?>[typeList.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = typeList.get(i);
+            if (members[i].getCompiledValidator() == null) {
+                return null;
+            }
+        }
+        return new UnionValidator(members);
+    }
+
+    /**
+     * Returns the validator of the leafref, which is the validator of the
+     * effective type of the referred leaf or leaf-list.
+     *
+     * @param leafRef YANG leafref
+     * @return validator, or null if leafref is not resolved
+     */
+    private static YangValueValidator compileLeafRef(YangLeafRef<?> leafRef) {
+        if (leafRef == null || leafRef.getEffectiveDataType() == null
+                || leafRef.getEffectiveDataType().getCompiledValidator() == null) {
+            return null;
+        }
+        return new LeafRefValidator(leafRef);
+    }
+
+    /**
+     * Returns the validator of the identityref.
+     *
+     * @param identityRef YANG identityref
+     * @return validator, or null if base identity is not resolved
+     */
+    private static YangValueValidator compileIdentityRef(YangIdentityRef identityRef) {
+        if (identityRef == null || identityRef.getReferredIdentity() == null) {
+            return null;
+        }
+        return new IdentityRefValidator(identityRef.getReferredIdentity());
+    }
+
+    /**
+     * Returns the validator compiled from the derived type. The restrictions
+     * resolved for the derived type are applied when present, otherwise the
+     * type at the end of typedef chain is used.
+     *
+     * @param derivedInfo derived information
+     * @return compiled validator, or null if type is not resolved
+     */
+    private static YangValueValidator compileDerived(YangDerivedInfo<?> derivedInfo) {
+        YangDataTypes dataType = derivedInfo.getEffectiveBuiltInType();
+        if (dataType == null || derivedInfo.getReferredTypeDef() == null) {
+            return null;
+        }
+        Object resolvedInfo = derivedInfo.getResolvedExtendedInfo();
+        if (isOfRangeRestrictedType(dataType)) {
+            return new IntegerValidator(dataType, (YangRangeRestriction) resolvedInfo);
+        }
+        if (dataType == STRING) {
+            return resolvedInfo == null ? ACCEPT_ALL :
+                    new StringValidator((YangStringRestriction) resolvedInfo);
+        }
+        if (dataType == BINARY) {
+            return new BinaryValidator((YangRangeRestriction) resolvedInfo);
+        }
+        YangType<?> baseType = derivedInfo.getReferredTypeDef().getTypeDefBaseType();
+        if (baseType.getCompiledValidator() == null) {
+            return null;
+        }
+        return new TypeValidator(baseType);
+    }
+
+    /**
+     * Represents validator which is the validator of another type, looked up
+     * on use.
+     */
+    private static final class TypeValidator implements YangValueValidator {
+
+        private final YangType<?> type;
+
+        private TypeValidator(YangType<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return type.getValidator().isValid(value);
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return type.getValidator().getCanonicalValue(value);
+        }
+    }
+
+    /**
+     * Represents validator of leafref, which is the validator of the
+     * effective type of the leaf or leaf-list the leafref is resolved to.
+     */
+    private static final class LeafRefValidator implements YangValueValidator {
+
+        private final YangLeafRef<?> leafRef;
+
+        private LeafRefValidator(YangLeafRef<?> leafRef) {
+            this.leafRef = leafRef;
+        }
+
+        /**
+         * Returns the validator of the effective type of the leafref.
+         *
+         * @return validator, accepting any value if leafref is not resolved
+         */
+        private YangValueValidator getReferredValidator() {
+            YangType<?> effectiveType = leafRef.getEffectiveDataType();
+            if (effectiveType == null) {
+                return ACCEPT_ALL;
+            }
+            return effectiveType.getValidator();
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return getReferredValidator().isValid(value);
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return getReferredValidator().getCanonicalValue(value);
+        }
+    }
+
+    /**
+     * Represents validator with the same result for any value.
+     */
+    private static final class ConstantValidator implements YangValueValidator {
+
+        private final boolean result;
+
+        private ConstantValidator(boolean result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return result;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of boolean type.
+     */
+    private static final class BooleanValidator implements YangValueValidator {
+
+        @Override
+        public boolean isValid(String value) {
+            return value.equals(TRUE) || value.equals(FALSE);
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of empty type.
+     */
+    private static final class EmptyValidator implements YangValueValidator {
+
+        @Override
+        public boolean isValid(String value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of integer types.
+     */
+    private static final class IntegerValidator implements YangValueValidator {
+
+        private final YangDataTypes dataType;
+        private final YangRangeRestriction rangeRestriction;
+
+        private IntegerValidator(YangDataTypes dataType, YangRangeRestriction rangeRestriction) {
+            this.dataType = dataType;
+            this.rangeRestriction = rangeRestriction;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return isValidIntegerString(value, dataType)
+                    && (rangeRestriction == null || rangeRestriction.isValueInRange(value));
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? getCanonicalIntegerString(value, dataType) : null;
+        }
+    }
+
+    /**
+     * Represents validator of decimal64 type. The value is validated as long
+     * scaled by 10 to the power of fraction-digits against the range bounds
+     * scaled while compiling. The value which cannot be scaled is validated
+     * as big decimal.
+     */
+    private static final class Decimal64Validator implements YangValueValidator {
+
+        private static final BigDecimal MIN_SCALED_VALUE = BigDecimal.valueOf(Long.MIN_VALUE);
+        private static final BigDecimal MAX_SCALED_VALUE = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        private final int fractionDigit;
+        private final YangRangeRestriction rangeRestriction;
+        private final long[] minScaledValues;
+        private final long[] maxScaledValues;
+
+        private Decimal64Validator(int fractionDigit, YangRangeRestriction rangeRestriction) {
+            this.fractionDigit = fractionDigit;
+            this.rangeRestriction = rangeRestriction;
+            if (rangeRestriction == null) {
+                /*
+                 * Range of fraction-digits is the range of long when
+                 * scaled, hence any scaled value is in range.
+                 */
+                minScaledValues = new long[]{Long.MIN_VALUE};
+                maxScaledValues = new long[]{Long.MAX_VALUE};
+                return;
+            }
+            List<YangRangeInterval> intervals = rangeRestriction.getAscendingRangeIntervals();
+            minScaledValues = new long[intervals.size()];
+            maxScaledValues = new long[intervals.size()];
+            for (int i = 0; i < minScaledValues.length; i++) {
+                YangDecimal64 startValue = (YangDecimal64) intervals.get(i).getStartValue();
+                YangDecimal64 endValue = (YangDecimal64) intervals.get(i).getEndValue();
+                minScaledValues[i] = getScaledBound(startValue.getValue(), RoundingMode.CEILING);
+                maxScaledValues[i] = getScaledBound(endValue.getValue(), RoundingMode.FLOOR);
+            }
+        }
+
+        /**
+         * Returns the range bound scaled by 10 to the power of
+         * fraction-digits, rounded towards the range and limited to the
+         * range of long.
+         *
+         * @param bound        range bound
+         * @param roundingMode rounding towards the range
+         * @return scaled bound
+         */
+        private long getScaledBound(BigDecimal bound, RoundingMode roundingMode) {
+            BigDecimal scaledBound = bound.movePointRight(fractionDigit).setScale(0, roundingMode);
+            return scaledBound.max(MIN_SCALED_VALUE).min(MAX_SCALED_VALUE).longValueExact();
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            long scaledValue = YangDecimal64.getScaledValue(value, fractionDigit);
+            if (scaledValue != YangDecimal64.NOT_SCALED) {
+                return isScaledValueInRange(scaledValue);
+            }
+            return getValidDecimal64(value) != null;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            long scaledValue = YangDecimal64.getScaledValue(value, fractionDigit);
+            if (scaledValue != YangDecimal64.NOT_SCALED) {
+                return isScaledValueInRange(scaledValue) ?
+                        YangDecimal64.getCanonicalString(scaledValue, fractionDigit) : null;
+            }
+            YangDecimal64<?> decimal64 = getValidDecimal64(value);
+            return decimal64 == null ? null : YangDecimal64.getCanonicalString(decimal64.getValue());
+        }
+
+        /**
+         * Returns whether the scaled value is in any of the scaled ranges.
+         *
+         * @param scaledValue value scaled by 10 to the power of
+         *                    fraction-digits
+         * @return true if value is in range
+         */
+        private boolean isScaledValueInRange(long scaledValue) {
+            for (int i = 0; i < minScaledValues.length; i++) {
+                if (scaledValue >= minScaledValues[i] && scaledValue <= maxScaledValues[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the decimal64 of the value which cannot be scaled, if it is
+         * valid.
+         *
+         * @param value input data value
+         * @return decimal64 value, or null if value is not valid
+         */
+        private YangDecimal64<?> getValidDecimal64(String value) {
+            if (!YangDecimal64.isValidDecimal64String(value)) {
+                return null;
+            }
+            YangDecimal64<YangRangeRestriction> decimal64 = YangDecimal64.fromString(value);
+            decimal64.setFractionDigit(fractionDigit);
+            decimal64.setRangeRestrictedExtendedInfo(rangeRestriction);
+            return decimal64.isValidDecimal64() ? decimal64 : null;
+        }
+    }
+
+    /**
+     * Represents validator of string type with restriction.
+     */
+    private static final class StringValidator implements YangValueValidator {
+
+        private final YangStringRestriction stringRestriction;
+
+        private StringValidator(YangStringRestriction stringRestriction) {
+            this.stringRestriction = stringRestriction;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return stringRestriction.isValidStringOnLengthRestriction(value)
+                    && stringRestriction.isValidStringOnPatternRestriction(value);
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of enumeration type.
+     */
+    private static final class EnumerationValidator implements YangValueValidator {
+
+        private final YangEnumeration enumeration;
+
+        private EnumerationValidator(YangEnumeration enumeration) {
+            this.enumeration = enumeration;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return enumeration.getEnumByName(value) != null;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of identityref type. The value is the name of an
+     * identity derived from the base identity, qualified with the name of
+     * its module as "module:identity", or not qualified when the name is
+     * unique among the derived identities.
+     */
+    private static final class IdentityRefValidator implements YangValueValidator {
+
+        private final YangIdentity base;
+
+        private IdentityRefValidator(YangIdentity base) {
+            this.base = base;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                return base.getDerivedIdentity(value) != null;
+            }
+            return base.getDerivedIdentity(value.substring(0, separator),
+                                           value.substring(separator + 1)) != null;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? value : null;
+        }
+    }
+
+    /**
+     * Represents validator of bits type.
+     */
+    private static final class BitsValidator implements YangValueValidator {
+
+        private final YangBits bits;
+
+        private BitsValidator(YangBits bits) {
+            this.bits = bits;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return bits.isValidBitsString(value);
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return bits.getCanonicalBitsString(value);
+        }
+    }
+
+    /**
+     * Represents validator of binary type. The value is not decoded, the
+     * decoded length is computed from the encoded value.
+     */
+    private static final class BinaryValidator implements YangValueValidator {
+
+        private static final BigInteger MAX_LENGTH = BigInteger.valueOf(Long.MAX_VALUE);
+
+        private final long[] minLengths;
+        private final long[] maxLengths;
+
+        private BinaryValidator(YangRangeRestriction<YangUint64> lengthRestriction) {
+            if (lengthRestriction == null || lengthRestriction.getAscendingRangeIntervals() == null
+                    || lengthRestriction.getAscendingRangeIntervals().isEmpty()) {
+                // Length restriction is optional
+                minLengths = null;
+                maxLengths = null;
+                return;
+            }
+            List<YangRangeInterval<YangUint64>> intervals = lengthRestriction.getAscendingRangeIntervals();
+            minLengths = new long[intervals.size()];
+            maxLengths = new long[intervals.size()];
+            for (int i = 0; i < minLengths.length; i++) {
+                minLengths[i] = intervals.get(i).getStartValue().getValue().min(MAX_LENGTH).longValue();
+                maxLengths[i] = intervals.get(i).getEndValue().getValue().min(MAX_LENGTH).longValue();
+            }
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            long decodedLength = YangBinary.getDecodedLength(value);
+
+            // After decoding binary, its length should not be zero
+            if (decodedLength <= 0) {
+                return false;
+            }
+
+            if (minLengths == null) {
+                return true;
+            }
+
+            // Length of the value encoded back from the decoded octets
+            long length = (decodedLength + 2) / 3 * 4;
+            for (int i = 0; i < minLengths.length; i++) {
+                if (length >= minLengths[i] && length <= maxLengths[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            return isValid(value) ? YangBinary.getCanonicalBase64String(value) : null;
+        }
+    }
+
+    /**
+     * Represents validator of union type, the value is valid if any of the
+     * member types accepts it.
+     */
+    private static final class UnionValidator implements YangValueValidator {
+
+        private final YangType<?>[] members;
+
+        private UnionValidator(YangType<?>[] members) {
+            this.members = members;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            for (YangType<?> member : members) {
+                if (member.getValidator().isValid(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String getCanonicalValue(String value) {
+            for (YangType<?> member : members) {
+                String canonicalValue = member.getValidator().getCanonicalValue(value);
+                if (canonicalValue != null) {
+                    return canonicalValue;
+                }
+            }
+            return null;
+        }
+    }
+}
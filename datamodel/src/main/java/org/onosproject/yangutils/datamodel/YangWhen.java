@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
+import org.onosproject.yangutils.datamodel.utils.xpath.YangXPathExpression;
 
 /*
  * Reference RFC 6020.
@@ -57,6 +58,18 @@ public class YangWhen extends DefaultLocationInfo
      */
     private String condition;
 
+    /**
+     * Compiled condition, set on linking if the condition is supported by
+     * the XPath compiler.
+     */
+    private transient YangXPathExpression compiledCondition;
+
+    /**
+     * Context node the condition is compiled for, the when of a grouping
+     * being shared by its copies until compiled for another context node.
+     */
+    private transient YangSchemaNode compiledContext;
+
     /**
      * Description string.
      */
@@ -91,6 +104,36 @@ public class YangWhen extends DefaultLocationInfo
         this.condition = condition;
     }
 
+    /**
+     * Returns the compiled condition.
+     *
+     * @return compiled condition, null if not compiled
+     */
+    public YangXPathExpression getCompiledCondition() {
+        return compiledCondition;
+    }
+
+    /**
+     * Returns the context node the condition is compiled for.
+     *
+     * @return context node, null if not compiled
+     */
+    public YangSchemaNode getCompiledContext() {
+        return compiledContext;
+    }
+
+    /**
+     * Sets the condition compiled for the context node.
+     *
+     * @param compiledCondition compiled condition, null if not supported
+     * @param compiledContext   context node of compiled condition
+     */
+    public void setCompiledCondition(YangXPathExpression compiledCondition,
+                                     YangSchemaNode compiledContext) {
+        this.compiledCondition = compiledCondition;
+        this.compiledContext = compiledContext;
+    }
+
     /**
      * Returns the description.
      *
@@ -18,9 +18,11 @@ package org.onosproject.yangutils.datamodel.utils;
 
 import org.onosproject.yangutils.datamodel.CollisionDetector;
 import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.datamodel.TraversalType;
 import org.onosproject.yangutils.datamodel.YangAtomicPath;
 import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangBase;
+import org.onosproject.yangutils.datamodel.YangCase;
 import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
 import org.onosproject.yangutils.datamodel.YangEntityToResolveInfoImpl;
 import org.onosproject.yangutils.datamodel.YangEnumeration;
@@ -36,6 +38,7 @@ import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangReferenceResolver;
 import org.onosproject.yangutils.datamodel.YangResolutionInfo;
 import org.onosproject.yangutils.datamodel.YangRpc;
+import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.datamodel.YangUnion;
 import org.onosproject.yangutils.datamodel.YangUses;
@@ -58,6 +61,11 @@ import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
+
 /**
  * Represents utilities for data model tree.
  */
@@ -65,6 +73,8 @@ public final class DataModelUtils {
     public static final String TRUE = "true";
     public static final String FALSE = "false";
     private static final String SLASH = File.separator;
+    private static final String SCHEMA_PATH_ROOT = "/";
+    private static final String COLON = ":";
 
     /**
      * Creates a new data model tree utility.
@@ -191,39 +201,58 @@ public final class DataModelUtils {
                 throw new DataModelException("Internal datamodel error: Datamodel tree is not correct");
             }
         }
-        YangReferenceResolver resolutionNode = (YangReferenceResolver) curNode;
-
-        if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangType) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_DERIVED_DATA_TYPE);
-        } else if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangUses) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_USES);
-        } else if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangAugment) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_AUGMENT);
-        } else if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangIfFeature) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_IF_FEATURE);
-        } else if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangLeafRef) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_LEAFREF);
-        } else if (resolutionInfo.getEntityToResolveInfo().getEntityToResolve() instanceof YangBase) {
-            resolutionNode.addToResolutionList(resolutionInfo, ResolvableType.YANG_BASE);
-        } else if (resolutionInfo.getEntityToResolveInfo().getEntityToResolve() instanceof YangIdentityRef) {
-            resolutionNode.addToResolutionList(resolutionInfo, ResolvableType.YANG_IDENTITYREF);
-        } else if (resolutionInfo.getEntityToResolveInfo()
-                .getEntityToResolve() instanceof YangCompilerAnnotation) {
-            resolutionNode.addToResolutionList(resolutionInfo,
-                    ResolvableType.YANG_COMPILER_ANNOTATION);
+        ResolvableType type = getResolvableType(resolutionInfo.getEntityToResolveInfo()
+                                                        .getEntityToResolve());
+        if (type != null) {
+            addResolutionInfo(resolutionInfo, type, (YangReferenceResolver) curNode);
         }
     }
 
+    /**
+     * Adds the resolution information to the batch of its resolvable type
+     * in the module or sub-module, when both are already known.
+     *
+     * @param resolutionInfo resolution information
+     * @param type           resolvable type of the entity to resolve
+     * @param resolutionNode module or sub-module of the entity to resolve
+     * @throws DataModelException a violation of data model rules
+     */
+    public static void addResolutionInfo(YangResolutionInfo resolutionInfo, ResolvableType type,
+                                         YangReferenceResolver resolutionNode)
+            throws DataModelException {
+        if (resolutionNode == null) {
+            throw new DataModelException("Internal datamodel error: Datamodel tree is not correct");
+        }
+        resolutionNode.addToResolutionList(resolutionInfo, type);
+    }
+
+    /**
+     * Returns the resolvable type of an entity to resolve.
+     *
+     * @param entityToResolve entity to resolve
+     * @return resolvable type, null if the entity is not resolvable
+     */
+    public static ResolvableType getResolvableType(Object entityToResolve) {
+        if (entityToResolve instanceof YangType) {
+            return ResolvableType.YANG_DERIVED_DATA_TYPE;
+        } else if (entityToResolve instanceof YangUses) {
+            return ResolvableType.YANG_USES;
+        } else if (entityToResolve instanceof YangAugment) {
+            return ResolvableType.YANG_AUGMENT;
+        } else if (entityToResolve instanceof YangIfFeature) {
+            return ResolvableType.YANG_IF_FEATURE;
+        } else if (entityToResolve instanceof YangLeafRef) {
+            return ResolvableType.YANG_LEAFREF;
+        } else if (entityToResolve instanceof YangBase) {
+            return ResolvableType.YANG_BASE;
+        } else if (entityToResolve instanceof YangIdentityRef) {
+            return ResolvableType.YANG_IDENTITYREF;
+        } else if (entityToResolve instanceof YangCompilerAnnotation) {
+            return ResolvableType.YANG_COMPILER_ANNOTATION;
+        }
+        return null;
+    }
+
     /**
      * Resolve linking for a resolution list.
      *
@@ -789,6 +818,180 @@ public final class DataModelUtils {
 
     }
 
+    /**
+     * Updates the absolute schema path and depth of all the schema nodes in
+     * the data model tree. It is to be invoked once the tree is linked, as
+     * the schema path of augment children depends on the augmented node.
+     *
+     * @param rootNode root node of the data model tree
+     */
+    public static void updateSchemaPath(YangNode rootNode) {
+        resolveSchemaPath(rootNode);
+        YangNode curNode = rootNode.getChild();
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null && curNode != rootNode) {
+            if (curTraversal != PARENT) {
+                resolveSchemaPath(curNode);
+            }
+            if (curTraversal != PARENT && curNode.getSchemaPath() != null
+                    && curNode.getChild() != null) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+    }
+
+    /**
+     * Updates the absolute schema path and depth of the leaves and of the
+     * subtree of a node whose schema path is resolved. It is to be invoked
+     * when the node gets children or leaves once the tree is linked, as on
+     * a deferred expansion of a grouping.
+     *
+     * @param node YANG node with resolved schema path
+     */
+    public static void updateSubtreeSchemaPath(YangNode node) {
+        if (node.getSchemaPath() == null) {
+            return;
+        }
+        if (node instanceof YangLeavesHolder) {
+            updateLeavesSchemaPath((YangLeavesHolder) node, node);
+        }
+        updateSchemaPath(node);
+    }
+
+    /**
+     * Resolves the schema path of a node, and of the leaves held by it. The
+     * ancestors and augmented node are resolved first, if not yet resolved.
+     *
+     * @param node YANG node
+     */
+    private static void resolveSchemaPath(YangNode node) {
+        if (node.getSchemaPath() != null) {
+            return;
+        }
+
+        YangNode parent = node.getParent();
+        if (parent == null) {
+            node.setSchemaPath(SCHEMA_PATH_ROOT);
+            node.setSchemaDepth(0);
+        } else if (node.getYangSchemaNodeType() == YANG_NON_DATA_NODE
+                && !(node instanceof YangCase)) {
+            // Groupings, typedefs and the like are not part of schema tree.
+            return;
+        } else if (node instanceof YangAugment) {
+            YangNode augmentedNode = ((YangAugment) node).getAugmentedNode();
+            if (augmentedNode == null) {
+                return;
+            }
+            resolveSchemaPath(augmentedNode);
+            if (augmentedNode.getSchemaPath() == null) {
+                return;
+            }
+            node.setSchemaPath(augmentedNode.getSchemaPath());
+            node.setSchemaDepth(augmentedNode.getSchemaDepth());
+        } else {
+            resolveSchemaPath(parent);
+            if (parent.getSchemaPath() == null) {
+                return;
+            }
+            node.setSchemaPath(getChildSchemaPath(parent, node.getName()));
+            node.setSchemaDepth(parent.getSchemaDepth() + 1);
+        }
+
+        if (node instanceof YangLeavesHolder) {
+            updateLeavesSchemaPath((YangLeavesHolder) node, node);
+        }
+    }
+
+    /**
+     * Updates the schema path and depth of leaves and leaf-lists held by a
+     * node whose schema path is resolved.
+     *
+     * @param holder leaves holder
+     * @param node   leaves holder node
+     */
+    private static void updateLeavesSchemaPath(YangLeavesHolder holder, YangNode node) {
+        int depth = node.getSchemaDepth() + 1;
+        if (holder.getListOfLeaf() != null) {
+            for (YangLeaf leaf : holder.getListOfLeaf()) {
+                leaf.setSchemaPath(getChildSchemaPath(node, leaf.getName()));
+                leaf.setSchemaDepth(depth);
+            }
+        }
+        if (holder.getListOfLeafList() != null) {
+            for (YangLeafList leafList : holder.getListOfLeafList()) {
+                leafList.setSchemaPath(getChildSchemaPath(node, leafList.getName()));
+                leafList.setSchemaDepth(depth);
+            }
+        }
+    }
+
+    /**
+     * Returns the interned schema path of a child of the given node. The
+     * child step is qualified with the module name for top level nodes and
+     * for augment children when the augmented node belongs to a different
+     * module.
+     *
+     * @param parent parent node with resolved schema path
+     * @param name   name of the child
+     * @return schema path of the child
+     */
+    private static String getChildSchemaPath(YangNode parent, String name) {
+        StringBuilder path = new StringBuilder(parent.getSchemaPath());
+        String moduleName = null;
+        if (parent.getParent() == null) {
+            moduleName = getModuleName(parent);
+        } else {
+            path.append(SCHEMA_PATH_ROOT);
+            if (parent instanceof YangAugment) {
+                String augmentModuleName = getModuleName(getRootNode(parent));
+                YangNode augmentedNode = ((YangAugment) parent).getAugmentedNode();
+                if (!augmentModuleName.equals(getModuleName(getRootNode(augmentedNode)))) {
+                    moduleName = augmentModuleName;
+                }
+            }
+        }
+        if (moduleName != null) {
+            path.append(moduleName).append(COLON);
+        }
+        return path.append(name).toString().intern();
+    }
+
+    /**
+     * Returns the root node of the data model tree containing the node.
+     *
+     * @param node YANG node
+     * @return root node
+     */
+    private static YangNode getRootNode(YangNode node) {
+        YangNode rootNode = node;
+        while (rootNode.getParent() != null) {
+            rootNode = rootNode.getParent();
+        }
+        return rootNode;
+    }
+
+    /**
+     * Returns the name of the module to which the root node belongs.
+     *
+     * @param rootNode root node of the data model tree
+     * @return module name
+     */
+    public static String getModuleName(YangNode rootNode) {
+        if (rootNode instanceof YangSubModule
+                && ((YangSubModule) rootNode).getBelongsTo() != null) {
+            return ((YangSubModule) rootNode).getBelongsTo().getBelongsToModuleName();
+        }
+        return rootNode.getName();
+    }
+
     /**
      * Parses jar file and returns list of serialized file names.
      *
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangFeature;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangIfFeature;
+import org.onosproject.yangutils.datamodel.YangIfFeatureHolder;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangUses;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.getModuleName;
+
+/**
+ * Represents view of the linked data model trees pruned for a set of enabled
+ * features. A node, leaf or leaf-list is active when all its if-feature
+ * statements refer enabled features and its parent is active. The content
+ * added through uses is also subject to the if-feature statements of the
+ * uses. A feature is enabled when it is in the set of enabled features and
+ * the features referred by its own if-feature statements are enabled.
+ * <p>
+ * The active children, leaves and leaf-lists of each active node are
+ * computed once when the view is created, hence traversing the view does
+ * not evaluate any if-feature. The view must be created again when the data
+ * model trees are modified.
+ */
+public final class FeatureSchemaView {
+
+    private static final String FEATURE_SEPARATOR = ":";
+
+    private final Set<String> enabledFeatures;
+    private final Map<YangFeature, Boolean> featureStatus = new IdentityHashMap<>();
+    private final Map<YangNode, List<YangNode>> activeChildren = new IdentityHashMap<>();
+    private final Map<YangNode, List<YangLeaf>> activeLeaves = new IdentityHashMap<>();
+    private final Map<YangNode, List<YangLeafList>> activeLeafLists = new IdentityHashMap<>();
+    private final Set<YangSchemaNode> inactiveLeaves =
+            Collections.newSetFromMap(new IdentityHashMap<YangSchemaNode, Boolean>());
+    private int inactiveCount;
+
+    /**
+     * Creates the view of data model trees for the enabled features.
+     *
+     * @param yangNodeSet     set of root nodes of data model trees
+     * @param enabledFeatures names of enabled features qualified with the
+     *                        module name as "module:feature"
+     */
+    public FeatureSchemaView(Set<YangNode> yangNodeSet, Set<String> enabledFeatures) {
+        this.enabledFeatures = Collections.unmodifiableSet(new HashSet<>(enabledFeatures));
+        for (YangNode rootNode : yangNodeSet) {
+            addActiveTree(rootNode);
+        }
+        for (Map.Entry<YangNode, List<YangNode>> entry : activeChildren.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+    }
+
+    /**
+     * Returns the names of enabled features, qualified with the module name.
+     *
+     * @return names of enabled features
+     */
+    public Set<String> getEnabledFeatures() {
+        return enabledFeatures;
+    }
+
+    /**
+     * Returns whether the schema node is active in the view.
+     *
+     * @param schemaNode YANG node, leaf or leaf-list
+     * @return true if schema node is active
+     */
+    public boolean isActive(YangSchemaNode schemaNode) {
+        if (schemaNode instanceof YangLeaf || schemaNode instanceof YangLeafList) {
+            return activeChildren.containsKey(getHolder(schemaNode)) && !inactiveLeaves.contains(schemaNode);
+        }
+        return activeChildren.containsKey(schemaNode);
+    }
+
+    /**
+     * Returns the active children of the node.
+     *
+     * @param node YANG node
+     * @return active child nodes, empty if node is not active
+     */
+    public List<YangNode> getActiveChildren(YangNode node) {
+        List<YangNode> children = activeChildren.get(node);
+        return children == null ? Collections.<YangNode>emptyList() : children;
+    }
+
+    /**
+     * Returns the active leaves of the node.
+     *
+     * @param node YANG node
+     * @return active leaves, empty if node is not active
+     */
+    public List<YangLeaf> getActiveLeaves(YangNode node) {
+        List<YangLeaf> leaves = activeLeaves.get(node);
+        return leaves == null ? Collections.<YangLeaf>emptyList() : leaves;
+    }
+
+    /**
+     * Returns the active leaf-lists of the node.
+     *
+     * @param node YANG node
+     * @return active leaf-lists, empty if node is not active
+     */
+    public List<YangLeafList> getActiveLeafLists(YangNode node) {
+        List<YangLeafList> leafLists = activeLeafLists.get(node);
+        return leafLists == null ? Collections.<YangLeafList>emptyList() : leafLists;
+    }
+
+    /**
+     * Returns the number of nodes, leaves and leaf-lists pruned by the view.
+     * The descendants of a pruned node are not counted.
+     *
+     * @return number of pruned schema nodes
+     */
+    public int getInactiveCount() {
+        return inactiveCount;
+    }
+
+    /**
+     * Adds the active nodes of the data model tree. The subtree of an
+     * inactive node is not visited.
+     *
+     * @param rootNode root node of data model tree
+     */
+    private void addActiveTree(YangNode rootNode) {
+        addActiveNode(rootNode);
+        YangNode curNode = rootNode.getChild();
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null && curNode != rootNode) {
+            boolean isActive = false;
+            if (curTraversal != PARENT) {
+                isActive = isNodeActive(curNode);
+                if (isActive) {
+                    activeChildren.get(curNode.getParent()).add(curNode);
+                    addActiveNode(curNode);
+                } else {
+                    inactiveCount++;
+                }
+            }
+            if (isActive && curNode.getChild() != null) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+    }
+
+    /**
+     * Adds the active node with its active leaves and leaf-lists.
+     *
+     * @param node active YANG node
+     */
+    private void addActiveNode(YangNode node) {
+        activeChildren.put(node, new ArrayList<YangNode>());
+        if (!(node instanceof YangLeavesHolder)) {
+            return;
+        }
+        YangLeavesHolder holder = (YangLeavesHolder) node;
+        if (holder.getListOfLeaf() != null) {
+            List<YangLeaf> leaves = new ArrayList<>();
+            for (YangLeaf leaf : holder.getListOfLeaf()) {
+                if (isEnabled(leaf.getIfFeatureList()) && isEnabledThroughUses(leaf, node)) {
+                    leaves.add(leaf);
+                } else {
+                    inactiveLeaves.add(leaf);
+                    inactiveCount++;
+                }
+            }
+            activeLeaves.put(node, Collections.unmodifiableList(leaves));
+        }
+        if (holder.getListOfLeafList() != null) {
+            List<YangLeafList> leafLists = new ArrayList<>();
+            for (YangLeafList leafList : holder.getListOfLeafList()) {
+                if (isEnabled(leafList.getIfFeatureList()) && isEnabledThroughUses(leafList, node)) {
+                    leafLists.add(leafList);
+                } else {
+                    inactiveLeaves.add(leafList);
+                    inactiveCount++;
+                }
+            }
+            activeLeafLists.put(node, Collections.unmodifiableList(leafLists));
+        }
+    }
+
+    /**
+     * Returns whether the node, whose parent is active, is active.
+     *
+     * @param node YANG node
+     * @return true if node is active
+     */
+    private boolean isNodeActive(YangNode node) {
+        if (node instanceof YangIfFeatureHolder
+                && !isEnabled(((YangIfFeatureHolder) node).getIfFeatureList())) {
+            return false;
+        }
+        return isEnabledThroughUses(node, node.getParent());
+    }
+
+    /**
+     * Returns whether the if-feature statements of the uses which added the
+     * schema node to the holder are enabled. The schema node added through
+     * uses refers the top level schema node of grouping, and the uses of
+     * grouping is a child of the holder. The nested uses are followed
+     * through the chain of referred schema nodes.
+     *
+     * @param schemaNode schema node
+     * @param holder     node holding the schema node
+     * @return true if schema node is not added through disabled uses
+     */
+    private boolean isEnabledThroughUses(YangSchemaNode schemaNode, YangNode holder) {
+        YangSchemaNode referredSchema = schemaNode.getReferredSchema();
+        while (referredSchema != null) {
+            YangNode referredHolder = getHolder(referredSchema);
+            if (referredHolder instanceof YangGrouping) {
+                YangUses uses = getUses(holder, (YangGrouping) referredHolder);
+                if (uses != null && !isEnabled(uses.getIfFeatureList())) {
+                    return false;
+                }
+            }
+            referredSchema = referredSchema.getReferredSchema();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the node holding the schema node.
+     *
+     * @param schemaNode schema node
+     * @return holder node
+     */
+    private static YangNode getHolder(YangSchemaNode schemaNode) {
+        if (schemaNode instanceof YangLeaf) {
+            return (YangNode) ((YangLeaf) schemaNode).getContainedIn();
+        }
+        if (schemaNode instanceof YangLeafList) {
+            return (YangNode) ((YangLeafList) schemaNode).getContainedIn();
+        }
+        return ((YangNode) schemaNode).getParent();
+    }
+
+    /**
+     * Returns the uses of grouping which is a child of the holder.
+     *
+     * @param holder   holder node
+     * @param grouping YANG grouping
+     * @return uses of grouping, or null if not present
+     */
+    private static YangUses getUses(YangNode holder, YangGrouping grouping) {
+        YangNode child = holder == null ? null : holder.getChild();
+        while (child != null) {
+            if (child instanceof YangUses && ((YangUses) child).getRefGroup() == grouping) {
+                return (YangUses) child;
+            }
+            child = child.getNextSibling();
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether all the if-feature statements refer enabled features.
+     *
+     * @param ifFeatureList list of if-feature
+     * @return true if all referred features are enabled
+     */
+    private boolean isEnabled(List<YangIfFeature> ifFeatureList) {
+        if (ifFeatureList == null) {
+            return true;
+        }
+        for (YangIfFeature ifFeature : ifFeatureList) {
+            if (!isEnabled(ifFeature)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the feature referred by if-feature is enabled. The
+     * status of each feature is evaluated once.
+     *
+     * @param ifFeature YANG if-feature
+     * @return true if referred feature is enabled
+     */
+    private boolean isEnabled(YangIfFeature ifFeature) {
+        YangFeature feature = ifFeature.getReferredFeature();
+        if (feature == null || ifFeature.getReferredFeatureHolder() == null) {
+            return false;
+        }
+        Boolean status = featureStatus.get(feature);
+        if (status == null) {
+            String name = getModuleName(ifFeature.getReferredFeatureHolder()) + FEATURE_SEPARATOR
+                    + feature.getName();
+            // Disabled while its own if-feature are evaluated, to end cyclic reference.
+            featureStatus.put(feature, false);
+            status = enabledFeatures.contains(name) && isEnabled(feature.getIfFeatureList());
+            featureStatus.put(feature, status);
+        }
+        return status;
+    }
+}
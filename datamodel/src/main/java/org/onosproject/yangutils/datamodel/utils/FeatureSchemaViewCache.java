@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents cache of the views of linked data model trees pruned for the
+ * sets of enabled features. The view of a set of enabled features is
+ * created on first use and is shared afterwards, irrespective of the order
+ * in which the features are given.
+ */
+public final class FeatureSchemaViewCache {
+
+    private final Set<YangNode> yangNodeSet;
+    private final ConcurrentMap<Set<String>, FeatureSchemaView> views = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache of views of data model trees.
+     *
+     * @param yangNodeSet set of root nodes of linked data model trees
+     */
+    public FeatureSchemaViewCache(Set<YangNode> yangNodeSet) {
+        this.yangNodeSet = yangNodeSet;
+    }
+
+    /**
+     * Returns the view of data model trees for the enabled features.
+     *
+     * @param enabledFeatures names of enabled features qualified with the
+     *                        module name as "module:feature"
+     * @return view of data model trees
+     */
+    public FeatureSchemaView getView(Set<String> enabledFeatures) {
+        FeatureSchemaView view = views.get(enabledFeatures);
+        if (view != null) {
+            return view;
+        }
+        view = new FeatureSchemaView(yangNodeSet, enabledFeatures);
+        FeatureSchemaView existingView = views.putIfAbsent(view.getEnabledFeatures(), view);
+        return existingView == null ? view : existingView;
+    }
+
+    /**
+     * Returns the number of cached views.
+     *
+     * @return number of cached views
+     */
+    public int size() {
+        return views.size();
+    }
+
+    /**
+     * Discards the cached views, it is to be invoked when the data model
+     * trees are modified.
+     */
+    public void invalidate() {
+        views.clear();
+    }
+}
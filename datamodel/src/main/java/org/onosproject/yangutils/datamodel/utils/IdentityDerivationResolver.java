@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangIdentity;
+import org.onosproject.yangutils.datamodel.YangNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.getModuleName;
+
+/**
+ * Represents the pass carried out after linking, which computes for each
+ * identity the identities derived from it directly or transitively,
+ * spanning all the linked modules. Afterwards the derivation of an identity
+ * from a base identity and the identityref values are checked in constant
+ * time, without walking the base chain.
+ */
+public final class IdentityDerivationResolver {
+
+    /**
+     * Number of identities in the linked modules.
+     */
+    private int identityCount;
+
+    /**
+     * Computes the derived identities of the identities of data model trees.
+     *
+     * @param yangNodeSet set of root nodes of data model trees
+     */
+    public void resolveDerivations(Set<YangNode> yangNodeSet) {
+        List<YangIdentity> identities = new ArrayList<>();
+        List<String> moduleNames = new ArrayList<>();
+        for (YangNode rootNode : yangNodeSet) {
+            String moduleName = getModuleName(rootNode);
+            YangNode child = rootNode.getChild();
+            while (child != null) {
+                if (child instanceof YangIdentity) {
+                    YangIdentity identity = (YangIdentity) child;
+                    identity.resetDerivedIdentities();
+                    identities.add(identity);
+                    moduleNames.add(moduleName);
+                }
+                child = child.getNextSibling();
+            }
+        }
+        identityCount = identities.size();
+
+        for (int i = 0; i < identityCount; i++) {
+            YangIdentity identity = identities.get(i);
+            YangIdentity base = getBaseIdentity(identity);
+            // Base chain longer than number of identities is cyclic.
+            int depth = 0;
+            while (base != null && base != identity && depth++ < identityCount) {
+                base.addDerivedIdentity(moduleNames.get(i), identity);
+                base = getBaseIdentity(base);
+            }
+        }
+    }
+
+    /**
+     * Returns number of identities in the linked modules.
+     *
+     * @return number of identities
+     */
+    public int getIdentityCount() {
+        return identityCount;
+    }
+
+    /**
+     * Returns the base identity of the identity.
+     *
+     * @param identity YANG identity
+     * @return base identity, or null if identity has no resolved base
+     */
+    private static YangIdentity getBaseIdentity(YangIdentity identity) {
+        if (identity.getBaseNode() == null) {
+            return null;
+        }
+        return identity.getBaseNode().getReferredIdentity();
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangMinElement;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+import org.onosproject.yangutils.datamodel.YangUses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+
+/**
+ * Represents the pass carried out after linking, which computes for each
+ * schema node the arrays of its mandatory children and of its leaves having
+ * a default value, with the default values in canonical form. Instance
+ * completion and mandatory checks then are a single pass over these arrays,
+ * instead of a walk over all the children for each instance.
+ */
+public final class MandatoryDefaultResolver {
+
+    private static final String TRUE = "true";
+
+    /**
+     * Number of mandatory child schema nodes in the linked modules.
+     */
+    private int mandatoryCount;
+
+    /**
+     * Number of leaves having a default value in the linked modules.
+     */
+    private int defaultCount;
+
+    /**
+     * Computes the mandatory and default children of the schema nodes of
+     * data model trees.
+     *
+     * @param yangNodeSet set of root nodes of data model trees
+     */
+    public void resolveMandatoryAndDefaults(Set<YangNode> yangNodeSet) {
+        mandatoryCount = 0;
+        defaultCount = 0;
+        for (YangNode rootNode : yangNodeSet) {
+            resolveTree(rootNode);
+        }
+    }
+
+    /**
+     * Returns number of mandatory child schema nodes in the linked modules.
+     *
+     * @return number of mandatory child schema nodes
+     */
+    public int getMandatoryCount() {
+        return mandatoryCount;
+    }
+
+    /**
+     * Returns number of leaves having a default value in the linked modules.
+     *
+     * @return number of leaves having a default value
+     */
+    public int getDefaultCount() {
+        return defaultCount;
+    }
+
+    /**
+     * Computes the mandatory and default children of the nodes of a data
+     * model tree. A node is processed after its children, since a non
+     * presence container is mandatory when it has a mandatory child. The
+     * subtrees of groupings and uses are not part of the schema tree and
+     * are skipped.
+     *
+     * @param rootNode root node of data model tree
+     */
+    private void resolveTree(YangNode rootNode) {
+        YangNode curNode = rootNode.getChild();
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null && curNode != rootNode) {
+            if (curTraversal != PARENT && curNode.getChild() != null
+                    && !isOutOfSchemaTree(curNode)) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+                continue;
+            }
+            if (!isOutOfSchemaTree(curNode)) {
+                resolveNode(curNode);
+            }
+            if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+        resolveNode(rootNode);
+    }
+
+    /**
+     * Returns true if the node is not part of the schema tree.
+     *
+     * @param node YANG node
+     * @return true if node is not part of the schema tree
+     */
+    private static boolean isOutOfSchemaTree(YangNode node) {
+        return node instanceof YangGrouping || node instanceof YangUses;
+    }
+
+    /**
+     * Computes the mandatory and default children of a node whose child
+     * nodes are already processed.
+     *
+     * @param node YANG node
+     */
+    private void resolveNode(YangNode node) {
+        if (node instanceof YangChoice) {
+            resolveChoice((YangChoice) node);
+            return;
+        }
+
+        List<YangSchemaNode> mandatoryChildren = new ArrayList<>();
+        List<YangLeaf> defaultLeaves = new ArrayList<>();
+        List<String> defaultValues = new ArrayList<>();
+
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    if (leaf.isMandatory()) {
+                        mandatoryChildren.add(leaf);
+                        continue;
+                    }
+                    String defaultValue = getDefaultValue(leaf);
+                    if (defaultValue != null) {
+                        defaultLeaves.add(leaf);
+                        defaultValues.add(defaultValue);
+                    }
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    if (isMinElementsPresent(leafList.getMinElements())) {
+                        mandatoryChildren.add(leafList);
+                    }
+                }
+            }
+        }
+
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (isMandatory(child)) {
+                mandatoryChildren.add(child);
+            }
+            child = child.getNextSibling();
+        }
+
+        mandatoryCount += mandatoryChildren.size();
+        defaultCount += defaultLeaves.size();
+        node.setMandatoryChildren(mandatoryChildren.toArray(
+                new YangSchemaNode[mandatoryChildren.size()]));
+        node.setDefaultLeaves(defaultLeaves.toArray(new YangLeaf[defaultLeaves.size()]),
+                              defaultValues.toArray(new String[defaultValues.size()]));
+    }
+
+    /**
+     * Computes the default children of a choice, which are the default
+     * leaves of its default case. A choice has no mandatory children, the
+     * mandatory choice itself is a mandatory child of its parent.
+     *
+     * @param choice YANG choice
+     */
+    private static void resolveChoice(YangChoice choice) {
+        YangNode defaultCase = null;
+        String defaultCaseName = choice.getDefaultValueInString();
+        if (defaultCaseName != null) {
+            YangNode child = choice.getChild();
+            while (child != null && !child.getName().equals(defaultCaseName)) {
+                child = child.getNextSibling();
+            }
+            defaultCase = child;
+        }
+        choice.setMandatoryChildren(new YangSchemaNode[0]);
+        if (defaultCase == null) {
+            choice.setDefaultLeaves(new YangLeaf[0], new String[0]);
+        } else {
+            choice.setDefaultLeaves(defaultCase.getDefaultLeaves(),
+                                    defaultCase.getDefaultValues());
+        }
+    }
+
+    /**
+     * Returns true if the child node is a mandatory node of its parent.
+     *
+     * @param child child node
+     * @return true if child node is mandatory
+     */
+    private static boolean isMandatory(YangNode child) {
+        if (child instanceof YangChoice) {
+            return TRUE.equals(((YangChoice) child).getMandatory());
+        }
+        if (child instanceof YangList) {
+            return isMinElementsPresent(((YangList) child).getMinElements());
+        }
+        if (child instanceof YangContainer) {
+            return ((YangContainer) child).getPresence() == null
+                    && child.getMandatoryChildren().length > 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the minimum elements is more than zero.
+     *
+     * @param minElement minimum elements
+     * @return true if minimum elements is more than zero
+     */
+    private static boolean isMinElementsPresent(YangMinElement minElement) {
+        return minElement != null && minElement.getMinElement() > 0;
+    }
+
+    /**
+     * Returns the default value of the leaf in canonical form. When the leaf
+     * has no default value, the default value of the nearest typedef in its
+     * type derivation is taken. A default value which is not a valid value
+     * of the type is returned as it is.
+     *
+     * @param leaf YANG leaf
+     * @return canonical default value, null if leaf has no default value
+     */
+    private static String getDefaultValue(YangLeaf leaf) {
+        String defaultValue = leaf.getDefaultValueInString();
+        YangType<?> type = leaf.getDataType();
+        if (defaultValue == null) {
+            defaultValue = getTypeDefDefaultValue(type);
+            if (defaultValue == null) {
+                return null;
+            }
+        }
+        String canonicalValue = type == null ? null : type.getCanonicalValue(defaultValue);
+        if (canonicalValue == null) {
+            return defaultValue;
+        }
+        return canonicalValue;
+    }
+
+    /**
+     * Returns the default value of the nearest typedef in the derivation of
+     * the type.
+     *
+     * @param type YANG type
+     * @return default value of typedef, null if none
+     */
+    private static String getTypeDefDefaultValue(YangType<?> type) {
+        YangType<?> curType = type;
+        while (curType != null && curType.getDataType() == DERIVED) {
+            Object extendedInfo = curType.getDataTypeExtendedInfo();
+            if (!(extendedInfo instanceof YangDerivedInfo)) {
+                return null;
+            }
+            YangTypeDef typeDef = ((YangDerivedInfo<?>) extendedInfo).getReferredTypeDef();
+            if (typeDef == null) {
+                return null;
+            }
+            if (typeDef.getDefaultValueInString() != null) {
+                return typeDef.getDefaultValueInString();
+            }
+            curType = typeDef.getTypeDefBaseType();
+        }
+        return null;
+    }
+}
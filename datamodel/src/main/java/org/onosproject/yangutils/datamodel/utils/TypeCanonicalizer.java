@@ -0,0 +1,575 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangAppErrorInfo;
+import org.onosproject.yangutils.datamodel.YangDecimal64;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangPatternRestriction;
+import org.onosproject.yangutils.datamodel.YangRangeInterval;
+import org.onosproject.yangutils.datamodel.YangRangeRestriction;
+import org.onosproject.yangutils.datamodel.YangStringRestriction;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangUnion;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+
+/**
+ * Represents the type canonicalization pass carried out after linking. Leaf,
+ * leaf-list and union member types which are structurally identical across
+ * the linked module set are replaced by a single shared YANG type instance.
+ * <p>
+ * Only types whose information is fully captured by the type itself are
+ * shared, i.e. built-in types with their restrictions and resolved derived
+ * types without any restriction of their own. Types bound to a node in the
+ * data model tree (enumeration, union, bits), leafref and identityref are
+ * never shared. A shared type must be treated as immutable; the clone
+ * operations already in use for modifying a type remain the way to obtain a
+ * private copy.
+ * <p>
+ * Types held in groupings are never shared. The leaves copied from a
+ * grouping by uses refer to the types of the grouping, which get resolved
+ * again in place whenever the grouping is used later on, for example by a
+ * lazily expanded uses or by a module linked again. Such a type is neither
+ * replaced nor made the shared instance of other leaves, so that its
+ * resolution and location info stay its own.
+ */
+public final class TypeCanonicalizer {
+
+    /*
+     * Canonical types, bucketed on the type signature. A bucket holds the
+     * variants which differ only in their restrictions.
+     */
+    private final Map<TypeSignature, List<YangType<?>>> canonicalTypes;
+
+    /*
+     * Types and union member type lists held in the groupings used by the
+     * canonicalized data model trees.
+     */
+    private final Set<Object> groupingTypes;
+
+    /*
+     * Groupings whose types are already collected.
+     */
+    private final Set<YangNode> collectedGroupings;
+
+    /*
+     * Number of type references replaced with a shared instance.
+     */
+    private int sharedTypeCount;
+
+    /**
+     * Creates a type canonicalizer.
+     */
+    public TypeCanonicalizer() {
+        canonicalTypes = new HashMap<>();
+        groupingTypes = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        collectedGroupings = Collections.newSetFromMap(new IdentityHashMap<YangNode, Boolean>());
+    }
+
+    /**
+     * Returns the number of type references which got replaced with a shared
+     * instance.
+     *
+     * @return number of shared type references
+     */
+    public int getSharedTypeCount() {
+        return sharedTypeCount;
+    }
+
+    /**
+     * Canonicalizes the types used in all the given linked YANG files.
+     *
+     * @param yangNodeSet set of linked YANG files root nodes
+     */
+    public void canonicalize(Set<YangNode> yangNodeSet) {
+        for (YangNode rootNode : yangNodeSet) {
+            collectGroupingTypes(rootNode);
+        }
+        for (YangNode rootNode : yangNodeSet) {
+            canonicalizeTree(rootNode);
+        }
+    }
+
+    /**
+     * Canonicalizes the types used in the data model tree of the given root
+     * node.
+     *
+     * @param rootNode root node of the data model tree
+     */
+    public void canonicalize(YangNode rootNode) {
+        collectGroupingTypes(rootNode);
+        canonicalizeTree(rootNode);
+    }
+
+    /**
+     * Collects the types held in the groupings defined in or used by the
+     * data model tree of the given root node.
+     *
+     * @param rootNode root node of the data model tree
+     */
+    private void collectGroupingTypes(YangNode rootNode) {
+        List<YangNode> pendingGroupings = new LinkedList<>();
+        collectUsedGroupings(rootNode, pendingGroupings);
+        while (!pendingGroupings.isEmpty()) {
+            YangNode grouping = pendingGroupings.remove(0);
+            if (collectedGroupings.add(grouping)) {
+                collectUsedGroupings(grouping, pendingGroupings);
+            }
+        }
+    }
+
+    /**
+     * Adds the groupings defined or used in the tree of the given node to
+     * the pending groupings. The types held by the node are collected when
+     * it is a grouping or lies in one.
+     *
+     * @param rootNode         root node of the tree
+     * @param pendingGroupings groupings whose types are to be collected
+     */
+    private void collectUsedGroupings(YangNode rootNode, List<YangNode> pendingGroupings) {
+        boolean isGrouping = rootNode instanceof YangGrouping;
+        YangNode curNode = rootNode;
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null) {
+            if (curTraversal != PARENT) {
+                if (isGrouping) {
+                    collectNodeTypes(curNode);
+                }
+                if (curNode != rootNode && curNode instanceof YangGrouping) {
+                    pendingGroupings.add(curNode);
+                } else if (curNode instanceof YangUses
+                        && ((YangUses) curNode).getRefGroup() != null) {
+                    pendingGroupings.add(((YangUses) curNode).getRefGroup());
+                }
+            }
+            if (curTraversal != PARENT && curNode.getChild() != null
+                    && (curNode == rootNode || !(curNode instanceof YangGrouping))) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode == rootNode) {
+                break;
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+                if (curNode == rootNode) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the types directly held by a node of a grouping.
+     *
+     * @param node YANG node
+     */
+    private void collectNodeTypes(YangNode node) {
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    groupingTypes.add(leaf.getDataType());
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    groupingTypes.add(leafList.getDataType());
+                }
+            }
+        } else if (node instanceof YangUnion) {
+            groupingTypes.add(((YangUnion) node).getTypeList());
+            groupingTypes.addAll(((YangUnion) node).getTypeList());
+        }
+    }
+
+    /**
+     * Canonicalizes the types used in the data model tree of the given root
+     * node, other than in its groupings.
+     *
+     * @param rootNode root node of the data model tree
+     */
+    private void canonicalizeTree(YangNode rootNode) {
+        YangNode curNode = rootNode;
+        TraversalType curTraversal = CHILD;
+        canonicalizeNode(curNode);
+        curNode = curNode.getChild();
+
+        while (curNode != null && curNode != rootNode) {
+            if (curTraversal != PARENT && !(curNode instanceof YangGrouping)) {
+                canonicalizeNode(curNode);
+            }
+            if (curTraversal != PARENT && curNode.getChild() != null
+                    && !(curNode instanceof YangGrouping)) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+    }
+
+    /**
+     * Canonicalizes the types directly held by a node.
+     *
+     * @param node YANG node
+     */
+    private void canonicalizeNode(YangNode node) {
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    leaf.setDataType(getCanonicalType(leaf.getDataType()));
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    leafList.setDataType(getCanonicalType(leafList.getDataType()));
+                }
+            }
+        } else if (node instanceof YangUnion
+                && !groupingTypes.contains(((YangUnion) node).getTypeList())) {
+            ListIterator<YangType<?>> it = ((YangUnion) node).getTypeList().listIterator();
+            while (it.hasNext()) {
+                it.set(getCanonicalType(it.next()));
+            }
+        }
+    }
+
+    /**
+     * Returns the shared instance for the given type. The given type becomes
+     * the shared instance, if no structurally identical type was seen before.
+     *
+     * @param type YANG type
+     * @return canonical YANG type
+     */
+    private YangType<?> getCanonicalType(YangType<?> type) {
+        if (type == null || groupingTypes.contains(type) || !isShareable(type)) {
+            return type;
+        }
+
+        TypeSignature signature = new TypeSignature(type);
+        List<YangType<?>> bucket = canonicalTypes.get(signature);
+        if (bucket == null) {
+            bucket = new LinkedList<>();
+            canonicalTypes.put(signature, bucket);
+        }
+
+        Iterator<YangType<?>> it = bucket.iterator();
+        while (it.hasNext()) {
+            YangType<?> canonical = it.next();
+            if (canonical == type) {
+                return type;
+            }
+            if (isSameExtendedInfo(type.getDataType(),
+                                   canonical.getDataTypeExtendedInfo(),
+                                   type.getDataTypeExtendedInfo())) {
+                sharedTypeCount++;
+                return canonical;
+            }
+        }
+        bucket.add(type);
+        return type;
+    }
+
+    /**
+     * Returns true if the type can be shared.
+     *
+     * @param type YANG type
+     * @return true if the type can be shared
+     */
+    private static boolean isShareable(YangType<?> type) {
+        if (type.getDataType() == null) {
+            return false;
+        }
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+            case DECIMAL64:
+            case STRING:
+            case BOOLEAN:
+            case EMPTY:
+            case BINARY:
+            case INSTANCE_IDENTIFIER:
+                return true;
+            case DERIVED:
+                return isShareableDerivedType(type);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if the derived type is resolved and does not add any
+     * restriction to the referred typedef.
+     *
+     * @param type derived YANG type
+     * @return true if the derived type can be shared
+     */
+    private static boolean isShareableDerivedType(YangType<?> type) {
+        if (type.getResolvableStatus() != RESOLVED
+                || !(type.getDataTypeExtendedInfo() instanceof YangDerivedInfo)) {
+            return false;
+        }
+        YangDerivedInfo<?> info = (YangDerivedInfo<?>) type.getDataTypeExtendedInfo();
+        return info.getReferredTypeDef() != null
+                && info.getLengthRestrictionString() == null
+                && info.getRangeRestrictionString() == null
+                && info.getPatternRestriction() == null;
+    }
+
+    /**
+     * Returns true if the extended info of the two types of given data type
+     * is structurally identical.
+     *
+     * @param dataType data type of both the types
+     * @param first    extended info of first type
+     * @param second   extended info of second type
+     * @return true if extended info is identical
+     */
+    private static boolean isSameExtendedInfo(YangDataTypes dataType,
+                                              Object first, Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        switch (dataType) {
+            case STRING:
+                return isSameStringRestriction((YangStringRestriction) first,
+                                               (YangStringRestriction) second);
+            case DECIMAL64:
+                YangDecimal64<?> firstDecimal = (YangDecimal64<?>) first;
+                YangDecimal64<?> secondDecimal = (YangDecimal64<?>) second;
+                return firstDecimal.getFractionDigit() == secondDecimal.getFractionDigit()
+                        && isSameRangeRestriction(
+                        (YangRangeRestriction) firstDecimal.getRangeRestrictedExtendedInfo(),
+                        (YangRangeRestriction) secondDecimal.getRangeRestrictedExtendedInfo());
+            case DERIVED:
+                // Signature already ensures the same referred typedef.
+                return true;
+            default:
+                if (first instanceof YangRangeRestriction
+                        && second instanceof YangRangeRestriction) {
+                    return isSameRangeRestriction((YangRangeRestriction) first,
+                                                  (YangRangeRestriction) second);
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if both string restrictions are structurally identical.
+     *
+     * @param first  first string restriction
+     * @param second second string restriction
+     * @return true if restrictions are identical
+     */
+    private static boolean isSameStringRestriction(YangStringRestriction first,
+                                                   YangStringRestriction second) {
+        return Objects.equals(first.getDescription(), second.getDescription())
+                && Objects.equals(first.getReference(), second.getReference())
+                && isSameRangeRestriction(first.getLengthRestriction(),
+                                          second.getLengthRestriction())
+                && isSamePatternRestriction(first.getPatternRestriction(),
+                                            second.getPatternRestriction());
+    }
+
+    /**
+     * Returns true if both pattern restrictions are structurally identical.
+     *
+     * @param first  first pattern restriction
+     * @param second second pattern restriction
+     * @return true if restrictions are identical
+     */
+    private static boolean isSamePatternRestriction(YangPatternRestriction first,
+                                                    YangPatternRestriction second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        return first.getPatternList().equals(second.getPatternList())
+                && isSameAppErrorInfo(first.getAppErrorInfo(), second.getAppErrorInfo());
+    }
+
+    /**
+     * Returns true if both range restrictions are structurally identical.
+     *
+     * @param first  first range restriction
+     * @param second second range restriction
+     * @return true if restrictions are identical
+     */
+    private static boolean isSameRangeRestriction(YangRangeRestriction<?> first,
+                                                  YangRangeRestriction<?> second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        if (!Objects.equals(first.getDescription(), second.getDescription())
+                || !Objects.equals(first.getReference(), second.getReference())
+                || !isSameAppErrorInfo(first.getAppErrorInfo(), second.getAppErrorInfo())) {
+            return false;
+        }
+
+        List<? extends YangRangeInterval<?>> firstIntervals = first.getAscendingRangeIntervals();
+        List<? extends YangRangeInterval<?>> secondIntervals = second.getAscendingRangeIntervals();
+        if (firstIntervals == null || secondIntervals == null) {
+            return firstIntervals == secondIntervals;
+        }
+        if (firstIntervals.size() != secondIntervals.size()) {
+            return false;
+        }
+        Iterator<? extends YangRangeInterval<?>> secondIt = secondIntervals.iterator();
+        for (YangRangeInterval<?> interval : firstIntervals) {
+            YangRangeInterval<?> other = secondIt.next();
+            if (!isSameValue(interval.getStartValue(), other.getStartValue())
+                    || !isSameValue(interval.getEndValue(), other.getEndValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if both the restriction boundary values are equal.
+     *
+     * @param first  first value
+     * @param second second value
+     * @return true if the values are equal
+     */
+    private static boolean isSameValue(Comparable first, Comparable second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        return first.getClass() == second.getClass() && first.compareTo(second) == 0;
+    }
+
+    /**
+     * Returns true if both application error info are identical.
+     *
+     * @param first  first application error info
+     * @param second second application error info
+     * @return true if the error info are identical
+     */
+    private static boolean isSameAppErrorInfo(YangAppErrorInfo first, YangAppErrorInfo second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        return Objects.equals(first.getGetErrorMessage(), second.getGetErrorMessage())
+                && Objects.equals(first.getGetErrorTag(), second.getGetErrorTag())
+                && Objects.equals(first.getGetErrorAppTag(), second.getGetErrorAppTag())
+                && Objects.equals(first.getGetErrorAppPath(), second.getGetErrorAppPath())
+                && Objects.equals(first.getGetErrorAppInfo(), second.getGetErrorAppInfo());
+    }
+
+    /**
+     * Represents the restriction independent part of a type, used to bucket
+     * the candidate types.
+     */
+    private static final class TypeSignature {
+
+        private final Class<?> typeClass;
+        private final YangDataTypes dataType;
+        private final String name;
+        private final String prefix;
+        private final Object referredTypeDef;
+
+        /**
+         * Creates the signature of a type.
+         *
+         * @param type YANG type
+         */
+        private TypeSignature(YangType<?> type) {
+            typeClass = type.getClass();
+            dataType = type.getDataType();
+            name = type.getDataTypeName();
+            prefix = type.getPrefix();
+            if (type.getDataTypeExtendedInfo() instanceof YangDerivedInfo) {
+                referredTypeDef = ((YangDerivedInfo<?>) type.getDataTypeExtendedInfo())
+                        .getReferredTypeDef();
+            } else {
+                referredTypeDef = null;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(typeClass, dataType, name, prefix,
+                                System.identityHashCode(referredTypeDef));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypeSignature)) {
+                return false;
+            }
+            TypeSignature other = (TypeSignature) obj;
+            return typeClass == other.typeClass
+                    && dataType == other.dataType
+                    && Objects.equals(name, other.name)
+                    && Objects.equals(prefix, other.prefix)
+                    && referredTypeDef == other.referredTypeDef;
+        }
+    }
+}
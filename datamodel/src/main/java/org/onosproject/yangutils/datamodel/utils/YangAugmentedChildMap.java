@@ -0,0 +1,213 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangAugmentableNode;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_MULTI_INSTANCE_NODE;
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_SINGLE_INSTANCE_NODE;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.getModuleName;
+
+/**
+ * Represents the map of the data children which the augments of an
+ * augmented node add to it, from their name and module to the child and
+ * the augment adding it. Choice and case are looked through, including the
+ * children their own augments add, so a child added by augment is found
+ * with one lookup instead of a search of the augments.
+ * <p>
+ * The map of a node is created on first lookup and is discarded by the node
+ * when an augment is added to or removed from it. It is not modified after
+ * creation.
+ */
+public final class YangAugmentedChildMap {
+
+    private static final String NAME_SEPARATOR = ":";
+
+    private final Map<String, AugmentedChild> qualifiedChildren = new HashMap<>();
+    private final Map<String, AugmentedChild> children = new HashMap<>();
+
+    /**
+     * Represents a data child added by an augment.
+     */
+    public static final class AugmentedChild {
+
+        private final YangAugment augment;
+        private final YangSchemaNode child;
+
+        /**
+         * Creates the information of a data child added by an augment.
+         *
+         * @param augment augment adding the child
+         * @param child   schema node of child
+         */
+        private AugmentedChild(YangAugment augment, YangSchemaNode child) {
+            this.augment = augment;
+            this.child = child;
+        }
+
+        /**
+         * Returns the augment adding the child.
+         *
+         * @return augment node
+         */
+        public YangAugment getAugment() {
+            return augment;
+        }
+
+        /**
+         * Returns the schema node of the child.
+         *
+         * @return schema node of child
+         */
+        public YangSchemaNode getChild() {
+            return child;
+        }
+    }
+
+    /**
+     * Creates the map of the data children added by the augments of the
+     * augmented node. When two children have the same name and module, the
+     * first one in the order of the augments is kept.
+     *
+     * @param augmentedNode augmented node
+     */
+    public YangAugmentedChildMap(YangAugmentableNode augmentedNode) {
+        addAugments(augmentedNode);
+    }
+
+    /**
+     * Returns the data child with the name and module added by an augment.
+     *
+     * @param name       name of child
+     * @param moduleName name of the module of child, null for any module
+     * @return child and its augment, null if no augment adds the child
+     */
+    public AugmentedChild get(String name, String moduleName) {
+        if (moduleName == null) {
+            return children.get(name);
+        }
+        return qualifiedChildren.get(moduleName + NAME_SEPARATOR + name);
+    }
+
+    /**
+     * Returns the number of data children added by the augments, counted
+     * once for each name and module.
+     *
+     * @return number of children
+     */
+    public int size() {
+        return qualifiedChildren.size();
+    }
+
+    /**
+     * Adds the data children of the augments of an augmentable node.
+     *
+     * @param augmentableNode augmentable node
+     */
+    private void addAugments(YangAugmentableNode augmentableNode) {
+        List<YangAugment> augments = augmentableNode.getAugmentedInfoList();
+        if (augments == null) {
+            return;
+        }
+        for (YangAugment augment : augments) {
+            addChildren(augment, augment);
+        }
+    }
+
+    /**
+     * Adds the leaves and data children of a node of an augment, and for a
+     * choice or case the children it contains or its augments add.
+     *
+     * @param node    augment, or choice or case in augment
+     * @param augment augment adding the children
+     */
+    private void addChildren(YangNode node, YangAugment augment) {
+        if (node instanceof YangLeavesHolder) {
+            String moduleName = getModuleName(getRootNode(node));
+            YangLeavesHolder leavesHolder = (YangLeavesHolder) node;
+            if (leavesHolder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : leavesHolder.getListOfLeaf()) {
+                    put(leaf.getName(), moduleName, new AugmentedChild(augment, leaf));
+                }
+            }
+            if (leavesHolder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : leavesHolder.getListOfLeafList()) {
+                    put(leafList.getName(), moduleName, new AugmentedChild(augment, leafList));
+                }
+            }
+        }
+
+        YangNode child = node.getChild();
+        while (child != null) {
+            YangSchemaNodeType nodeType = child.getYangSchemaNodeType();
+            if (child instanceof YangChoice || child instanceof YangCase) {
+                addChildren(child, augment);
+                if (child instanceof YangAugmentableNode) {
+                    addAugments((YangAugmentableNode) child);
+                }
+            } else if (nodeType == YANG_SINGLE_INSTANCE_NODE || nodeType == YANG_MULTI_INSTANCE_NODE) {
+                put(child.getName(), getModuleName(getRootNode(child)), new AugmentedChild(augment, child));
+            }
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * Adds a child unless a child with the same name, or name and module,
+     * is already added.
+     *
+     * @param name           name of child
+     * @param moduleName     name of the module of child
+     * @param augmentedChild child and its augment
+     */
+    private void put(String name, String moduleName, AugmentedChild augmentedChild) {
+        String qualifiedName = moduleName + NAME_SEPARATOR + name;
+        if (!qualifiedChildren.containsKey(qualifiedName)) {
+            qualifiedChildren.put(qualifiedName, augmentedChild);
+        }
+        if (!children.containsKey(name)) {
+            children.put(name, augmentedChild);
+        }
+    }
+
+    /**
+     * Returns the root node of the data model tree containing the node.
+     *
+     * @param node YANG node
+     * @return root node
+     */
+    private static YangNode getRootNode(YangNode node) {
+        YangNode rootNode = node;
+        while (rootNode.getParent() != null) {
+            rootNode = rootNode.getParent();
+        }
+        return rootNode;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.datamodel.YangResolutionInfo;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Represents the resolution information of a module or sub-module, in one
+ * batch per resolvable type. An entity is classified in its batch once,
+ * when it is added, and each batch is backed by an array, so the entities
+ * of a type are linked one after the other without walking list nodes.
+ */
+public class YangResolutionBatches implements Serializable {
+
+    private static final long serialVersionUID = 806201690L;
+
+    private final List<ArrayList<YangResolutionInfo>> batches;
+
+    /**
+     * Creates empty batches for all the resolvable types.
+     */
+    public YangResolutionBatches() {
+        batches = new ArrayList<>(ResolvableType.values().length);
+        for (int i = 0; i < ResolvableType.values().length; i++) {
+            batches.add(new ArrayList<YangResolutionInfo>());
+        }
+    }
+
+    /**
+     * Returns the batch of a resolvable type, in the order the entities are
+     * added.
+     *
+     * @param type resolvable type
+     * @return unmodifiable batch of resolution information
+     */
+    public List<YangResolutionInfo> getBatch(ResolvableType type) {
+        return unmodifiableList(batches.get(type.ordinal()));
+    }
+
+    /**
+     * Adds resolution information to the batch of a resolvable type.
+     *
+     * @param resolutionInfo resolution information
+     * @param type           resolvable type
+     */
+    public void add(YangResolutionInfo resolutionInfo, ResolvableType type) {
+        batches.get(type.ordinal()).add(resolutionInfo);
+    }
+
+    /**
+     * Replaces the batch of a resolvable type.
+     *
+     * @param resolutionList resolution information of the batch
+     * @param type           resolvable type
+     */
+    public void setBatch(List<YangResolutionInfo> resolutionList, ResolvableType type) {
+        batches.set(type.ordinal(), new ArrayList<>(resolutionList));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangAtomicPath;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_AUGMENT_NODE;
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
+
+/**
+ * Represents the index of the schema nodes in the namespace of a module by
+ * their absolute schema path. The nodes of the included sub-modules and
+ * the nodes a module adds to other modules by augment are indexed with the
+ * nodes of the module, so an absolute path resolves with one lookup per
+ * node in the path, in the indexes of the modules defining these nodes.
+ * <p>
+ * A path is made of the "module:name" of each node from the top level,
+ * separated by "/", where module is the name of the module defining the
+ * node. The index of a module is built once the module is linked.
+ */
+public final class YangSchemaPathIndex {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String NAME_SEPARATOR = ":";
+
+    private final Map<String, YangNode> nodes = new HashMap<>();
+
+    /**
+     * Creates the index of the schema nodes in the namespace of a linked
+     * module.
+     *
+     * @param module linked module
+     */
+    public YangSchemaPathIndex(YangModule module) {
+        addTree(module, module.getName());
+        for (YangInclude include : module.getIncludeList()) {
+            if (include.getIncludedNode() != null) {
+                addTree(include.getIncludedNode(), module.getName());
+            }
+        }
+    }
+
+    /**
+     * Returns the schema node with the absolute path.
+     *
+     * @param path absolute path of schema node
+     * @return schema node, null if not indexed
+     */
+    public YangNode getNode(String path) {
+        return nodes.get(path);
+    }
+
+    /**
+     * Returns the number of indexed schema nodes.
+     *
+     * @return number of indexed schema nodes
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the absolute path of a node from the path of its parent.
+     *
+     * @param parentPath path of parent node, null for a top level node
+     * @param moduleName name of the module defining the node
+     * @param name       name of the node
+     * @return absolute path of node
+     */
+    public static String getPath(String parentPath, String moduleName, String name) {
+        String nodePath = moduleName + NAME_SEPARATOR + name;
+        if (parentPath == null) {
+            return nodePath;
+        }
+        return parentPath + PATH_SEPARATOR + nodePath;
+    }
+
+    /**
+     * Returns the module which the prefix refers to in a module or
+     * sub-module. A null prefix and the own prefix refer to the module of
+     * the root node, which for a sub-module is the module it belongs to.
+     *
+     * @param rootNode root node of module or sub-module
+     * @param prefix   prefix in the root node
+     * @return module node, null if the prefix is not known
+     */
+    public static YangNode getPrefixModule(YangNode rootNode, String prefix) {
+        YangReferenceResolver resolver = (YangReferenceResolver) rootNode;
+        if (prefix == null || prefix.equals(resolver.getPrefix())) {
+            if (rootNode instanceof YangSubModule) {
+                return ((YangSubModule) rootNode).getBelongsTo().getModuleNode();
+            }
+            return rootNode;
+        }
+        List<YangImport> importList = resolver.getImportList();
+        if (importList != null) {
+            for (YangImport yangImport : importList) {
+                if (prefix.equals(yangImport.getPrefixId())) {
+                    return yangImport.getImportedNode();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the schema nodes of a module or sub-module tree and of its
+     * augments.
+     *
+     * @param rootNode   root node of module or sub-module
+     * @param moduleName name of the module of the namespace
+     */
+    private void addTree(YangNode rootNode, String moduleName) {
+        addChildren(rootNode, null, moduleName);
+        YangNode child = rootNode.getChild();
+        while (child != null) {
+            if (child instanceof YangAugment) {
+                String targetPath = getTargetPath((YangAugment) child, rootNode);
+                if (targetPath != null) {
+                    addChildren(child, targetPath, moduleName);
+                }
+            }
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * Returns the absolute path of the target node of an augment.
+     *
+     * @param augment  augment node
+     * @param rootNode root node of module or sub-module of the augment
+     * @return absolute path of target node, null if a prefix is not known
+     */
+    private static String getTargetPath(YangAugment augment, YangNode rootNode) {
+        List<YangAtomicPath> targetNodes = augment.getTargetNode();
+        if (targetNodes == null || targetNodes.isEmpty()) {
+            return null;
+        }
+        String path = null;
+        for (YangAtomicPath atomicPath : targetNodes) {
+            YangNode module = getPrefixModule(rootNode, atomicPath.getNodeIdentifier().getPrefix());
+            if (module == null) {
+                return null;
+            }
+            path = getPath(path, module.getName(), atomicPath.getNodeIdentifier().getName());
+        }
+        return path;
+    }
+
+    /**
+     * Adds the schema nodes in the subtree of a node. Typedef, grouping,
+     * uses and other nodes which are not in the schema tree are skipped
+     * with their subtree. When two nodes have the same path, the first one
+     * is kept.
+     *
+     * @param node       parent node
+     * @param parentPath absolute path of parent node, null for root node
+     * @param moduleName name of the module of the namespace
+     */
+    private void addChildren(YangNode node, String parentPath, String moduleName) {
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (isSchemaNode(child)) {
+                String path = getPath(parentPath, moduleName, child.getName());
+                if (!nodes.containsKey(path)) {
+                    nodes.put(path, child);
+                }
+                addChildren(child, path, moduleName);
+            }
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * Returns true if the node is part of the schema tree and can be in
+     * an absolute path.
+     *
+     * @param node YANG node
+     * @return true if node is in the schema tree
+     */
+    private static boolean isSchemaNode(YangNode node) {
+        if (node instanceof YangCase) {
+            return true;
+        }
+        return node.getYangSchemaNodeType() != YANG_NON_DATA_NODE
+                && node.getYangSchemaNodeType() != YANG_AUGMENT_NODE;
+    }
+}
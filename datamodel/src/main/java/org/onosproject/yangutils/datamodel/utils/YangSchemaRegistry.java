@@ -0,0 +1,327 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangRevision;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeIdentifier;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeType;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_AUGMENT_NODE;
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
+
+/**
+ * Represents registry of linked modules and sub-modules, indexed by name,
+ * revision and namespace and by the identifier of their top level schema
+ * nodes. The indexes are held in an immutable snapshot, which is replaced
+ * as a whole when modules are added or removed. Lookups read the current
+ * snapshot without locking and updates are serialized by compare and set,
+ * so models can be loaded and unloaded while requests are being served.
+ * <p>
+ * When a module is registered in more than one revision, the lookups by
+ * name, namespace and top level schema node use its latest revision.
+ */
+public final class YangSchemaRegistry {
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd";
+    private static final String REVISION_SEPARATOR = "@";
+    private static final String NAMESPACE_SEPARATOR = ":";
+
+    private final AtomicReference<Snapshot> snapshot =
+            new AtomicReference<>(new Snapshot(new ArrayList<YangNode>()));
+
+    /**
+     * Adds the module or sub-module to the registry. A registered module
+     * with the same name and revision is replaced.
+     *
+     * @param rootNode root node of linked data model tree
+     */
+    public void addModule(YangNode rootNode) {
+        addModules(Collections.singleton(rootNode));
+    }
+
+    /**
+     * Adds the modules and sub-modules to the registry at once. Registered
+     * modules with the same name and revision are replaced.
+     *
+     * @param rootNodes root nodes of linked data model trees
+     */
+    public void addModules(Collection<YangNode> rootNodes) {
+        Snapshot current;
+        Snapshot updated;
+        do {
+            current = snapshot.get();
+            List<YangNode> modules = new ArrayList<>();
+            for (YangNode module : current.modules) {
+                if (!isReplaced(module, rootNodes)) {
+                    modules.add(module);
+                }
+            }
+            modules.addAll(rootNodes);
+            updated = new Snapshot(modules);
+        } while (!snapshot.compareAndSet(current, updated));
+    }
+
+    /**
+     * Removes the module or sub-module from the registry.
+     *
+     * @param rootNode root node of registered data model tree
+     * @return true if module was registered
+     */
+    public boolean removeModule(YangNode rootNode) {
+        Snapshot current;
+        Snapshot updated;
+        do {
+            current = snapshot.get();
+            List<YangNode> modules = new ArrayList<>();
+            for (YangNode module : current.modules) {
+                if (module != rootNode) {
+                    modules.add(module);
+                }
+            }
+            if (modules.size() == current.modules.size()) {
+                return false;
+            }
+            updated = new Snapshot(modules);
+        } while (!snapshot.compareAndSet(current, updated));
+        return true;
+    }
+
+    /**
+     * Returns the latest revision of the module or sub-module.
+     *
+     * @param name name of module or sub-module
+     * @return root node of module, null if not registered
+     */
+    public YangNode getModule(String name) {
+        return snapshot.get().latestModules.get(name);
+    }
+
+    /**
+     * Returns the given revision of the module or sub-module.
+     *
+     * @param name     name of module or sub-module
+     * @param revision revision date as "yyyy-MM-dd", null for a module
+     *                 without revision
+     * @return root node of module, null if not registered
+     */
+    public YangNode getModule(String name, String revision) {
+        return snapshot.get().revisionModules.get(getRevisionKey(name, revision));
+    }
+
+    /**
+     * Returns the latest revision of the module with the namespace.
+     *
+     * @param namespace namespace of module
+     * @return root node of module, null if not registered
+     */
+    public YangNode getModuleByNamespace(String namespace) {
+        return snapshot.get().namespaceModules.get(namespace);
+    }
+
+    /**
+     * Returns the top level schema node of a module with the namespace.
+     *
+     * @param namespace namespace of module
+     * @param name      name of schema node
+     * @return top level schema node, null if not registered
+     */
+    public YangSchemaNode getTopLevelNode(String namespace, String name) {
+        return snapshot.get().topLevelNodes.get(namespace + NAMESPACE_SEPARATOR + name);
+    }
+
+    /**
+     * Returns the top level schema node with the schema node identifier.
+     *
+     * @param identifier schema node identifier
+     * @return top level schema node, null if not registered
+     */
+    public YangSchemaNode getTopLevelNode(YangSchemaNodeIdentifier identifier) {
+        if (identifier.getNameSpace() == null) {
+            return null;
+        }
+        return getTopLevelNode(identifier.getNameSpace().getModuleNamespace(),
+                               identifier.getName());
+    }
+
+    /**
+     * Returns the registered modules and sub-modules.
+     *
+     * @return root nodes of registered data model trees
+     */
+    public List<YangNode> getModules() {
+        return snapshot.get().modules;
+    }
+
+    /**
+     * Returns the number of registered modules and sub-modules.
+     *
+     * @return number of registered modules
+     */
+    public int size() {
+        return snapshot.get().modules.size();
+    }
+
+    /**
+     * Returns true if the module is replaced by one of the added modules,
+     * which has the same name and revision.
+     *
+     * @param module    registered module
+     * @param rootNodes added modules
+     * @return true if module is replaced
+     */
+    private static boolean isReplaced(YangNode module, Collection<YangNode> rootNodes) {
+        String key = getRevisionKey(module);
+        for (YangNode rootNode : rootNodes) {
+            if (rootNode == module || getRevisionKey(rootNode).equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key of the module for lookup by name and revision.
+     *
+     * @param module root node of data model tree
+     * @return key of module
+     */
+    private static String getRevisionKey(YangNode module) {
+        YangRevision revision = module.getRevision();
+        if (revision == null || revision.getRevDate() == null) {
+            return getRevisionKey(module.getName(), null);
+        }
+        String date = new SimpleDateFormat(DATE_FORMAT).format(revision.getRevDate());
+        return getRevisionKey(module.getName(), date);
+    }
+
+    /**
+     * Returns the key for lookup by name and revision.
+     *
+     * @param name     name of module
+     * @param revision revision date, null if module has no revision
+     * @return key of module
+     */
+    private static String getRevisionKey(String name, String revision) {
+        if (revision == null) {
+            return name;
+        }
+        return name + REVISION_SEPARATOR + revision;
+    }
+
+    /**
+     * Returns true if the first module has a later revision than the second.
+     * A module without revision is older than one with revision.
+     *
+     * @param module      root node of data model tree
+     * @param otherModule root node of data model tree
+     * @return true if first module is later
+     */
+    private static boolean isLaterRevision(YangNode module, YangNode otherModule) {
+        YangRevision revision = module.getRevision();
+        YangRevision otherRevision = otherModule.getRevision();
+        if (revision == null || revision.getRevDate() == null) {
+            return false;
+        }
+        if (otherRevision == null || otherRevision.getRevDate() == null) {
+            return true;
+        }
+        return revision.getRevDate().after(otherRevision.getRevDate());
+    }
+
+    /**
+     * Represents immutable indexes of the registered modules.
+     */
+    private static final class Snapshot {
+
+        private final List<YangNode> modules;
+        private final Map<String, YangNode> revisionModules = new HashMap<>();
+        private final Map<String, YangNode> latestModules = new HashMap<>();
+        private final Map<String, YangNode> namespaceModules = new HashMap<>();
+        private final Map<String, YangSchemaNode> topLevelNodes = new HashMap<>();
+
+        /**
+         * Creates the indexes of the modules. The snapshot is not modified
+         * after creation.
+         *
+         * @param modules root nodes of data model trees
+         */
+        private Snapshot(List<YangNode> modules) {
+            this.modules = Collections.unmodifiableList(modules);
+            for (YangNode module : modules) {
+                revisionModules.put(getRevisionKey(module), module);
+                YangNode latest = latestModules.get(module.getName());
+                if (latest == null || isLaterRevision(module, latest)) {
+                    latestModules.put(module.getName(), module);
+                }
+            }
+            for (YangNode module : latestModules.values()) {
+                String namespace = ((YangNamespace) module).getModuleNamespace();
+                if (module instanceof YangModule) {
+                    namespaceModules.put(namespace, module);
+                }
+                addTopLevelNodes(namespace, module);
+            }
+        }
+
+        /**
+         * Adds the top level schema nodes of the module to the index.
+         *
+         * @param namespace namespace of module
+         * @param module    root node of data model tree
+         */
+        private void addTopLevelNodes(String namespace, YangNode module) {
+            String prefix = namespace + NAMESPACE_SEPARATOR;
+            if (module instanceof YangLeavesHolder) {
+                YangLeavesHolder holder = (YangLeavesHolder) module;
+                if (holder.getListOfLeaf() != null) {
+                    for (YangLeaf leaf : holder.getListOfLeaf()) {
+                        topLevelNodes.put(prefix + leaf.getName(), leaf);
+                    }
+                }
+                if (holder.getListOfLeafList() != null) {
+                    for (YangLeafList leafList : holder.getListOfLeafList()) {
+                        topLevelNodes.put(prefix + leafList.getName(), leafList);
+                    }
+                }
+            }
+            YangNode child = module.getChild();
+            while (child != null) {
+                YangSchemaNodeType type = child.getYangSchemaNodeType();
+                if (type != YANG_NON_DATA_NODE && type != YANG_AUGMENT_NODE) {
+                    topLevelNodes.put(prefix + child.getName(), child);
+                }
+                child = child.getNextSibling();
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangFeature;
+import org.onosproject.yangutils.datamodel.YangFeatureHolder;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangIdentity;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the symbol table of a scope of a data model tree, which maps
+ * the names of the typedefs, groupings and identities defined as children
+ * of the scope node, and for a module or sub-module the names of its
+ * features, to their definitions.
+ * <p>
+ * The table of a node is created on first lookup and is discarded by the
+ * node when its children change, so it always reflects the current tree.
+ * A table is not modified after creation, apart from its lookup counters.
+ */
+public final class YangSymbolTable {
+
+    private final Map<String, YangTypeDef> typeDefs;
+    private final Map<String, YangGrouping> groupings;
+    private final Map<String, YangIdentity> identities;
+    private final Map<String, YangFeature> features;
+    private final int featureListSize;
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Creates the symbol table of the scope node from its children. When
+     * two definitions have the same name, the first one is kept.
+     *
+     * @param scopeNode scope node
+     */
+    public YangSymbolTable(YangNode scopeNode) {
+        Map<String, YangTypeDef> scopeTypeDefs = new HashMap<>();
+        Map<String, YangGrouping> scopeGroupings = new HashMap<>();
+        Map<String, YangIdentity> scopeIdentities = new HashMap<>();
+        YangNode child = scopeNode.getChild();
+        while (child != null) {
+            if (child instanceof YangTypeDef) {
+                putIfAbsent(scopeTypeDefs, child.getName(), (YangTypeDef) child);
+            } else if (child instanceof YangGrouping) {
+                putIfAbsent(scopeGroupings, child.getName(), (YangGrouping) child);
+            } else if (child instanceof YangIdentity) {
+                putIfAbsent(scopeIdentities, child.getName(), (YangIdentity) child);
+            }
+            child = child.getNextSibling();
+        }
+        typeDefs = getMap(scopeTypeDefs);
+        groupings = getMap(scopeGroupings);
+        identities = getMap(scopeIdentities);
+
+        List<YangFeature> featureList = null;
+        if (scopeNode instanceof YangFeatureHolder) {
+            featureList = ((YangFeatureHolder) scopeNode).getFeatureList();
+        }
+        Map<String, YangFeature> scopeFeatures = new HashMap<>();
+        if (featureList != null) {
+            for (YangFeature feature : featureList) {
+                putIfAbsent(scopeFeatures, feature.getName(), feature);
+            }
+        }
+        features = getMap(scopeFeatures);
+        featureListSize = featureList == null ? 0 : featureList.size();
+    }
+
+    /**
+     * Returns the typedef with the name defined in the scope.
+     *
+     * @param name name of typedef
+     * @return typedef, null if not defined
+     */
+    public YangTypeDef getTypeDef(String name) {
+        return count(typeDefs.get(name));
+    }
+
+    /**
+     * Returns the grouping with the name defined in the scope.
+     *
+     * @param name name of grouping
+     * @return grouping, null if not defined
+     */
+    public YangGrouping getGrouping(String name) {
+        return count(groupings.get(name));
+    }
+
+    /**
+     * Returns the identity with the name defined in the scope.
+     *
+     * @param name name of identity
+     * @return identity, null if not defined
+     */
+    public YangIdentity getIdentity(String name) {
+        return count(identities.get(name));
+    }
+
+    /**
+     * Returns the feature with the name defined in the scope.
+     *
+     * @param name name of feature
+     * @return feature, null if not defined
+     */
+    public YangFeature getFeature(String name) {
+        return count(features.get(name));
+    }
+
+    /**
+     * Returns true if the table is built from the current feature list of
+     * the scope node. Features are not children of the scope node, hence a
+     * change in them is detected from the size of the list.
+     *
+     * @param scopeNode scope node
+     * @return true if features of table are current
+     */
+    public boolean isFeatureListCurrent(YangNode scopeNode) {
+        List<YangFeature> featureList = null;
+        if (scopeNode instanceof YangFeatureHolder) {
+            featureList = ((YangFeatureHolder) scopeNode).getFeatureList();
+        }
+        return featureListSize == (featureList == null ? 0 : featureList.size());
+    }
+
+    /**
+     * Returns the number of definitions in the table.
+     *
+     * @return number of definitions
+     */
+    public int getSymbolCount() {
+        return typeDefs.size() + groupings.size() + identities.size() + features.size();
+    }
+
+    /**
+     * Returns the number of lookups in the table.
+     *
+     * @return number of lookups
+     */
+    public long getLookupCount() {
+        return lookupCount.get();
+    }
+
+    /**
+     * Returns the number of lookups which found the definition.
+     *
+     * @return number of successful lookups
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Counts the lookup and returns the definition found.
+     *
+     * @param definition definition found, null if none
+     * @param <T>        type of definition
+     * @return definition found
+     */
+    private <T> T count(T definition) {
+        lookupCount.incrementAndGet();
+        if (definition != null) {
+            hitCount.incrementAndGet();
+        }
+        return definition;
+    }
+
+    /**
+     * Adds the definition to the map, unless the name is already mapped.
+     *
+     * @param map        map of definitions
+     * @param name       name of definition
+     * @param definition definition
+     * @param <T>        type of definition
+     */
+    private static <T> void putIfAbsent(Map<String, T> map, String name, T definition) {
+        if (name != null && !map.containsKey(name)) {
+            map.put(name, definition);
+        }
+    }
+
+    /**
+     * Returns the unmodifiable map, sharing the empty map.
+     *
+     * @param map map of definitions
+     * @param <T> type of definition
+     * @return unmodifiable map
+     */
+    private static <T> Map<String, T> getMap(Map<String, T> map) {
+        if (map.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
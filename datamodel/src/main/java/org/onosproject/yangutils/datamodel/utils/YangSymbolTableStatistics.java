@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangNode;
+
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+
+/**
+ * Represents the statistics of the symbol tables created in data model
+ * trees while resolving references, which show how many scopes and
+ * definitions the lookups of a model go through and how many of them
+ * succeed.
+ */
+public final class YangSymbolTableStatistics {
+
+    private int scopeCount;
+    private int symbolCount;
+    private long lookupCount;
+    private long hitCount;
+
+    /**
+     * Creates the statistics of the symbol tables created in the data model
+     * trees.
+     *
+     * @param yangNodeSet set of root nodes of data model trees
+     */
+    public YangSymbolTableStatistics(Set<YangNode> yangNodeSet) {
+        for (YangNode rootNode : yangNodeSet) {
+            addTree(rootNode);
+        }
+    }
+
+    /**
+     * Returns the number of scopes having a symbol table.
+     *
+     * @return number of scopes
+     */
+    public int getScopeCount() {
+        return scopeCount;
+    }
+
+    /**
+     * Returns the number of definitions in the symbol tables.
+     *
+     * @return number of definitions
+     */
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    /**
+     * Returns the number of lookups in the symbol tables.
+     *
+     * @return number of lookups
+     */
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Returns the number of lookups which found the definition.
+     *
+     * @return number of successful lookups
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Adds the symbol tables of the nodes of a data model tree.
+     *
+     * @param rootNode root node of data model tree
+     */
+    private void addTree(YangNode rootNode) {
+        addNode(rootNode);
+        YangNode curNode = rootNode.getChild();
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null && curNode != rootNode) {
+            if (curTraversal != PARENT) {
+                addNode(curNode);
+            }
+            if (curTraversal != PARENT && curNode.getChild() != null) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+    }
+
+    /**
+     * Adds the symbol table of the node, if it is created.
+     *
+     * @param node YANG node
+     */
+    private void addNode(YangNode node) {
+        YangSymbolTable symbolTable = node.getCreatedSymbolTable();
+        if (symbolTable == null) {
+            return;
+        }
+        scopeCount++;
+        symbolCount += symbolTable.getSymbolCount();
+        lookupCount += symbolTable.getLookupCount();
+        hitCount += symbolTable.getHitCount();
+    }
+}
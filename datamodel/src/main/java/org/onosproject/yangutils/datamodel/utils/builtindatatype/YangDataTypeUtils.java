@@ -16,6 +16,8 @@
 
 package org.onosproject.yangutils.datamodel.utils.builtindatatype;
 
+import java.math.BigInteger;
+
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT16;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT32;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT64;
@@ -30,6 +32,14 @@ import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangData
  */
 public final class YangDataTypeUtils {
 
+    private static final String MIN_KEYWORD = "min";
+    private static final String MAX_KEYWORD = "max";
+
+    /*
+     * Maximum count of decimal digits which always fits in a long.
+     */
+    private static final int MAX_LONG_SAFE_DIGITS = 18;
+
     /**
      * Restricts creation of YANG data type utils instance.
      */
@@ -52,4 +62,146 @@ public final class YangDataTypeUtils {
                 || dataType == UINT32
                 || dataType == UINT64;
     }
+
+    /**
+     * Returns whether the value represented in string is a valid value of
+     * the integer built-in type. It accepts the same input as the built-in
+     * type's string constructor, but indicates an invalid value without
+     * raising exception.
+     *
+     * @param valueInString value represented in string
+     * @param dataType      integer built-in data type
+     * @return true, if value is valid for the data type, false otherwise
+     */
+    public static boolean isValidIntegerString(String valueInString,
+                                               YangDataTypes dataType) {
+        if (valueInString.equals(MIN_KEYWORD) || valueInString.equals(MAX_KEYWORD)) {
+            return true;
+        }
+
+        int length = valueInString.length();
+        int index = 0;
+        if (length > 0 && (valueInString.charAt(0) == '-'
+                || valueInString.charAt(0) == '+')) {
+            index = 1;
+        }
+        if (index == length) {
+            return false;
+        }
+        for (int i = index; i < length; i++) {
+            char digit = valueInString.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+
+        if (dataType == UINT64) {
+            BigInteger value = new BigInteger(valueInString);
+            return value.compareTo(YangUint64.MIN_VALUE) >= 0
+                    && value.compareTo(YangUint64.MAX_VALUE) <= 0;
+        }
+
+        if (!isOfRangeRestrictedType(dataType)) {
+            return false;
+        }
+        long minValue = getMinValue(dataType);
+        long maxValue = getMaxValue(dataType);
+
+        if (length - index > MAX_LONG_SAFE_DIGITS) {
+            BigInteger value = new BigInteger(valueInString);
+            return value.compareTo(BigInteger.valueOf(minValue)) >= 0
+                    && value.compareTo(BigInteger.valueOf(maxValue)) <= 0;
+        }
+        long value = Long.parseLong(valueInString);
+        return value >= minValue && value <= maxValue;
+    }
+
+    /**
+     * Returns the canonical lexical form of the value of the integer
+     * built-in type, which is the decimal value without the sign "+" and
+     * without leading zeros. The value must be valid for the data type,
+     * "min" and "max" are replaced by the bounds of the data type.
+     *
+     * @param valueInString valid value represented in string
+     * @param dataType      integer built-in data type
+     * @return canonical value
+     */
+    public static String getCanonicalIntegerString(String valueInString,
+                                                   YangDataTypes dataType) {
+        if (valueInString.equals(MIN_KEYWORD)) {
+            return dataType == UINT64 ? YangUint64.MIN_VALUE.toString() :
+                    String.valueOf(getMinValue(dataType));
+        }
+        if (valueInString.equals(MAX_KEYWORD)) {
+            return dataType == UINT64 ? YangUint64.MAX_VALUE.toString() :
+                    String.valueOf(getMaxValue(dataType));
+        }
+
+        int length = valueInString.length();
+        boolean isNegative = valueInString.charAt(0) == '-';
+        int index = isNegative || valueInString.charAt(0) == '+' ? 1 : 0;
+        while (index < length - 1 && valueInString.charAt(index) == '0') {
+            index++;
+        }
+        if (valueInString.charAt(index) == '0') {
+            return "0";
+        }
+        if (index == (isNegative ? 1 : 0)) {
+            return valueInString;
+        }
+        String digits = valueInString.substring(index);
+        return isNegative ? "-" + digits : digits;
+    }
+
+    /**
+     * Returns the minimum value of the integer built-in type other than
+     * uint64.
+     *
+     * @param dataType integer built-in data type
+     * @return minimum value
+     */
+    private static long getMinValue(YangDataTypes dataType) {
+        switch (dataType) {
+            case INT8:
+                return YangInt8.MIN_VALUE;
+            case INT16:
+                return YangInt16.MIN_VALUE;
+            case INT32:
+                return YangInt32.MIN_VALUE;
+            case INT64:
+                return YangInt64.MIN_VALUE;
+            case UINT8:
+                return YangUint8.MIN_VALUE;
+            case UINT16:
+                return YangUint16.MIN_VALUE;
+            default:
+                return YangUint32.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Returns the maximum value of the integer built-in type other than
+     * uint64.
+     *
+     * @param dataType integer built-in data type
+     * @return maximum value
+     */
+    private static long getMaxValue(YangDataTypes dataType) {
+        switch (dataType) {
+            case INT8:
+                return YangInt8.MAX_VALUE;
+            case INT16:
+                return YangInt16.MAX_VALUE;
+            case INT32:
+                return YangInt32.MAX_VALUE;
+            case INT64:
+                return YangInt64.MAX_VALUE;
+            case UINT8:
+                return YangUint8.MAX_VALUE;
+            case UINT16:
+                return YangUint16.MAX_VALUE;
+            default:
+                return YangUint32.MAX_VALUE;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents axis of location step of XPath expression.
+ */
+enum XPathAxis {
+
+    /**
+     * Child nodes of a schema node, the step is a name test.
+     */
+    CHILD,
+
+    /**
+     * The node itself, the step is ".".
+     */
+    SELF,
+
+    /**
+     * Parent node, the step is "..".
+     */
+    PARENT
+}
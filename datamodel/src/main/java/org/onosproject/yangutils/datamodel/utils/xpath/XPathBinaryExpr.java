@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents binary operation of XPath expression.
+ */
+final class XPathBinaryExpr extends XPathExpr {
+
+    private final XPathOperator operator;
+    private final XPathExpr left;
+    private final XPathExpr right;
+
+    /**
+     * Creates a binary operation expression.
+     *
+     * @param operator operator
+     * @param left     left operand expression
+     * @param right    right operand expression
+     */
+    XPathBinaryExpr(XPathOperator operator, XPathExpr left, XPathExpr right) {
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    <N> Object evaluate(XPathContext<N> context, N contextNode) {
+        switch (operator) {
+            case OR:
+                return context.toBoolean(left.evaluate(context, contextNode))
+                        || context.toBoolean(right.evaluate(context, contextNode));
+            case AND:
+                return context.toBoolean(left.evaluate(context, contextNode))
+                        && context.toBoolean(right.evaluate(context, contextNode));
+            case UNION:
+                return union(left.evaluate(context, contextNode), right.evaluate(context, contextNode));
+            case PLUS:
+            case MINUS:
+            case MULTIPLY:
+            case DIV:
+            case MOD:
+                return calculate(context.toNumber(left.evaluate(context, contextNode)),
+                                 context.toNumber(right.evaluate(context, contextNode)));
+            default:
+                return compare(context, left.evaluate(context, contextNode),
+                               right.evaluate(context, contextNode));
+        }
+    }
+
+    /**
+     * Returns the union of node-sets, a value which is not a node-set is
+     * taken as empty.
+     *
+     * @param leftValue  left node-set
+     * @param rightValue right node-set
+     * @param <N>        type of data tree node
+     * @return union of node-sets
+     */
+    private static <N> List<N> union(Object leftValue, Object rightValue) {
+        List<N> nodes = new ArrayList<>();
+        if (leftValue instanceof List) {
+            nodes.addAll((List<N>) leftValue);
+        }
+        if (rightValue instanceof List) {
+            for (N node : (List<N>) rightValue) {
+                if (!XPathPathExpr.containsNode(nodes, node)) {
+                    nodes.add(node);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the result of arithmetic operation.
+     *
+     * @param leftValue  left operand
+     * @param rightValue right operand
+     * @return result of operation
+     */
+    private double calculate(double leftValue, double rightValue) {
+        switch (operator) {
+            case PLUS:
+                return leftValue + rightValue;
+            case MINUS:
+                return leftValue - rightValue;
+            case MULTIPLY:
+                return leftValue * rightValue;
+            case DIV:
+                return leftValue / rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+
+    /**
+     * Returns the result of comparison as per XPath. A node-set compared with
+     * other value is true if a node in the node-set satisfies the comparison.
+     *
+     * @param context    evaluation context
+     * @param leftValue  left operand
+     * @param rightValue right operand
+     * @param <N>        type of data tree node
+     * @return result of comparison
+     */
+    private <N> boolean compare(XPathContext<N> context, Object leftValue, Object rightValue) {
+        if (leftValue instanceof List && rightValue instanceof List) {
+            for (N leftNode : (List<N>) leftValue) {
+                String leftString = context.getNodeValue(leftNode);
+                for (N rightNode : (List<N>) rightValue) {
+                    if (compareValues(context, leftString, context.getNodeValue(rightNode))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        if (leftValue instanceof List) {
+            if (rightValue instanceof Boolean) {
+                return compareValues(context, context.toBoolean(leftValue), rightValue);
+            }
+            for (N leftNode : (List<N>) leftValue) {
+                if (compareValues(context, context.getNodeValue(leftNode), rightValue)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (rightValue instanceof List) {
+            if (leftValue instanceof Boolean) {
+                return compareValues(context, leftValue, context.toBoolean(rightValue));
+            }
+            for (N rightNode : (List<N>) rightValue) {
+                if (compareValues(context, leftValue, context.getNodeValue(rightNode))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return compareValues(context, leftValue, rightValue);
+    }
+
+    /**
+     * Returns the result of comparison of values which are not node-sets.
+     *
+     * @param context    evaluation context
+     * @param leftValue  left operand
+     * @param rightValue right operand
+     * @return result of comparison
+     */
+    private boolean compareValues(XPathContext<?> context, Object leftValue, Object rightValue) {
+        if (operator == XPathOperator.EQUAL || operator == XPathOperator.NOT_EQUAL) {
+            boolean isEqual;
+            if (leftValue instanceof Boolean || rightValue instanceof Boolean) {
+                isEqual = context.toBoolean(leftValue) == context.toBoolean(rightValue);
+            } else if (leftValue instanceof Double || rightValue instanceof Double) {
+                isEqual = context.toNumber(leftValue) == context.toNumber(rightValue);
+            } else {
+                isEqual = leftValue.equals(rightValue);
+            }
+            return operator == XPathOperator.EQUAL ? isEqual : !isEqual;
+        }
+
+        double leftNumber = context.toNumber(leftValue);
+        double rightNumber = context.toNumber(rightValue);
+        switch (operator) {
+            case LESS_THAN:
+                return leftNumber < rightNumber;
+            case LESS_THAN_OR_EQUAL:
+                return leftNumber <= rightNumber;
+            case GREATER_THAN:
+                return leftNumber > rightNumber;
+            default:
+                return leftNumber >= rightNumber;
+        }
+    }
+}
@@ -0,0 +1,611 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.findChild;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getDataParent;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getModuleName;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getModuleTrees;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getRootNode;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getYangNode;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.hasDeferredUses;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.COMMA;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.DOT;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.DOUBLE_DOT;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.END;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.LEFT_BRACKET;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.LEFT_PARENTHESIS;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.NAME;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.OPERATOR;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.RIGHT_BRACKET;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.RIGHT_PARENTHESIS;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.SLASH;
+
+/**
+ * Represents compiler of XPath expression of YANG must and when statements
+ * into evaluation tree. It supports the subset of XPath 1.0 used in YANG
+ * constraints:
+ * <ul>
+ * <li>absolute and relative location paths with child name tests, "." and
+ * "..", with predicates;</li>
+ * <li>paths starting from current();</li>
+ * <li>or, and, =, !=, &lt;, &lt;=, &gt;, &gt;=, +, -, *, div, mod, unary
+ * minus and union;</li>
+ * <li>string literals and numbers;</li>
+ * <li>functions current, count, not, true, false, boolean, number, string,
+ * concat, contains, starts-with and string-length.</li>
+ * </ul>
+ * Name tests are resolved to schema nodes, so it is to be used on linked
+ * data model.
+ */
+public final class XPathCompiler {
+
+    private static final String PREFIX_SEPARATOR = ":";
+
+    private final String expression;
+    private final List<XPathToken> tokens;
+    private final YangSchemaNode contextSchemaNode;
+    private final YangNode moduleNode;
+    private final Map<String, YangNode> prefixModules = new HashMap<>();
+    private int index;
+
+    /*
+     * Schema node relative to which the location path is resolved, null for
+     * root node. It is the context node of expression, or the step node
+     * inside predicates.
+     */
+    private YangSchemaNode stepSchemaNode;
+
+    /**
+     * Creates a compiler of the expression.
+     *
+     * @param expression    XPath expression
+     * @param tokens        tokens of expression
+     * @param contextNode   schema node of the context node of expression
+     * @param statementNode schema node holding the expression
+     */
+    private XPathCompiler(String expression, List<XPathToken> tokens, YangSchemaNode contextNode,
+                          YangSchemaNode statementNode) {
+        this.expression = expression;
+        this.tokens = tokens;
+        moduleNode = addPrefixModules(getRootNode(getYangNode(statementNode)));
+        contextSchemaNode = contextNode == getRootNode(getYangNode(contextNode)) ? null : contextNode;
+        stepSchemaNode = contextSchemaNode;
+    }
+
+    /**
+     * Compiles the XPath expression. The prefixes are resolved from the
+     * module of the context node, and the location paths are resolved
+     * relative to it.
+     *
+     * @param expression  XPath expression
+     * @param contextNode schema node of the context node of expression, or
+     *                    the module node if context is the root node
+     * @return compiled expression
+     * @throws DataModelException if expression is invalid, is not in the
+     *                            supported subset or refers unknown node
+     */
+    public static YangXPathExpression compile(String expression, YangSchemaNode contextNode)
+            throws DataModelException {
+        return compile(expression, contextNode, contextNode);
+    }
+
+    /**
+     * Compiles the XPath expression of a must or when statement. The
+     * prefixes, and the module of unprefixed names, are resolved from the
+     * module in which the statement is defined, and the location paths are
+     * resolved relative to the context node.
+     *
+     * @param expression    XPath expression
+     * @param contextNode   schema node of the context node of expression, or
+     *                      the module node if context is the root node
+     * @param statementNode schema node holding the statement
+     * @return compiled expression
+     * @throws DataModelException if expression is invalid, is not in the
+     *                            supported subset or refers unknown node
+     */
+    public static YangXPathExpression compile(String expression, YangSchemaNode contextNode,
+                                              YangSchemaNode statementNode)
+            throws DataModelException {
+        XPathCompiler compiler = new XPathCompiler(expression, XPathTokenizer.tokenize(expression),
+                                                   contextNode, statementNode);
+        XPathExpr root = compiler.parseOr();
+        compiler.expect(END);
+        return new YangXPathExpression(expression, root);
+    }
+
+    /**
+     * Adds the module of each prefix usable in the module of root node.
+     *
+     * @param rootNode root node of data model tree
+     * @return module of root node, or the module it belongs to
+     */
+    private YangNode addPrefixModules(YangNode rootNode) {
+        YangNode ownModule = rootNode;
+        List<YangImport> importList = null;
+        if (rootNode instanceof YangModule) {
+            prefixModules.put(((YangModule) rootNode).getPrefix(), rootNode);
+            importList = ((YangModule) rootNode).getImportList();
+        } else if (rootNode instanceof YangSubModule) {
+            YangSubModule subModule = (YangSubModule) rootNode;
+            if (subModule.getBelongsTo() != null) {
+                if (subModule.getBelongsTo().getModuleNode() != null) {
+                    ownModule = subModule.getBelongsTo().getModuleNode();
+                }
+                prefixModules.put(subModule.getBelongsTo().getPrefix(), ownModule);
+            }
+            importList = subModule.getImportList();
+        }
+        if (importList != null) {
+            for (YangImport yangImport : importList) {
+                if (yangImport.getImportedNode() != null) {
+                    prefixModules.put(yangImport.getPrefixId(), yangImport.getImportedNode());
+                }
+            }
+        }
+        return ownModule;
+    }
+
+    /**
+     * Parses or expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseOr() throws DataModelException {
+        XPathExpr expr = parseAnd();
+        while (isOperator(XPathOperator.OR)) {
+            next();
+            expr = new XPathBinaryExpr(XPathOperator.OR, expr, parseAnd());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses and expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseAnd() throws DataModelException {
+        XPathExpr expr = parseEquality();
+        while (isOperator(XPathOperator.AND)) {
+            next();
+            expr = new XPathBinaryExpr(XPathOperator.AND, expr, parseEquality());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses equality expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseEquality() throws DataModelException {
+        XPathExpr expr = parseRelational();
+        while (isOperator(XPathOperator.EQUAL) || isOperator(XPathOperator.NOT_EQUAL)) {
+            XPathOperator operator = XPathOperator.of(next().getText());
+            expr = new XPathBinaryExpr(operator, expr, parseRelational());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses relational expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseRelational() throws DataModelException {
+        XPathExpr expr = parseAdditive();
+        while (isOperator(XPathOperator.LESS_THAN) || isOperator(XPathOperator.LESS_THAN_OR_EQUAL)
+                || isOperator(XPathOperator.GREATER_THAN) || isOperator(XPathOperator.GREATER_THAN_OR_EQUAL)) {
+            XPathOperator operator = XPathOperator.of(next().getText());
+            expr = new XPathBinaryExpr(operator, expr, parseAdditive());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses additive expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseAdditive() throws DataModelException {
+        XPathExpr expr = parseMultiplicative();
+        while (isOperator(XPathOperator.PLUS) || isOperator(XPathOperator.MINUS)) {
+            XPathOperator operator = XPathOperator.of(next().getText());
+            expr = new XPathBinaryExpr(operator, expr, parseMultiplicative());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses multiplicative expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseMultiplicative() throws DataModelException {
+        XPathExpr expr = parseUnary();
+        while (isOperator(XPathOperator.MULTIPLY) || isOperator(XPathOperator.DIV)
+                || isOperator(XPathOperator.MOD)) {
+            XPathOperator operator = XPathOperator.of(next().getText());
+            expr = new XPathBinaryExpr(operator, expr, parseUnary());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses unary minus expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parseUnary() throws DataModelException {
+        if (isOperator(XPathOperator.MINUS)) {
+            next();
+            return new XPathNegateExpr(parseUnary());
+        }
+        XPathExpr expr = parsePath();
+        while (isOperator(XPathOperator.UNION)) {
+            next();
+            expr = new XPathBinaryExpr(XPathOperator.UNION, expr, parsePath());
+        }
+        return expr;
+    }
+
+    /**
+     * Parses path expression, which is a location path, a primary
+     * expression or a path starting from current().
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parsePath() throws DataModelException {
+        XPathToken token = peek();
+        switch (token.getType()) {
+            case SLASH: {
+                next();
+                XPathStep[] steps = new XPathStep[0];
+                if (isStepStart()) {
+                    steps = parseSteps(null);
+                }
+                return new XPathPathExpr(true, null, steps);
+            }
+            case NAME:
+            case DOT:
+            case DOUBLE_DOT:
+                return new XPathPathExpr(false, null, parseSteps(stepSchemaNode));
+            default:
+                break;
+        }
+
+        XPathExpr primary = parsePrimary();
+        if (peek().getType() == LEFT_BRACKET) {
+            throw getUnsupportedError("predicate on expression is not supported", peek().getPosition());
+        }
+        if (peek().getType() != SLASH) {
+            return primary;
+        }
+        if (!(primary instanceof XPathFunctionExpr)
+                || ((XPathFunctionExpr) primary).getFunction() != XPathFunction.CURRENT) {
+            throw getUnsupportedError("path is supported only from current()", token.getPosition());
+        }
+        next();
+        return new XPathPathExpr(false, primary, parseSteps(contextSchemaNode));
+    }
+
+    /**
+     * Parses primary expression.
+     *
+     * @return compiled expression
+     * @throws DataModelException if expression is not valid
+     */
+    private XPathExpr parsePrimary() throws DataModelException {
+        XPathToken token = next();
+        switch (token.getType()) {
+            case LITERAL:
+                return new XPathConstantExpr(token.getText());
+            case NUMBER:
+                return new XPathConstantExpr(Double.valueOf(token.getText()));
+            case LEFT_PARENTHESIS: {
+                XPathExpr expr = parseOr();
+                expect(RIGHT_PARENTHESIS);
+                return expr;
+            }
+            case FUNCTION_NAME:
+                return parseFunction(token);
+            default:
+                throw getError("unexpected \"" + token.getText() + "\"", token.getPosition());
+        }
+    }
+
+    /**
+     * Parses function call.
+     *
+     * @param token function name token
+     * @return compiled expression
+     * @throws DataModelException if function is not supported or arguments
+     *                            are not valid
+     */
+    private XPathExpr parseFunction(XPathToken token) throws DataModelException {
+        XPathFunction function = XPathFunction.of(token.getText());
+        if (function == null) {
+            throw getUnsupportedError("function " + token.getText() + "() is not supported", token.getPosition());
+        }
+        expect(LEFT_PARENTHESIS);
+        List<XPathExpr> arguments = new ArrayList<>();
+        if (peek().getType() != RIGHT_PARENTHESIS) {
+            arguments.add(parseOr());
+            while (peek().getType() == COMMA) {
+                next();
+                arguments.add(parseOr());
+            }
+        }
+        expect(RIGHT_PARENTHESIS);
+        if (!function.isValidArgumentCount(arguments.size())) {
+            throw getError("invalid number of arguments for " + token.getText() + "()",
+                           token.getPosition());
+        }
+        return new XPathFunctionExpr(function, arguments.toArray(new XPathExpr[arguments.size()]));
+    }
+
+    /**
+     * Parses relative location path and resolves its steps in schema.
+     *
+     * @param startNode schema node from which path starts, null for root
+     * @return location steps
+     * @throws DataModelException if path is not valid
+     */
+    private XPathStep[] parseSteps(YangSchemaNode startNode) throws DataModelException {
+        List<XPathStep> steps = new ArrayList<>();
+        YangSchemaNode schemaNode = startNode;
+        while (true) {
+            XPathToken token = next();
+            switch (token.getType()) {
+                case DOT:
+                    steps.add(new XPathStep(XPathAxis.SELF, null, new XPathExpr[0]));
+                    break;
+                case DOUBLE_DOT:
+                    if (schemaNode == null) {
+                        throw getError("path goes beyond root node", token.getPosition());
+                    }
+                    schemaNode = getDataParent(schemaNode);
+                    steps.add(new XPathStep(XPathAxis.PARENT, null, new XPathExpr[0]));
+                    break;
+                case NAME:
+                    schemaNode = resolveChild(schemaNode, token);
+                    steps.add(new XPathStep(XPathAxis.CHILD, schemaNode, parsePredicates(schemaNode)));
+                    break;
+                default:
+                    throw getError("location step expected", token.getPosition());
+            }
+            if (peek().getType() != SLASH) {
+                return steps.toArray(new XPathStep[steps.size()]);
+            }
+            next();
+        }
+    }
+
+    /**
+     * Parses predicates of location step.
+     *
+     * @param schemaNode schema node of the step
+     * @return predicate expressions
+     * @throws DataModelException if predicate is not valid
+     */
+    private XPathExpr[] parsePredicates(YangSchemaNode schemaNode) throws DataModelException {
+        List<XPathExpr> predicates = new ArrayList<>();
+        YangSchemaNode outerStepNode = stepSchemaNode;
+        stepSchemaNode = schemaNode;
+        while (peek().getType() == LEFT_BRACKET) {
+            next();
+            predicates.add(parseOr());
+            expect(RIGHT_BRACKET);
+        }
+        stepSchemaNode = outerStepNode;
+        return predicates.toArray(new XPathExpr[predicates.size()]);
+    }
+
+    /**
+     * Resolves the name test to the child schema node.
+     *
+     * @param parentNode schema node of parent, null for root node
+     * @param token      name token
+     * @return schema node of child
+     * @throws DataModelException if prefix or child is not found
+     */
+    private YangSchemaNode resolveChild(YangSchemaNode parentNode, XPathToken token)
+            throws DataModelException {
+        String name = token.getText();
+        YangNode childModule = null;
+        int separatorIndex = name.indexOf(PREFIX_SEPARATOR);
+        if (separatorIndex > 0) {
+            String prefix = name.substring(0, separatorIndex);
+            childModule = prefixModules.get(prefix);
+            if (childModule == null) {
+                throw getError("prefix " + prefix + " is not imported", token.getPosition());
+            }
+            name = name.substring(separatorIndex + 1);
+        }
+
+        YangSchemaNode childNode = null;
+        if (parentNode == null) {
+            // Top level node, by default of the module of expression.
+            YangNode module = childModule == null ? moduleNode : childModule;
+            String moduleName = getModuleName(module);
+            for (YangNode tree : getModuleTrees(module)) {
+                childNode = findChild(tree, name, moduleName);
+                if (childNode != null) {
+                    break;
+                }
+            }
+        } else if (parentNode instanceof YangNode) {
+            childNode = findChild((YangNode) parentNode, name,
+                                  childModule == null ? null : getModuleName(childModule));
+        }
+
+        if (childNode == null) {
+            if (isInDeferredUses(parentNode, childModule)) {
+                throw getUnsupportedError("node " + token.getText() + " may be in a uses not yet expanded",
+                                          token.getPosition());
+            }
+            throw getError("node " + token.getText() + " is not found", token.getPosition());
+        }
+        return childNode;
+    }
+
+    /**
+     * Returns whether the next token starts a location step.
+     *
+     * @return true if next token starts a location step
+     */
+    private boolean isStepStart() {
+        XPathTokenType type = peek().getType();
+        return type == NAME || type == DOT || type == DOUBLE_DOT;
+    }
+
+    /**
+     * Returns whether the next token is the operator.
+     *
+     * @param operator operator
+     * @return true if next token is the operator
+     */
+    private boolean isOperator(XPathOperator operator) {
+        return peek().getType() == OPERATOR && XPathOperator.of(peek().getText()) == operator;
+    }
+
+    /**
+     * Returns the next token without consuming it.
+     *
+     * @return next token
+     */
+    private XPathToken peek() {
+        return tokens.get(index);
+    }
+
+    /**
+     * Consumes and returns the next token.
+     *
+     * @return next token
+     */
+    private XPathToken next() {
+        XPathToken token = tokens.get(index);
+        if (token.getType() != END) {
+            index++;
+        }
+        return token;
+    }
+
+    /**
+     * Consumes the next token which is expected to be of the type.
+     *
+     * @param type expected type of token
+     * @throws DataModelException if next token is not of the type
+     */
+    private void expect(XPathTokenType type) throws DataModelException {
+        XPathToken token = next();
+        if (token.getType() != type) {
+            throw getError(token.getType() == END ? "unexpected end of expression"
+                                   : "unexpected \"" + token.getText() + "\"", token.getPosition());
+        }
+    }
+
+    /**
+     * Returns the error for the expression.
+     *
+     * @param expression XPath expression
+     * @param message    error message
+     * @param position   position of error
+     * @return data model exception
+     */
+    static DataModelException getError(String expression, String message, int position) {
+        return new DataModelException("YANG file error : Invalid XPath expression \"" + expression
+                                              + "\", " + message + " at position " + position + ".");
+    }
+
+    /**
+     * Returns the error for the expression which is not supported.
+     *
+     * @param expression XPath expression
+     * @param message    error message
+     * @param position   position of error
+     * @return XPath unsupported exception
+     */
+    static XPathUnsupportedException getUnsupportedError(String expression, String message, int position) {
+        return new XPathUnsupportedException("YANG file error : Unsupported XPath expression \"" + expression
+                                                     + "\", " + message + " at position " + position + ".");
+    }
+
+    /**
+     * Returns the error for the expression being compiled.
+     *
+     * @param message  error message
+     * @param position position of error
+     * @return data model exception
+     */
+    private DataModelException getError(String message, int position) {
+        return getError(expression, message, position);
+    }
+
+    /**
+     * Returns the error for the expression being compiled which is not
+     * supported.
+     *
+     * @param message  error message
+     * @param position position of error
+     * @return XPath unsupported exception
+     */
+    private XPathUnsupportedException getUnsupportedError(String message, int position) {
+        return getUnsupportedError(expression, message, position);
+    }
+
+    /**
+     * Returns whether a child not found under the parent may be added by a
+     * uses whose expansion is deferred.
+     *
+     * @param parentNode  schema node of parent, null for root node
+     * @param childModule module of the child, null for module of expression
+     * @return true if parent has a uses not yet expanded
+     */
+    private boolean isInDeferredUses(YangSchemaNode parentNode, YangNode childModule) {
+        if (parentNode == null) {
+            for (YangNode tree : getModuleTrees(childModule == null ? moduleNode : childModule)) {
+                if (hasDeferredUses(tree)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return parentNode instanceof YangNode && hasDeferredUses((YangNode) parentNode);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.LocationInfo;
+import org.onosproject.yangutils.datamodel.TraversalType;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangMust;
+import org.onosproject.yangutils.datamodel.YangMustHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.YangWhen;
+import org.onosproject.yangutils.datamodel.YangWhenHolder;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
+import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
+import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getDataNode;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getRootNode;
+
+/**
+ * Represents compiler of the must and when statements of linked data model
+ * trees. The compiled expression is set in the must or when, it is not set
+ * if the expression is not in the subset supported by the XPath compiler
+ * or refers nodes of a uses not yet expanded. Any other error in the
+ * expression, such as invalid syntax, prefix not imported or node not
+ * found, is reported with the location of the must or when.
+ * <p>
+ * Must and when copied from grouping are shared by the copies. As the
+ * expression is compiled relative to the context node, the must and when
+ * record the context node they are compiled for, and one compiled for other
+ * context node is copied for the holder being compiled. Hence compilers
+ * of different linking runs do not rebind the must and when compiled by
+ * previous runs.
+ */
+public final class XPathConstraintCompiler {
+
+    /**
+     * Number of expressions compiled.
+     */
+    private int compiledCount;
+
+    /**
+     * Number of expressions not supported by the XPath compiler.
+     */
+    private int unsupportedCount;
+
+    /**
+     * Compiles the must and when statements of the data model trees.
+     *
+     * @param yangNodeSet set of root nodes of data model trees
+     * @throws DataModelException if an expression is not valid
+     */
+    public void compileConstraints(Set<YangNode> yangNodeSet) throws DataModelException {
+        for (YangNode rootNode : yangNodeSet) {
+            compileConstraints(rootNode);
+        }
+    }
+
+    /**
+     * Returns number of expressions compiled.
+     *
+     * @return number of expressions compiled
+     */
+    public int getCompiledCount() {
+        return compiledCount;
+    }
+
+    /**
+     * Returns number of expressions which are not supported by the XPath
+     * compiler, hence not compiled.
+     *
+     * @return number of expressions not compiled
+     */
+    public int getUnsupportedCount() {
+        return unsupportedCount;
+    }
+
+    /**
+     * Compiles the must and when statements of the data model tree. The
+     * groupings are skipped, as their contents are compiled where they are
+     * used.
+     *
+     * @param rootNode root node of data model tree
+     * @throws DataModelException if an expression is not valid
+     */
+    public void compileConstraints(YangNode rootNode) throws DataModelException {
+        YangNode curNode = rootNode.getChild();
+        TraversalType curTraversal = CHILD;
+
+        while (curNode != null && curNode != rootNode) {
+            boolean isGrouping = curNode instanceof YangGrouping;
+            if (curTraversal != PARENT && !isGrouping) {
+                compileNodeConstraints(curNode);
+            }
+            if (curTraversal != PARENT && !isGrouping && curNode.getChild() != null) {
+                curTraversal = CHILD;
+                curNode = curNode.getChild();
+            } else if (curNode.getNextSibling() != null) {
+                curTraversal = SIBILING;
+                curNode = curNode.getNextSibling();
+            } else {
+                curTraversal = PARENT;
+                curNode = curNode.getParent();
+            }
+        }
+    }
+
+    /**
+     * Compiles the must and when statements of the node and of the leaves
+     * held by it.
+     *
+     * @param node YANG node
+     * @throws DataModelException if an expression is not valid
+     */
+    private void compileNodeConstraints(YangNode node) throws DataModelException {
+        if (node instanceof YangMustHolder) {
+            compileMustList((YangMustHolder) node, node, node);
+        }
+        if (node instanceof YangWhenHolder) {
+            compileWhen((YangWhenHolder) node, getWhenContextNode(node), node);
+        }
+        if (!(node instanceof YangLeavesHolder)) {
+            return;
+        }
+        YangLeavesHolder leavesHolder = (YangLeavesHolder) node;
+        if (leavesHolder.getListOfLeaf() != null) {
+            for (YangLeaf leaf : leavesHolder.getListOfLeaf()) {
+                compileMustList(leaf, leaf, leaf);
+                compileWhen(leaf, leaf, leaf);
+            }
+        }
+        if (leavesHolder.getListOfLeafList() != null) {
+            for (YangLeafList leafList : leavesHolder.getListOfLeafList()) {
+                compileMustList(leafList, leafList, leafList);
+                compileWhen(leafList, leafList, leafList);
+            }
+        }
+    }
+
+    /**
+     * Returns the context node of the when statement of the node. For
+     * augment it is the augmented node, for uses, choice and case it is the
+     * closest ancestor data node, otherwise it is the node itself.
+     *
+     * @param node YANG node
+     * @return context node, the root node if context is the root node
+     */
+    private static YangSchemaNode getWhenContextNode(YangNode node) {
+        YangNode contextNode;
+        if (node instanceof YangAugment) {
+            contextNode = getDataNode(node);
+        } else if (node instanceof YangUses || node instanceof YangChoice || node instanceof YangCase) {
+            contextNode = getDataNode(node.getParent());
+        } else {
+            return node;
+        }
+        return contextNode == null ? getRootNode(node) : contextNode;
+    }
+
+    /**
+     * Compiles the list of must of the holder. The list and the must are
+     * shared by the copies of grouping contents, hence a must already
+     * compiled for other context node is copied, with the list.
+     *
+     * @param mustHolder  must holder
+     * @param contextNode context node of must
+     * @param holderNode  schema node holding the must
+     * @throws DataModelException if an expression is not valid
+     */
+    private void compileMustList(YangMustHolder mustHolder, YangSchemaNode contextNode,
+                                 YangSchemaNode holderNode) throws DataModelException {
+        List<YangMust> mustList = mustHolder.getListOfMust();
+        if (mustList == null) {
+            return;
+        }
+        if (isAnyCompiledForOtherContext(mustList, contextNode)) {
+            List<YangMust> contextMustList = new LinkedList<>();
+            for (YangMust must : mustList) {
+                if (isCompiledForOtherContext(must.getCompiledContext(), contextNode)) {
+                    must = copyMust(must);
+                }
+                contextMustList.add(must);
+            }
+            mustList = contextMustList;
+            mustHolder.setListOfMust(mustList);
+        }
+        for (YangMust must : mustList) {
+            must.setCompiledConstraint(compile(must.getConstraint(), must, contextNode, holderNode), contextNode);
+        }
+    }
+
+    /**
+     * Compiles the when of the holder. The when is shared by the copies of
+     * grouping contents, hence a when already compiled for other context
+     * node is copied.
+     *
+     * @param whenHolder  when holder
+     * @param contextNode context node of when
+     * @param holderNode  schema node holding the when
+     * @throws DataModelException if an expression is not valid
+     */
+    private void compileWhen(YangWhenHolder whenHolder, YangSchemaNode contextNode,
+                             YangSchemaNode holderNode) throws DataModelException {
+        YangWhen when = whenHolder.getWhen();
+        if (when == null) {
+            return;
+        }
+        if (isCompiledForOtherContext(when.getCompiledContext(), contextNode)) {
+            when = copyWhen(when);
+            whenHolder.setWhen(when);
+        }
+        when.setCompiledCondition(compile(when.getCondition(), when, contextNode, holderNode), contextNode);
+    }
+
+    /**
+     * Returns whether any must of the list is already compiled for other
+     * context node.
+     *
+     * @param mustList    list of must
+     * @param contextNode context node
+     * @return true if a must is compiled for other context node
+     */
+    private static boolean isAnyCompiledForOtherContext(List<YangMust> mustList,
+                                                        YangSchemaNode contextNode) {
+        for (YangMust must : mustList) {
+            if (isCompiledForOtherContext(must.getCompiledContext(), contextNode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a must or when compiled for the compiled context node
+     * is compiled for other context node.
+     *
+     * @param compiledContext context node of must or when, null if not
+     *                        compiled
+     * @param contextNode     context node
+     * @return true if compiled for other context node
+     */
+    private static boolean isCompiledForOtherContext(YangSchemaNode compiledContext,
+                                                     YangSchemaNode contextNode) {
+        return compiledContext != null && compiledContext != contextNode;
+    }
+
+    /**
+     * Returns the compiled expression, or null if it is not supported.
+     *
+     * @param expression  XPath expression
+     * @param location    location of the must or when of the expression
+     * @param contextNode context node
+     * @param holderNode  schema node holding the expression
+     * @return compiled expression, or null
+     * @throws DataModelException if expression is not valid
+     */
+    private YangXPathExpression compile(String expression, LocationInfo location,
+                                        YangSchemaNode contextNode, YangSchemaNode holderNode)
+            throws DataModelException {
+        if (expression == null) {
+            return null;
+        }
+        try {
+            YangXPathExpression compiledExpression = XPathCompiler.compile(expression, contextNode, holderNode);
+            compiledCount++;
+            return compiledExpression;
+        } catch (XPathUnsupportedException e) {
+            unsupportedCount++;
+            return null;
+        } catch (DataModelException e) {
+            DataModelException ex = new DataModelException(e.getMessage() + " in " + location.getLineNumber()
+                                                                   + " at " + location.getCharPosition()
+                                                                   + " in " + location.getFileName());
+            ex.setLine(location.getLineNumber());
+            ex.setCharPosition(location.getCharPosition());
+            ex.setFileName(location.getFileName());
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns copy of the must.
+     *
+     * @param must must
+     * @return copy of must
+     */
+    private static YangMust copyMust(YangMust must) {
+        YangMust copy = new YangMust();
+        copy.setConstraint(must.getConstraint());
+        copy.setDescription(must.getDescription());
+        copy.setReference(must.getReference());
+        copy.setAppErrorInfo(must.getAppErrorInfo());
+        copy.setLineNumber(must.getLineNumber());
+        copy.setCharPosition(must.getCharPosition());
+        copy.setFileName(must.getFileName());
+        return copy;
+    }
+
+    /**
+     * Returns copy of the when.
+     *
+     * @param when when
+     * @return copy of when
+     */
+    private static YangWhen copyWhen(YangWhen when) {
+        YangWhen copy = new YangWhen();
+        copy.setCondition(when.getCondition());
+        copy.setDescription(when.getDescription());
+        copy.setReference(when.getReference());
+        copy.setLineNumber(when.getLineNumber());
+        copy.setCharPosition(when.getCharPosition());
+        copy.setFileName(when.getFileName());
+        return copy;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Represents context of an evaluation of XPath expression. It holds the
+ * data tree accessor and the node for which the expression is evaluated,
+ * and converts the values as per XPath.
+ *
+ * @param <N> type of data tree node
+ */
+final class XPathContext<N> {
+
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String NAN = "NaN";
+    private static final String INFINITY = "Infinity";
+
+    private final XPathDataAccessor<N> accessor;
+    private final N currentNode;
+
+    /**
+     * Creates a context of evaluation.
+     *
+     * @param accessor    data tree accessor
+     * @param currentNode node for which expression is evaluated
+     */
+    XPathContext(XPathDataAccessor<N> accessor, N currentNode) {
+        this.accessor = accessor;
+        this.currentNode = currentNode;
+    }
+
+    /**
+     * Returns data tree accessor.
+     *
+     * @return data tree accessor
+     */
+    XPathDataAccessor<N> getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Returns the node for which the expression is evaluated, which is the
+     * value of current() function.
+     *
+     * @return current node
+     */
+    N getCurrentNode() {
+        return currentNode;
+    }
+
+    /**
+     * Returns the string value of the data tree node.
+     *
+     * @param node data tree node
+     * @return string value
+     */
+    String getNodeValue(N node) {
+        String value = accessor.getValue(node);
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Converts the value to boolean.
+     *
+     * @param value value of expression
+     * @return boolean value
+     */
+    boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Double) {
+            double number = (Double) value;
+            return number != 0 && !Double.isNaN(number);
+        }
+        if (value instanceof String) {
+            return !((String) value).isEmpty();
+        }
+        return !((List<?>) value).isEmpty();
+    }
+
+    /**
+     * Converts the value to number.
+     *
+     * @param value value of expression
+     * @return number value
+     */
+    double toNumber(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return parseNumber(toStringValue(value));
+    }
+
+    /**
+     * Converts the value to string.
+     *
+     * @param value value of expression
+     * @return string value
+     */
+    String toStringValue(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? TRUE : FALSE;
+        }
+        if (value instanceof Double) {
+            return formatNumber((Double) value);
+        }
+        List<N> nodes = (List<N>) value;
+        return nodes.isEmpty() ? "" : getNodeValue(nodes.get(0));
+    }
+
+    /**
+     * Returns the number represented in string as per XPath, NaN if it is
+     * not a number.
+     *
+     * @param value number in string
+     * @return number value
+     */
+    static double parseNumber(String value) {
+        String number = value.trim();
+        int index = 0;
+        int length = number.length();
+        if (length > 0 && number.charAt(0) == '-') {
+            index++;
+        }
+        int digits = 0;
+        boolean isDotFound = false;
+        for (; index < length; index++) {
+            char character = number.charAt(index);
+            if (character >= '0' && character <= '9') {
+                digits++;
+            } else if (character == '.' && !isDotFound) {
+                isDotFound = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(number);
+    }
+
+    /**
+     * Returns the number represented in string as per XPath.
+     *
+     * @param number number value
+     * @return number in string
+     */
+    static String formatNumber(double number) {
+        if (Double.isNaN(number)) {
+            return NAN;
+        }
+        if (Double.isInfinite(number)) {
+            return number > 0 ? INFINITY : "-" + INFINITY;
+        }
+        if (number == Math.rint(number) && Math.abs(number) < Long.MAX_VALUE) {
+            return String.valueOf((long) number);
+        }
+        return BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+    }
+}
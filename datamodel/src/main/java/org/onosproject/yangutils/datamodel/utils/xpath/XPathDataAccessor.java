@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+
+import java.util.List;
+
+/**
+ * Abstraction of data tree accessor, used by the compiled XPath expression
+ * to navigate the data tree on which it is evaluated. The data tree nodes
+ * are only referred through the accessor, hence any data tree
+ * representation can be used.
+ *
+ * @param <N> type of data tree node
+ */
+public interface XPathDataAccessor<N> {
+
+    /**
+     * Returns the root node of the data tree containing the node. The top
+     * level data nodes of modules are children of the root node.
+     *
+     * @param node data tree node
+     * @return root node of data tree
+     */
+    N getRoot(N node);
+
+    /**
+     * Returns the parent of the node in data tree.
+     *
+     * @param node data tree node
+     * @return parent node, or null for root node
+     */
+    N getParent(N node);
+
+    /**
+     * Returns the child nodes which are instances of the given schema node.
+     *
+     * @param node       data tree node
+     * @param schemaNode schema node of children
+     * @return list of child nodes, empty if there is no instance
+     */
+    List<N> getChildren(N node, YangSchemaNode schemaNode);
+
+    /**
+     * Returns the value of leaf or leaf-list instance node.
+     *
+     * @param node data tree node
+     * @return value of node, or null if node does not have value
+     */
+    String getValue(N node);
+}
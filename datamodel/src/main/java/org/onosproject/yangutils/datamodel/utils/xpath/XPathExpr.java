@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents node of compiled XPath expression tree. The tree is immutable,
+ * the state of an evaluation is kept in the evaluation context, hence a tree
+ * can be evaluated concurrently.
+ */
+abstract class XPathExpr {
+
+    /**
+     * Evaluates the expression for the context node. The value is a Boolean,
+     * a Double, a String or a list of data tree nodes for node-set.
+     *
+     * @param context     evaluation context
+     * @param contextNode context node
+     * @param <N>         type of data tree node
+     * @return value of expression
+     */
+    abstract <N> Object evaluate(XPathContext<N> context, N contextNode);
+}
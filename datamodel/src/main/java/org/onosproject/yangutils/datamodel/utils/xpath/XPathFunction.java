@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents the XPath functions supported in compiled expression.
+ */
+enum XPathFunction {
+
+    /**
+     * Node for which expression is evaluated, defined by YANG.
+     */
+    CURRENT("current", 0, 0),
+
+    /**
+     * Number of nodes in node-set.
+     */
+    COUNT("count", 1, 1),
+
+    /**
+     * Logical negation.
+     */
+    NOT("not", 1, 1),
+
+    /**
+     * Boolean true.
+     */
+    TRUE("true", 0, 0),
+
+    /**
+     * Boolean false.
+     */
+    FALSE("false", 0, 0),
+
+    /**
+     * Conversion to boolean.
+     */
+    BOOLEAN("boolean", 1, 1),
+
+    /**
+     * Conversion to number.
+     */
+    NUMBER("number", 0, 1),
+
+    /**
+     * Conversion to string.
+     */
+    STRING("string", 0, 1),
+
+    /**
+     * Concatenation of strings.
+     */
+    CONCAT("concat", 2, Integer.MAX_VALUE),
+
+    /**
+     * Whether first string contains second string.
+     */
+    CONTAINS("contains", 2, 2),
+
+    /**
+     * Whether first string starts with second string.
+     */
+    STARTS_WITH("starts-with", 2, 2),
+
+    /**
+     * Length of string.
+     */
+    STRING_LENGTH("string-length", 0, 1);
+
+    private final String functionName;
+    private final int minArguments;
+    private final int maxArguments;
+
+    /**
+     * Creates a function.
+     *
+     * @param functionName name of function in expression
+     * @param minArguments minimum number of arguments
+     * @param maxArguments maximum number of arguments
+     */
+    XPathFunction(String functionName, int minArguments, int maxArguments) {
+        this.functionName = functionName;
+        this.minArguments = minArguments;
+        this.maxArguments = maxArguments;
+    }
+
+    /**
+     * Returns whether the function accepts the number of arguments.
+     *
+     * @param count number of arguments
+     * @return true if number of arguments is valid
+     */
+    boolean isValidArgumentCount(int count) {
+        return count >= minArguments && count <= maxArguments;
+    }
+
+    /**
+     * Returns the function of the name.
+     *
+     * @param functionName name of function in expression
+     * @return function, or null if function is not supported
+     */
+    static XPathFunction of(String functionName) {
+        for (XPathFunction function : values()) {
+            if (function.functionName.equals(functionName)) {
+                return function;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents function call of XPath expression.
+ */
+final class XPathFunctionExpr extends XPathExpr {
+
+    private final XPathFunction function;
+    private final XPathExpr[] arguments;
+
+    /**
+     * Creates a function call expression.
+     *
+     * @param function  function
+     * @param arguments argument expressions
+     */
+    XPathFunctionExpr(XPathFunction function, XPathExpr[] arguments) {
+        this.function = function;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Returns the function.
+     *
+     * @return function
+     */
+    XPathFunction getFunction() {
+        return function;
+    }
+
+    @Override
+    <N> Object evaluate(XPathContext<N> context, N contextNode) {
+        switch (function) {
+            case CURRENT:
+                return Collections.singletonList(context.getCurrentNode());
+            case COUNT: {
+                Object value = arguments[0].evaluate(context, contextNode);
+                return (double) (value instanceof List ? ((List<?>) value).size() : 0);
+            }
+            case NOT:
+                return !context.toBoolean(arguments[0].evaluate(context, contextNode));
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case BOOLEAN:
+                return context.toBoolean(arguments[0].evaluate(context, contextNode));
+            case NUMBER:
+                return context.toNumber(getArgumentOrContext(context, contextNode));
+            case STRING:
+                return context.toStringValue(getArgumentOrContext(context, contextNode));
+            case CONCAT: {
+                StringBuilder builder = new StringBuilder();
+                for (XPathExpr argument : arguments) {
+                    builder.append(context.toStringValue(argument.evaluate(context, contextNode)));
+                }
+                return builder.toString();
+            }
+            case CONTAINS:
+                return getStringArgument(context, contextNode, 0)
+                        .contains(getStringArgument(context, contextNode, 1));
+            case STARTS_WITH:
+                return getStringArgument(context, contextNode, 0)
+                        .startsWith(getStringArgument(context, contextNode, 1));
+            default: {
+                String value = context.toStringValue(getArgumentOrContext(context, contextNode));
+                return (double) value.codePointCount(0, value.length());
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the only argument, or the context node as
+     * node-set if the argument is omitted.
+     *
+     * @param context     evaluation context
+     * @param contextNode context node
+     * @param <N>         type of data tree node
+     * @return value of argument
+     */
+    private <N> Object getArgumentOrContext(XPathContext<N> context, N contextNode) {
+        if (arguments.length == 0) {
+            return Collections.singletonList(contextNode);
+        }
+        return arguments[0].evaluate(context, contextNode);
+    }
+
+    /**
+     * Returns the value of the argument converted to string.
+     *
+     * @param context     evaluation context
+     * @param contextNode context node
+     * @param index       index of argument
+     * @param <N>         type of data tree node
+     * @return string value of argument
+     */
+    private <N> String getStringArgument(XPathContext<N> context, N contextNode, int index) {
+        return context.toStringValue(arguments[index].evaluate(context, contextNode));
+    }
+}
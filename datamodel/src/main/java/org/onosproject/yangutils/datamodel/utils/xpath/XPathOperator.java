@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents binary operator of XPath expression.
+ */
+enum XPathOperator {
+
+    /**
+     * Logical or.
+     */
+    OR("or"),
+
+    /**
+     * Logical and.
+     */
+    AND("and"),
+
+    /**
+     * Equal to.
+     */
+    EQUAL("="),
+
+    /**
+     * Not equal to.
+     */
+    NOT_EQUAL("!="),
+
+    /**
+     * Less than.
+     */
+    LESS_THAN("<"),
+
+    /**
+     * Less than or equal to.
+     */
+    LESS_THAN_OR_EQUAL("<="),
+
+    /**
+     * Greater than.
+     */
+    GREATER_THAN(">"),
+
+    /**
+     * Greater than or equal to.
+     */
+    GREATER_THAN_OR_EQUAL(">="),
+
+    /**
+     * Addition.
+     */
+    PLUS("+"),
+
+    /**
+     * Subtraction.
+     */
+    MINUS("-"),
+
+    /**
+     * Multiplication.
+     */
+    MULTIPLY("*"),
+
+    /**
+     * Division.
+     */
+    DIV("div"),
+
+    /**
+     * Remainder of division.
+     */
+    MOD("mod"),
+
+    /**
+     * Union of node-sets.
+     */
+    UNION("|");
+
+    private final String symbol;
+
+    /**
+     * Creates an operator.
+     *
+     * @param symbol symbol of operator in expression
+     */
+    XPathOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the operator of the symbol.
+     *
+     * @param symbol symbol of operator in expression
+     * @return operator, or null if symbol is not a binary operator
+     */
+    static XPathOperator of(String symbol) {
+        for (XPathOperator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents location path of XPath expression. The path starts from the
+ * root node for absolute path, from the node-set of a filter expression
+ * like current(), or otherwise from the context node.
+ */
+final class XPathPathExpr extends XPathExpr {
+
+    private final boolean isAbsolute;
+    private final XPathExpr filter;
+    private final XPathStep[] steps;
+
+    /**
+     * Creates a location path expression.
+     *
+     * @param isAbsolute true for absolute path
+     * @param filter     filter expression from which path starts, or null
+     * @param steps      location steps
+     */
+    XPathPathExpr(boolean isAbsolute, XPathExpr filter, XPathStep[] steps) {
+        this.isAbsolute = isAbsolute;
+        this.filter = filter;
+        this.steps = steps;
+    }
+
+    @Override
+    <N> Object evaluate(XPathContext<N> context, N contextNode) {
+        List<N> nodes;
+        if (isAbsolute) {
+            nodes = Collections.singletonList(context.getAccessor().getRoot(contextNode));
+        } else if (filter != null) {
+            Object value = filter.evaluate(context, contextNode);
+            if (!(value instanceof List)) {
+                return Collections.emptyList();
+            }
+            nodes = (List<N>) value;
+        } else {
+            nodes = Collections.singletonList(contextNode);
+        }
+
+        for (XPathStep step : steps) {
+            List<N> selectedNodes = new ArrayList<>();
+            for (N node : nodes) {
+                step.select(context, node, selectedNodes);
+            }
+            nodes = selectedNodes;
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns whether the node-set contains the same node.
+     *
+     * @param nodes node-set
+     * @param node  data tree node
+     * @param <N>   type of data tree node
+     * @return true if node-set contains the node
+     */
+    static <N> boolean containsNode(List<N> nodes, N node) {
+        for (N existingNode : nodes) {
+            if (existingNode == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
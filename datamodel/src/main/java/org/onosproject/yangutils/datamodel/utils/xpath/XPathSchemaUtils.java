@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangChoice;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeType;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.utils.YangAugmentedChildMap;
+import org.onosproject.yangutils.datamodel.utils.YangAugmentedChildMap.AugmentedChild;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_MULTI_INSTANCE_NODE;
+import static org.onosproject.yangutils.datamodel.YangSchemaNodeType.YANG_SINGLE_INSTANCE_NODE;
+
+/**
+ * Represents utilities to resolve the location steps of XPath expression in
+ * the schema tree.
+ */
+final class XPathSchemaUtils {
+
+    // No instantiation.
+    private XPathSchemaUtils() {
+    }
+
+    /**
+     * Returns the YANG node of the schema node, for leaf and leaf-list it is
+     * the node containing it.
+     *
+     * @param schemaNode schema node
+     * @return YANG node
+     */
+    static YangNode getYangNode(YangSchemaNode schemaNode) {
+        if (schemaNode instanceof YangLeaf) {
+            return (YangNode) ((YangLeaf) schemaNode).getContainedIn();
+        }
+        if (schemaNode instanceof YangLeafList) {
+            return (YangNode) ((YangLeafList) schemaNode).getContainedIn();
+        }
+        return (YangNode) schemaNode;
+    }
+
+    /**
+     * Returns the root node of the data model tree containing the node.
+     *
+     * @param node YANG node
+     * @return root node
+     */
+    static YangNode getRootNode(YangNode node) {
+        YangNode rootNode = node;
+        while (rootNode.getParent() != null) {
+            rootNode = rootNode.getParent();
+        }
+        return rootNode;
+    }
+
+    /**
+     * Returns the name of the module to which the root node belongs.
+     *
+     * @param rootNode root node of the data model tree
+     * @return module name
+     */
+    static String getModuleName(YangNode rootNode) {
+        if (rootNode instanceof YangSubModule
+                && ((YangSubModule) rootNode).getBelongsTo() != null) {
+            return ((YangSubModule) rootNode).getBelongsTo().getBelongsToModuleName();
+        }
+        return rootNode.getName();
+    }
+
+    /**
+     * Returns the node which is the instance of the YANG node in data tree.
+     * Choice and case are not present in data tree and augment contents are
+     * present in the augmented node, hence the closest ancestor data node
+     * is returned for them.
+     *
+     * @param node YANG node
+     * @return data node, or null if it is the root node
+     */
+    static YangNode getDataNode(YangNode node) {
+        YangNode dataNode = node;
+        while (dataNode != null) {
+            if (dataNode instanceof YangAugment) {
+                dataNode = ((YangAugment) dataNode).getAugmentedNode();
+            } else if (dataNode instanceof YangChoice || dataNode instanceof YangCase) {
+                dataNode = dataNode.getParent();
+            } else if (dataNode.getParent() == null) {
+                return null;
+            } else {
+                return dataNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the parent of the schema node in data tree.
+     *
+     * @param schemaNode schema node
+     * @return parent data node, or null if parent is the root node
+     */
+    static YangNode getDataParent(YangSchemaNode schemaNode) {
+        if (schemaNode instanceof YangLeaf || schemaNode instanceof YangLeafList) {
+            return getDataNode(getYangNode(schemaNode));
+        }
+        return getDataNode(((YangNode) schemaNode).getParent());
+    }
+
+    /**
+     * Returns the data model trees whose top level nodes are the top level
+     * data nodes of the module, which are the module and its submodules.
+     *
+     * @param moduleNode module or submodule node
+     * @return list of root nodes
+     */
+    static List<YangNode> getModuleTrees(YangNode moduleNode) {
+        List<YangNode> trees = new ArrayList<>();
+        trees.add(moduleNode);
+        List<YangInclude> includeList = null;
+        if (moduleNode instanceof YangModule) {
+            includeList = ((YangModule) moduleNode).getIncludeList();
+        } else if (moduleNode instanceof YangSubModule) {
+            includeList = ((YangSubModule) moduleNode).getIncludeList();
+        }
+        if (includeList != null) {
+            for (YangInclude include : includeList) {
+                if (include.getIncludedNode() != null && !trees.contains(include.getIncludedNode())) {
+                    trees.add(include.getIncludedNode());
+                }
+            }
+        }
+        return trees;
+    }
+
+    /**
+     * Returns the data child of the node with the given name. Choice and
+     * case are looked through and the nodes added by augment are included,
+     * from the map of the augmented children of the node.
+     *
+     * @param node       YANG node
+     * @param name       name of child
+     * @param moduleName name of the module of child, null for any module
+     * @return schema node of child, or null if not found
+     */
+    static YangSchemaNode findChild(YangNode node, String name, String moduleName) {
+        if (node instanceof YangLeavesHolder && isOfModule(node, moduleName)) {
+            YangLeavesHolder leavesHolder = (YangLeavesHolder) node;
+            if (leavesHolder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : leavesHolder.getListOfLeaf()) {
+                    if (leaf.getName().equals(name)) {
+                        return leaf;
+                    }
+                }
+            }
+            if (leavesHolder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : leavesHolder.getListOfLeafList()) {
+                    if (leafList.getName().equals(name)) {
+                        return leafList;
+                    }
+                }
+            }
+        }
+
+        YangNode child = node.getChild();
+        while (child != null) {
+            YangSchemaNode schemaNode = null;
+            YangSchemaNodeType nodeType = child.getYangSchemaNodeType();
+            if (child instanceof YangChoice || child instanceof YangCase) {
+                schemaNode = findChild(child, name, moduleName);
+            } else if ((nodeType == YANG_SINGLE_INSTANCE_NODE || nodeType == YANG_MULTI_INSTANCE_NODE)
+                    && child.getName().equals(name) && isOfModule(child, moduleName)) {
+                schemaNode = child;
+            }
+            if (schemaNode != null) {
+                return schemaNode;
+            }
+            child = child.getNextSibling();
+        }
+
+        YangAugmentedChildMap augmentedChildMap = node.getAugmentedChildMap();
+        if (augmentedChildMap != null) {
+            AugmentedChild augmentedChild = augmentedChildMap.get(name, moduleName);
+            if (augmentedChild != null) {
+                return augmentedChild.getChild();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the node has a uses whose expansion is deferred, hence
+     * whose data children are not yet added. Choice and case are looked
+     * through.
+     *
+     * @param node YANG node
+     * @return true if the node has a uses not yet expanded
+     */
+    static boolean hasDeferredUses(YangNode node) {
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (child instanceof YangUses && ((YangUses) child).isExpansionDeferred()) {
+                return true;
+            }
+            if ((child instanceof YangChoice || child instanceof YangCase) && hasDeferredUses(child)) {
+                return true;
+            }
+            child = child.getNextSibling();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the node is defined in the module.
+     *
+     * @param node       YANG node
+     * @param moduleName name of the module, null for any module
+     * @return true if node is defined in the module
+     */
+    private static boolean isOfModule(YangNode node, String moduleName) {
+        return moduleName == null || getModuleName(getRootNode(node)).equals(moduleName);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents location step of XPath expression. The name test of the step is
+ * resolved to the schema node while compiling.
+ */
+final class XPathStep {
+
+    private final XPathAxis axis;
+    private final YangSchemaNode schemaNode;
+    private final XPathExpr[] predicates;
+
+    /**
+     * Creates a location step.
+     *
+     * @param axis       axis of step
+     * @param schemaNode schema node of child axis step
+     * @param predicates predicate expressions
+     */
+    XPathStep(XPathAxis axis, YangSchemaNode schemaNode, XPathExpr[] predicates) {
+        this.axis = axis;
+        this.schemaNode = schemaNode;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Returns the schema node of child axis step.
+     *
+     * @return schema node, null for other steps
+     */
+    YangSchemaNode getSchemaNode() {
+        return schemaNode;
+    }
+
+    /**
+     * Adds the nodes selected by the step from the context node, filtered
+     * with predicates, to the node-set.
+     *
+     * @param context     evaluation context
+     * @param contextNode context node
+     * @param nodes       node-set to add the selected nodes
+     * @param <N>         type of data tree node
+     */
+    <N> void select(XPathContext<N> context, N contextNode, List<N> nodes) {
+        List<N> selectedNodes;
+        switch (axis) {
+            case SELF:
+                selectedNodes = new ArrayList<>(1);
+                selectedNodes.add(contextNode);
+                break;
+            case PARENT: {
+                selectedNodes = new ArrayList<>(1);
+                N parent = context.getAccessor().getParent(contextNode);
+                if (parent != null) {
+                    selectedNodes.add(parent);
+                }
+                break;
+            }
+            default:
+                selectedNodes = context.getAccessor().getChildren(contextNode, schemaNode);
+                break;
+        }
+
+        for (XPathExpr predicate : predicates) {
+            selectedNodes = filter(context, selectedNodes, predicate);
+        }
+
+        if (axis == XPathAxis.CHILD) {
+            // Children of distinct context nodes are distinct.
+            nodes.addAll(selectedNodes);
+            return;
+        }
+        for (N node : selectedNodes) {
+            if (!XPathPathExpr.containsNode(nodes, node)) {
+                nodes.add(node);
+            }
+        }
+    }
+
+    /**
+     * Returns the nodes for which the predicate is true. A number value of
+     * predicate is true for the node at that position.
+     *
+     * @param context   evaluation context
+     * @param nodes     nodes to filter
+     * @param predicate predicate expression
+     * @param <N>       type of data tree node
+     * @return filtered nodes
+     */
+    private static <N> List<N> filter(XPathContext<N> context, List<N> nodes, XPathExpr predicate) {
+        List<N> filteredNodes = new ArrayList<>();
+        int position = 0;
+        for (N node : nodes) {
+            position++;
+            Object value = predicate.evaluate(context, node);
+            if (value instanceof Double ? (Double) value == position : context.toBoolean(value)) {
+                filteredNodes.add(node);
+            }
+        }
+        return filteredNodes;
+    }
+}
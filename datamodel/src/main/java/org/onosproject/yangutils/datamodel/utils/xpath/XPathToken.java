@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents token of XPath expression.
+ */
+final class XPathToken {
+
+    private final XPathTokenType type;
+    private final String text;
+    private final int position;
+
+    /**
+     * Creates a token.
+     *
+     * @param type     type of token
+     * @param text     text of token
+     * @param position position of token in expression
+     */
+    XPathToken(XPathTokenType type, String text, int position) {
+        this.type = type;
+        this.text = text;
+        this.position = position;
+    }
+
+    /**
+     * Returns type of token.
+     *
+     * @return type of token
+     */
+    XPathTokenType getType() {
+        return type;
+    }
+
+    /**
+     * Returns text of token. For literal it is the value without quotes.
+     *
+     * @return text of token
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Returns position of token in expression.
+     *
+     * @return position of token
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns whether token is of given type and text.
+     *
+     * @param tokenType type of token
+     * @param tokenText text of token
+     * @return true if token matches
+     */
+    boolean is(XPathTokenType tokenType, String tokenText) {
+        return type == tokenType && text.equals(tokenText);
+    }
+}
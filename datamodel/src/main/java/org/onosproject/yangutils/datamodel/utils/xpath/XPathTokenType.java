@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents type of the token of XPath expression.
+ */
+enum XPathTokenType {
+
+    /**
+     * String literal.
+     */
+    LITERAL,
+
+    /**
+     * Number.
+     */
+    NUMBER,
+
+    /**
+     * Name test, optionally prefixed.
+     */
+    NAME,
+
+    /**
+     * Name of a function, followed by opening parenthesis.
+     */
+    FUNCTION_NAME,
+
+    /**
+     * Operator, including operator names like and, or, div, mod.
+     */
+    OPERATOR,
+
+    /**
+     * Slash.
+     */
+    SLASH,
+
+    /**
+     * Self abbreviated step.
+     */
+    DOT,
+
+    /**
+     * Parent abbreviated step.
+     */
+    DOUBLE_DOT,
+
+    /**
+     * Opening parenthesis.
+     */
+    LEFT_PARENTHESIS,
+
+    /**
+     * Closing parenthesis.
+     */
+    RIGHT_PARENTHESIS,
+
+    /**
+     * Opening bracket of predicate.
+     */
+    LEFT_BRACKET,
+
+    /**
+     * Closing bracket of predicate.
+     */
+    RIGHT_BRACKET,
+
+    /**
+     * Comma separating function arguments.
+     */
+    COMMA,
+
+    /**
+     * End of expression.
+     */
+    END
+}
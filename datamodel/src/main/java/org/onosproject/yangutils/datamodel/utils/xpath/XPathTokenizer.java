@@ -0,0 +1,311 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.COMMA;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.DOT;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.DOUBLE_DOT;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.END;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.FUNCTION_NAME;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.LEFT_BRACKET;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.LEFT_PARENTHESIS;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.LITERAL;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.NAME;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.NUMBER;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.OPERATOR;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.RIGHT_BRACKET;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.RIGHT_PARENTHESIS;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathTokenType.SLASH;
+
+/**
+ * Represents tokenizer of XPath expression.
+ */
+final class XPathTokenizer {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String DIV = "div";
+    private static final String MOD = "mod";
+
+    private final String expression;
+    private final List<XPathToken> tokens = new ArrayList<>();
+    private int index;
+
+    /**
+     * Creates a tokenizer of the expression.
+     *
+     * @param expression XPath expression
+     */
+    private XPathTokenizer(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Returns the tokens of the expression, ending with END token.
+     *
+     * @param expression XPath expression
+     * @return list of tokens
+     * @throws DataModelException if expression has invalid or unsupported
+     *                            syntax
+     */
+    static List<XPathToken> tokenize(String expression) throws DataModelException {
+        XPathTokenizer tokenizer = new XPathTokenizer(expression);
+        tokenizer.tokenize();
+        return tokenizer.tokens;
+    }
+
+    /**
+     * Splits the expression into tokens.
+     *
+     * @throws DataModelException if expression has invalid or unsupported
+     *                            syntax
+     */
+    private void tokenize() throws DataModelException {
+        int length = expression.length();
+        while (index < length) {
+            char character = expression.charAt(index);
+            int start = index;
+            if (Character.isWhitespace(character)) {
+                index++;
+            } else if (character == '\'' || character == '"') {
+                int end = expression.indexOf(character, index + 1);
+                if (end < 0) {
+                    throw getError("unterminated literal", start);
+                }
+                addToken(LITERAL, expression.substring(index + 1, end), start);
+                index = end + 1;
+            } else if (isDigit(character) || character == '.' && index + 1 < length
+                    && isDigit(expression.charAt(index + 1))) {
+                readNumber();
+            } else if (character == '.') {
+                if (index + 1 < length && expression.charAt(index + 1) == '.') {
+                    addToken(DOUBLE_DOT, "..", start);
+                    index += 2;
+                } else {
+                    addToken(DOT, ".", start);
+                    index++;
+                }
+            } else if (character == '/') {
+                if (index + 1 < length && expression.charAt(index + 1) == '/') {
+                    throw getUnsupportedError("descendant path is not supported", start);
+                }
+                addToken(SLASH, "/", start);
+                index++;
+            } else if (character == '(') {
+                addToken(LEFT_PARENTHESIS, "(", start);
+                index++;
+            } else if (character == ')') {
+                addToken(RIGHT_PARENTHESIS, ")", start);
+                index++;
+            } else if (character == '[') {
+                addToken(LEFT_BRACKET, "[", start);
+                index++;
+            } else if (character == ']') {
+                addToken(RIGHT_BRACKET, "]", start);
+                index++;
+            } else if (character == ',') {
+                addToken(COMMA, ",", start);
+                index++;
+            } else if (character == '!' || character == '<' || character == '>') {
+                if (index + 1 < length && expression.charAt(index + 1) == '=') {
+                    addToken(OPERATOR, expression.substring(index, index + 2), start);
+                    index += 2;
+                } else if (character == '!') {
+                    throw getError("unexpected character '!'", start);
+                } else {
+                    addToken(OPERATOR, String.valueOf(character), start);
+                    index++;
+                }
+            } else if (character == '=' || character == '|' || character == '+' || character == '-') {
+                addToken(OPERATOR, String.valueOf(character), start);
+                index++;
+            } else if (character == '*') {
+                if (!isOperatorExpected()) {
+                    throw getUnsupportedError("wildcard name test is not supported", start);
+                }
+                addToken(OPERATOR, "*", start);
+                index++;
+            } else if (isNameStartChar(character)) {
+                readName();
+            } else {
+                throw getError("unexpected character '" + character + "'", start);
+            }
+        }
+        addToken(END, "", length);
+    }
+
+    /**
+     * Reads number token.
+     */
+    private void readNumber() {
+        int start = index;
+        while (index < expression.length() && isDigit(expression.charAt(index))) {
+            index++;
+        }
+        if (index < expression.length() && expression.charAt(index) == '.') {
+            index++;
+            while (index < expression.length() && isDigit(expression.charAt(index))) {
+                index++;
+            }
+        }
+        addToken(NUMBER, expression.substring(start, index), start);
+    }
+
+    /**
+     * Reads name token, which can be an operator name, a function name or a
+     * name test.
+     *
+     * @throws DataModelException if name has unsupported syntax
+     */
+    private void readName() throws DataModelException {
+        int start = index;
+        skipNCName();
+        if (index + 1 < expression.length() && expression.charAt(index) == ':') {
+            if (expression.charAt(index + 1) == ':') {
+                throw getUnsupportedError("axis is not supported", start);
+            }
+            if (!isNameStartChar(expression.charAt(index + 1))) {
+                throw getError("invalid qualified name", start);
+            }
+            index++;
+            skipNCName();
+        }
+        String name = expression.substring(start, index);
+
+        if (isOperatorExpected()) {
+            if (name.equals(AND) || name.equals(OR) || name.equals(DIV) || name.equals(MOD)) {
+                addToken(OPERATOR, name, start);
+                return;
+            }
+            throw getError("operator expected", start);
+        }
+
+        int next = index;
+        while (next < expression.length() && Character.isWhitespace(expression.charAt(next))) {
+            next++;
+        }
+        if (next < expression.length() && expression.charAt(next) == '(') {
+            addToken(FUNCTION_NAME, name, start);
+        } else {
+            addToken(NAME, name, start);
+        }
+    }
+
+    /**
+     * Skips the characters of NCName.
+     */
+    private void skipNCName() {
+        index++;
+        while (index < expression.length() && isNameChar(expression.charAt(index))) {
+            index++;
+        }
+    }
+
+    /**
+     * Returns whether the next token is to be an operator, which is when
+     * the preceding token can end an operand.
+     *
+     * @return true if operator is expected
+     */
+    private boolean isOperatorExpected() {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        switch (tokens.get(tokens.size() - 1).getType()) {
+            case LITERAL:
+            case NUMBER:
+            case NAME:
+            case DOT:
+            case DOUBLE_DOT:
+            case RIGHT_PARENTHESIS:
+            case RIGHT_BRACKET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Adds token.
+     *
+     * @param type     type of token
+     * @param text     text of token
+     * @param position position of token
+     */
+    private void addToken(XPathTokenType type, String text, int position) {
+        tokens.add(new XPathToken(type, text, position));
+    }
+
+    /**
+     * Returns the error for the expression.
+     *
+     * @param message  error message
+     * @param position position of error
+     * @return data model exception
+     */
+    private DataModelException getError(String message, int position) {
+        return XPathCompiler.getError(expression, message, position);
+    }
+
+    /**
+     * Returns the error for the syntax of the expression which is not
+     * supported.
+     *
+     * @param message  error message
+     * @param position position of error
+     * @return XPath unsupported exception
+     */
+    private XPathUnsupportedException getUnsupportedError(String message, int position) {
+        return XPathCompiler.getUnsupportedError(expression, message, position);
+    }
+
+    /**
+     * Returns whether the character is an ASCII digit.
+     *
+     * @param character character
+     * @return true if the character is a digit
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Returns whether the character can start a name.
+     *
+     * @param character character
+     * @return true if the character can start a name
+     */
+    private static boolean isNameStartChar(char character) {
+        return Character.isLetter(character) || character == '_';
+    }
+
+    /**
+     * Returns whether the character can be part of a name.
+     *
+     * @param character character
+     * @return true if the character can be part of a name
+     */
+    private static boolean isNameChar(char character) {
+        return isNameStartChar(character) || isDigit(character)
+                || character == '-' || character == '.';
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+/**
+ * Represents exception for an XPath expression which can not be compiled
+ * though it may be valid, as it is not in the subset supported by the
+ * XPath compiler or it refers nodes of a uses not yet expanded.
+ */
+final class XPathUnsupportedException extends DataModelException {
+
+    private static final long serialVersionUID = 201610190001L;
+
+    /**
+     * Creates an XPath unsupported exception with message.
+     *
+     * @param message the detail of exception in string
+     */
+    XPathUnsupportedException(String message) {
+        super(message);
+    }
+}
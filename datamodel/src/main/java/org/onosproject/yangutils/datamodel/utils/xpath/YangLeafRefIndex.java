@@ -0,0 +1,343 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.LEAFREF;
+import static org.onosproject.yangutils.datamodel.utils.xpath.XPathSchemaUtils.getDataParent;
+
+/**
+ * Represents index of the values of leafref target instances in a data
+ * tree, used to check the referential integrity of leafref values.
+ * <p>
+ * The values of each target leaf or leaf-list are indexed on first use by
+ * a single scan of its instances, keyed on the canonical value of the
+ * target type, hence "007" and "7" are the same value of an integer target.
+ * Afterwards a reference is checked with a single lookup. The edits of the
+ * data tree are applied to the built indexes through addValue and
+ * removeValue, so the indexes do not need to be rebuilt.
+ * <p>
+ * The index contains all the instances of target, the predicates of the
+ * leafref path which further restrict the target instances are not
+ * applied.
+ *
+ * @param <N> type of data tree node
+ */
+public final class YangLeafRefIndex<N> {
+
+    private final XPathDataAccessor<N> accessor;
+    private final Map<YangSchemaNode, Map<Object, Integer>> targetIndexes = new IdentityHashMap<>();
+    private N rootNode;
+
+    /**
+     * Creates leafref index of the data tree.
+     *
+     * @param accessor accessor of data tree
+     * @param rootNode root node of data tree
+     */
+    public YangLeafRefIndex(XPathDataAccessor<N> accessor, N rootNode) {
+        this.accessor = accessor;
+        this.rootNode = rootNode;
+    }
+
+    /**
+     * Returns the root node of the indexed data tree.
+     *
+     * @return root node of data tree
+     */
+    public N getRootNode() {
+        return rootNode;
+    }
+
+    /**
+     * Sets the root node of the indexed data tree, the built indexes are
+     * discarded.
+     *
+     * @param rootNode root node of data tree
+     */
+    public void setRootNode(N rootNode) {
+        this.rootNode = rootNode;
+        targetIndexes.clear();
+    }
+
+    /**
+     * Returns whether the value refers an existing instance of the leafref
+     * target. A leafref which does not require instance, or whose target is
+     * not resolved, accepts any value.
+     *
+     * @param leafRef YANG leafref
+     * @param value   value of leafref
+     * @return true if the target instance exists
+     */
+    public boolean isValidReference(YangLeafRef<?> leafRef, String value) {
+        Object target = leafRef.getReferredLeafOrLeafList();
+        if (!leafRef.getRequireInstance() || !(target instanceof YangSchemaNode)) {
+            return true;
+        }
+        return containsValue((YangSchemaNode) target, value);
+    }
+
+    /**
+     * Returns whether an instance of the leaf or leaf-list has the value.
+     *
+     * @param target target leaf or leaf-list
+     * @param value  value of target instance
+     * @return true if an instance has the value
+     */
+    public boolean containsValue(YangSchemaNode target, String value) {
+        if (value == null) {
+            return false;
+        }
+        return getTargetIndex(target).containsKey(getIndexKey(getDataType(target), value));
+    }
+
+    /**
+     * Returns the number of distinct values of the instances of leaf or
+     * leaf-list.
+     *
+     * @param target target leaf or leaf-list
+     * @return number of distinct values
+     */
+    public int getValueCount(YangSchemaNode target) {
+        return getTargetIndex(target).size();
+    }
+
+    /**
+     * Updates the index on addition of an instance of leaf or leaf-list to
+     * the data tree. It has no effect if the index of the target is not yet
+     * built, as the instance is indexed when it is built.
+     *
+     * @param target leaf or leaf-list of instance
+     * @param value  value of instance
+     */
+    public void addValue(YangSchemaNode target, String value) {
+        Map<Object, Integer> index = targetIndexes.get(target);
+        if (index != null && value != null) {
+            addKey(index, getIndexKey(getDataType(target), value));
+        }
+    }
+
+    /**
+     * Updates the index on removal of an instance of leaf or leaf-list from
+     * the data tree. The value remains in the index as long as another
+     * instance has the same value.
+     *
+     * @param target leaf or leaf-list of instance
+     * @param value  value of instance
+     */
+    public void removeValue(YangSchemaNode target, String value) {
+        Map<Object, Integer> index = targetIndexes.get(target);
+        if (index == null || value == null) {
+            return;
+        }
+        Object key = getIndexKey(getDataType(target), value);
+        Integer count = index.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count == 1) {
+            index.remove(key);
+        } else {
+            index.put(key, count - 1);
+        }
+    }
+
+    /**
+     * Updates the index on modification of the value of an instance of leaf
+     * or leaf-list.
+     *
+     * @param target   leaf or leaf-list of instance
+     * @param oldValue value before modification
+     * @param newValue value after modification
+     */
+    public void updateValue(YangSchemaNode target, String oldValue, String newValue) {
+        removeValue(target, oldValue);
+        addValue(target, newValue);
+    }
+
+    /**
+     * Returns the index of the values of target instances, building it if
+     * required.
+     *
+     * @param target target leaf or leaf-list
+     * @return index of value to number of instances having it
+     */
+    private Map<Object, Integer> getTargetIndex(YangSchemaNode target) {
+        Map<Object, Integer> index = targetIndexes.get(target);
+        if (index == null) {
+            index = buildTargetIndex(target);
+            targetIndexes.put(target, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index built by scanning the instances of target in data
+     * tree. The instances are reached by walking down the data ancestors of
+     * target from the root node.
+     *
+     * @param target target leaf or leaf-list
+     * @return index of value to number of instances having it
+     */
+    private Map<Object, Integer> buildTargetIndex(YangSchemaNode target) {
+        Map<Object, Integer> index = new HashMap<>();
+        if (rootNode == null) {
+            return index;
+        }
+        LinkedList<YangSchemaNode> ancestors = new LinkedList<>();
+        YangNode ancestor = getDataParent(target);
+        while (ancestor != null) {
+            ancestors.addFirst(ancestor);
+            ancestor = getDataParent(ancestor);
+        }
+
+        List<N> nodes = Collections.singletonList(rootNode);
+        for (YangSchemaNode schemaNode : ancestors) {
+            nodes = getChildren(nodes, schemaNode);
+        }
+        YangType<?> dataType = getDataType(target);
+        for (N instance : getChildren(nodes, target)) {
+            String value = accessor.getValue(instance);
+            if (value != null) {
+                addKey(index, getIndexKey(dataType, value));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the children of the nodes which are instances of the schema
+     * node.
+     *
+     * @param nodes      data tree nodes
+     * @param schemaNode schema node of children
+     * @return list of child nodes
+     */
+    private List<N> getChildren(List<N> nodes, YangSchemaNode schemaNode) {
+        List<N> children = new ArrayList<>();
+        for (N node : nodes) {
+            children.addAll(accessor.getChildren(node, schemaNode));
+        }
+        return children;
+    }
+
+    /**
+     * Adds an occurrence of the key to the index.
+     *
+     * @param index index of value to number of instances having it
+     * @param key   index key of value
+     */
+    private static void addKey(Map<Object, Integer> index, Object key) {
+        Integer count = index.get(key);
+        index.put(key, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Returns the data type of leaf or leaf-list.
+     *
+     * @param target leaf or leaf-list
+     * @return data type, or null if not a leaf or leaf-list
+     */
+    private static YangType<?> getDataType(YangSchemaNode target) {
+        if (target instanceof YangLeaf) {
+            return ((YangLeaf) target).getDataType();
+        }
+        if (target instanceof YangLeafList) {
+            return ((YangLeafList) target).getDataType();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key of value in index, which is the canonical value for
+     * the numeric types and the value itself for the other types, or if
+     * value is not valid for the type.
+     *
+     * @param dataType data type of value
+     * @param value    value
+     * @return index key of value
+     */
+    static Object getIndexKey(YangType<?> dataType, String value) {
+        YangDataTypes builtInType = getBuiltInType(dataType);
+        if (builtInType == null) {
+            return value;
+        }
+        try {
+            switch (builtInType) {
+                case INT8:
+                case INT16:
+                case INT32:
+                case INT64:
+                case UINT8:
+                case UINT16:
+                case UINT32:
+                    return Long.valueOf(value);
+                case UINT64:
+                    return new BigInteger(value);
+                case DECIMAL64:
+                    return new BigDecimal(value).stripTrailingZeros();
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    /**
+     * Returns the built-in type of the data type. For leafref it is the
+     * built-in type of the effective data type of leafref.
+     *
+     * @param dataType data type
+     * @return built-in type, or null if not resolved
+     */
+    private static YangDataTypes getBuiltInType(YangType<?> dataType) {
+        YangType<?> type = dataType;
+        if (type != null && type.getDataType() == LEAFREF) {
+            Object leafRef = type.getDataTypeExtendedInfo();
+            type = leafRef instanceof YangLeafRef ? ((YangLeafRef<?>) leafRef).getEffectiveDataType() : null;
+        }
+        if (type == null) {
+            return null;
+        }
+        if (type.getDataType() == DERIVED) {
+            Object derivedInfo = type.getDataTypeExtendedInfo();
+            return derivedInfo instanceof YangDerivedInfo ?
+                    ((YangDerivedInfo<?>) derivedInfo).getEffectiveBuiltInType() : null;
+        }
+        return type.getDataType();
+    }
+}
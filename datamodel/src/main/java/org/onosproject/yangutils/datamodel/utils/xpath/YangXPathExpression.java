@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils.xpath;
+
+/**
+ * Represents compiled XPath expression of YANG must or when statement. The
+ * location steps are resolved to schema nodes and the prefixes are bound to
+ * modules while compiling. It is immutable, hence can be evaluated
+ * concurrently against any data tree through a data tree accessor.
+ */
+public final class YangXPathExpression {
+
+    private final String expression;
+    private final XPathExpr root;
+
+    /**
+     * Creates a compiled XPath expression.
+     *
+     * @param expression XPath expression
+     * @param root       root of compiled expression tree
+     */
+    YangXPathExpression(String expression, XPathExpr root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    /**
+     * Returns the XPath expression.
+     *
+     * @return XPath expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Evaluates the expression for the data tree node. The value is a
+     * Boolean, a Double, a String or a list of data tree nodes for node-set.
+     *
+     * @param node     data tree node for which expression is evaluated
+     * @param accessor data tree accessor
+     * @param <N>      type of data tree node
+     * @return value of expression
+     */
+    public <N> Object evaluate(N node, XPathDataAccessor<N> accessor) {
+        return root.evaluate(new XPathContext<>(accessor, node), node);
+    }
+
+    /**
+     * Evaluates the expression for the data tree node and returns its value
+     * converted to boolean, as required for must and when statements.
+     *
+     * @param node     data tree node for which expression is evaluated
+     * @param accessor data tree accessor
+     * @param <N>      type of data tree node
+     * @return boolean value of expression
+     */
+    public <N> boolean evaluateBoolean(N node, XPathDataAccessor<N> accessor) {
+        XPathContext<N> context = new XPathContext<>(accessor, node);
+        return context.toBoolean(root.evaluate(context, node));
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -31,4 +31,26 @@ public interface YangLinker {
      * @param yangNodeSet set of all dependent YANG nodes
      */
     void resolveDependencies(Set<YangNode> yangNodeSet);
+
+    /**
+     * Links again the linked modules affected by a change of some modules.
+     * The changed modules are linked with the modules which directly or
+     * indirectly import or include them, or belong to them, which are
+     * loaded again; the other linked modules are left untouched.
+     *
+     * @param changedNodes new modules and sub-modules, which are added or
+     *                     replace the linked ones with the same name
+     * @param removedNodes linked modules and sub-modules to remove
+     * @param loader       loader of the linked modules to link again
+     * @return root nodes of the data model trees linked again
+     */
+    Set<YangNode> relinkDependencies(Set<YangNode> changedNodes, Set<YangNode> removedNodes,
+                                     YangNodeLoader loader);
+
+    /**
+     * Sets the listener informed of the progress of the linking.
+     *
+     * @param linkerListener linker listener, null for none
+     */
+    void setLinkerListener(YangLinkerListener linkerListener);
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.linker;
+
+/**
+ * Abstraction of entity which is informed of the progress of the linker,
+ * to measure where the linking time goes. Modules may be linked
+ * concurrently, so the listener is to be thread safe.
+ */
+public interface YangLinkerListener {
+
+    /**
+     * Informs a step of linking is completed for the set of YANG files.
+     *
+     * @param step         linking step
+     * @param elapsedNanos wall time of the step in nanoseconds
+     */
+    void stepCompleted(YangLinkingStep step, long elapsedNanos);
+
+    /**
+     * Informs the inter file linking of the references of one resolvable
+     * type is completed for a module or sub-module.
+     *
+     * @param pass measures of the linking
+     */
+    void passCompleted(YangResolutionPass pass);
+}
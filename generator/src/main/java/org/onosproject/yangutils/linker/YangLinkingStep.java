@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.linker;
+
+/**
+ * Represents the steps of linking a set of YANG files, in the order in
+ * which the linker carries them out.
+ */
+public enum YangLinkingStep {
+
+    /**
+     * Linking the sub-modules with the modules they belong to.
+     */
+    SUB_MODULE_LINKING,
+
+    /**
+     * Adding the references of the imported modules.
+     */
+    IMPORT_REFERENCES,
+
+    /**
+     * Adding the references of the included sub-modules.
+     */
+    INCLUDE_REFERENCES,
+
+    /**
+     * Updating the priority of the files.
+     */
+    PRIORITY_UPDATE,
+
+    /**
+     * Linking the references across the files, for each resolvable type.
+     */
+    INTER_FILE_LINKING,
+
+    /**
+     * Computing the schema path of the schema nodes.
+     */
+    SCHEMA_PATH_UPDATE,
+
+    /**
+     * Sharing the structurally identical types.
+     */
+    TYPE_CANONICALIZATION,
+
+    /**
+     * Computing the derived identities of the identities.
+     */
+    IDENTITY_DERIVATION,
+
+    /**
+     * Computing the mandatory and default children of the schema nodes.
+     */
+    MANDATORY_DEFAULT_RESOLUTION,
+
+    /**
+     * Compiling the must and when expressions.
+     */
+    XPATH_CONSTRAINT_COMPILATION
+}
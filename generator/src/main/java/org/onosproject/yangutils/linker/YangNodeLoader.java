@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.linker;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+
+/**
+ * Abstraction of entity which loads again a linked module or sub-module, to
+ * be linked again when a module it depends on changes.
+ */
+public interface YangNodeLoader {
+
+    /**
+     * Returns a new data model tree of the linked module or sub-module, as
+     * obtained from parsing its YANG file, with references linked within
+     * the file only.
+     *
+     * @param linkedNode root node of linked data model tree
+     * @return root node of new data model tree
+     */
+    YangNode loadNode(YangNode linkedNode);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.linker;
+
+import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.datamodel.YangNode;
+
+/**
+ * Represents the measures of the inter file linking of the references of
+ * one resolvable type in a module or sub-module.
+ */
+public final class YangResolutionPass {
+
+    private final YangNode yangNode;
+    private final ResolvableType type;
+    private final long elapsedNanos;
+    private final int entryCount;
+    private final int maxStackDepth;
+    private final int retryCount;
+
+    /**
+     * Creates the measures of the inter file linking of a resolvable type.
+     *
+     * @param yangNode      module or sub-module
+     * @param type          resolvable type
+     * @param elapsedNanos  wall time of the linking in nanoseconds
+     * @param entryCount    number of resolution entries
+     * @param maxStackDepth maximum depth of the stack of partially resolved
+     *                      constructs of an entry
+     * @param retryCount    number of attempts to link an intra file resolved
+     *                      construct, over all the entries
+     */
+    public YangResolutionPass(YangNode yangNode, ResolvableType type, long elapsedNanos,
+                              int entryCount, int maxStackDepth, int retryCount) {
+        this.yangNode = yangNode;
+        this.type = type;
+        this.elapsedNanos = elapsedNanos;
+        this.entryCount = entryCount;
+        this.maxStackDepth = maxStackDepth;
+        this.retryCount = retryCount;
+    }
+
+    /**
+     * Returns the module or sub-module.
+     *
+     * @return module or sub-module
+     */
+    public YangNode getYangNode() {
+        return yangNode;
+    }
+
+    /**
+     * Returns the resolvable type.
+     *
+     * @return resolvable type
+     */
+    public ResolvableType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the wall time of the linking in nanoseconds.
+     *
+     * @return wall time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of resolution entries.
+     *
+     * @return number of resolution entries
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the maximum depth of the stack of partially resolved
+     * constructs of an entry.
+     *
+     * @return maximum stack depth
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Returns the number of attempts to link an intra file resolved
+     * construct, over all the entries.
+     *
+     * @return number of link attempts
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.yangutils.linker.impl;
+
+import org.onosproject.yangutils.datamodel.YangAtomicPath;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangNodeIdentifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the cache of the nodes which the leading atomic paths of
+ * leafref paths resolve to, shared by the leafrefs linked in one linking.
+ * Leafrefs referring to leaves of the same node, in the same module,
+ * resolve the path of that node only once. The cache also holds the
+ * absolute paths of the ancestor nodes relative leafref paths start from,
+ * shared by the copies of a grouping. The cache is safe for use by
+ * concurrent linkers.
+ */
+final class YangLeafRefPathCache {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String NAME_SEPARATOR = ":";
+
+    private final ConcurrentMap<PathKey, YangNode[]> resolvedNodes =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<YangNode, List<YangNodeIdentifier>> ancestorPaths =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<YangNodeIdentifier>> augmentPaths =
+            new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Returns the nodes which the leading atomic paths resolve to in a
+     * root node.
+     *
+     * @param root  root node the path is resolved in
+     * @param paths absolute path node list
+     * @param count number of leading atomic paths
+     * @return resolved nodes, null if not cached
+     */
+    YangNode[] get(YangNode root, List<YangAtomicPath> paths, int count) {
+        return countHit(resolvedNodes.get(new PathKey(root, paths, count)));
+    }
+
+    /**
+     * Adds the nodes which the leading atomic paths resolve to in a root
+     * node.
+     *
+     * @param root  root node the path is resolved in
+     * @param paths absolute path node list
+     * @param nodes resolved nodes of the leading atomic paths
+     */
+    void put(YangNode root, List<YangAtomicPath> paths, YangNode[] nodes) {
+        resolvedNodes.putIfAbsent(new PathKey(root, paths, nodes.length), nodes);
+    }
+
+    /**
+     * Returns the node identifiers of the absolute path of an ancestor node
+     * of leafrefs with relative path.
+     *
+     * @param ancestor ancestor node
+     * @return node identifiers of the path, null if not cached
+     */
+    List<YangNodeIdentifier> getAncestorPath(YangNode ancestor) {
+        return countHit(ancestorPaths.get(ancestor));
+    }
+
+    /**
+     * Adds the node identifiers of the absolute path of an ancestor node of
+     * leafrefs with relative path.
+     *
+     * @param ancestor ancestor node
+     * @param nodeIds  node identifiers of the path
+     */
+    void putAncestorPath(YangNode ancestor, List<YangNodeIdentifier> nodeIds) {
+        ancestorPaths.putIfAbsent(ancestor, Collections.unmodifiableList(nodeIds));
+    }
+
+    /**
+     * Returns the node identifiers of a path of augmented nodes.
+     *
+     * @param augmentPath path of augmented nodes
+     * @return node identifiers of the path, null if not cached
+     */
+    List<YangNodeIdentifier> getAugmentPath(String augmentPath) {
+        return countHit(augmentPaths.get(augmentPath));
+    }
+
+    /**
+     * Adds the node identifiers of a path of augmented nodes.
+     *
+     * @param augmentPath path of augmented nodes
+     * @param nodeIds     node identifiers of the path
+     */
+    void putAugmentPath(String augmentPath, List<YangNodeIdentifier> nodeIds) {
+        augmentPaths.putIfAbsent(augmentPath, Collections.unmodifiableList(nodeIds));
+    }
+
+    /**
+     * Returns the number of lookups which found the resolved nodes or the
+     * path of an ancestor node.
+     *
+     * @return number of cache hits
+     */
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the value looked up, counting a hit when it is found.
+     *
+     * @param value value looked up, null if not cached
+     * @param <V>   type of value
+     * @return value looked up
+     */
+    private <V> V countHit(V value) {
+        if (value != null) {
+            hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Represents the key of a path resolved in a root node. Root nodes are
+     * compared by identity, as the prefixes in the path are the ones of the
+     * root node.
+     */
+    private static final class PathKey {
+
+        private final YangNode root;
+        private final String path;
+
+        /**
+         * Creates the key of the leading atomic paths of a path.
+         *
+         * @param root  root node the path is resolved in
+         * @param paths absolute path node list
+         * @param count number of leading atomic paths
+         */
+        private PathKey(YangNode root, List<YangAtomicPath> paths, int count) {
+            this.root = root;
+            StringBuilder builder = new StringBuilder();
+            for (int index = 0; index < count; index++) {
+                YangNodeIdentifier nodeId = paths.get(index).getNodeIdentifier();
+                builder.append(PATH_SEPARATOR);
+                if (nodeId.getPrefix() != null) {
+                    builder.append(nodeId.getPrefix()).append(NAME_SEPARATOR);
+                }
+                builder.append(nodeId.getName());
+            }
+            path = builder.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(root) + path.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PathKey)) {
+                return false;
+            }
+            PathKey other = (PathKey) obj;
+            return root == other.root && path.equals(other.path);
+        }
+    }
+}
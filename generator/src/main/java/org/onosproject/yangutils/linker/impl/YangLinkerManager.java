@@ -16,21 +16,55 @@
 
 package org.onosproject.yangutils.linker.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangAugmentableNode;
+import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangReferenceResolver;
 import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.IdentityDerivationResolver;
+import org.onosproject.yangutils.datamodel.utils.MandatoryDefaultResolver;
+import org.onosproject.yangutils.datamodel.utils.TypeCanonicalizer;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaPathIndex;
+import org.onosproject.yangutils.datamodel.utils.YangSymbolTableStatistics;
+import org.onosproject.yangutils.datamodel.utils.xpath.XPathConstraintCompiler;
+import org.onosproject.yangutils.datamodel.YangResolutionInfo;
 import org.onosproject.yangutils.linker.YangLinker;
+import org.onosproject.yangutils.linker.YangLinkerListener;
+import org.onosproject.yangutils.linker.YangLinkingStep;
+import org.onosproject.yangutils.linker.YangNodeLoader;
+import org.onosproject.yangutils.linker.YangResolutionPass;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
 
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.updateSchemaPath;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.updateSubtreeSchemaPath;
+import static org.onosproject.yangutils.linker.YangLinkingStep.IDENTITY_DERIVATION;
+import static org.onosproject.yangutils.linker.YangLinkingStep.IMPORT_REFERENCES;
+import static org.onosproject.yangutils.linker.YangLinkingStep.INCLUDE_REFERENCES;
+import static org.onosproject.yangutils.linker.YangLinkingStep.INTER_FILE_LINKING;
+import static org.onosproject.yangutils.linker.YangLinkingStep.MANDATORY_DEFAULT_RESOLUTION;
+import static org.onosproject.yangutils.linker.YangLinkingStep.PRIORITY_UPDATE;
+import static org.onosproject.yangutils.linker.YangLinkingStep.SCHEMA_PATH_UPDATE;
+import static org.onosproject.yangutils.linker.YangLinkingStep.SUB_MODULE_LINKING;
+import static org.onosproject.yangutils.linker.YangLinkingStep.TYPE_CANONICALIZATION;
+import static org.onosproject.yangutils.linker.YangLinkingStep.XPATH_CONSTRAINT_COMPILATION;
 import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.updateFilePriority;
+import static org.onosproject.yangutils.linker.impl.YangModuleDependencyGraph.getModuleDependencies;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 
 /**
@@ -45,6 +79,33 @@ public class YangLinkerManager
      */
     private Set<YangNode> yangNodeSet = new HashSet<>();
 
+    /*
+     * Number of modules linked concurrently in inter file linking.
+     */
+    private int linkingParallelism = Runtime.getRuntime().availableProcessors();
+
+    /*
+     * Listener informed of the progress of the linking, null for none.
+     */
+    private volatile YangLinkerListener linkerListener;
+
+    /*
+     * Number of lookups in the cache of leafref paths which found the path
+     * in the last linking.
+     */
+    private long leafRefPathCacheHitCount;
+
+    /*
+     * True when the groupings of the uses in the data trees are expanded on
+     * demand rather than once the uses are linked.
+     */
+    private boolean lazyUsesExpansion;
+
+    /*
+     * Expander of uses on demand in the ongoing linking, null if none.
+     */
+    private YangUsesExpander usesExpander;
+
     /**
      * Returns set of YANG node.
      *
@@ -69,22 +130,191 @@ public class YangLinkerManager
         // Create YANG node set.
         createYangNodeSet(yangNodeSet);
 
+        linkNodeSet(yangNodeSet, yangNodeSet);
+    }
+
+    @Override
+    public Set<YangNode> relinkDependencies(Set<YangNode> changedNodes, Set<YangNode> removedNodes,
+                                            YangNodeLoader loader) {
+
+        // Linked modules replaced by the changed modules or removed.
+        Set<YangNode> replacedNodes = Collections.newSetFromMap(new IdentityHashMap<YangNode, Boolean>());
+        Set<String> changedNames = new HashSet<>();
+        for (YangNode changedNode : changedNodes) {
+            changedNames.add(changedNode.getName());
+        }
+        for (YangNode linkedNode : getYangNodeSet()) {
+            if (changedNames.contains(linkedNode.getName()) || removedNodes.contains(linkedNode)) {
+                replacedNodes.add(linkedNode);
+            }
+        }
+
+        // Linked modules depending on them are loaded to be linked again.
+        Set<YangNode> dependentNodes = getDependentNodes(replacedNodes);
+        Set<YangNode> relinkedNodes = new HashSet<>(changedNodes);
+        for (YangNode dependentNode : dependentNodes) {
+            relinkedNodes.add(loader.loadNode(dependentNode));
+        }
+
+        // Augments of the discarded modules are removed from their targets.
+        for (YangNode replacedNode : replacedNodes) {
+            removeAugmentations(replacedNode);
+        }
+        for (YangNode dependentNode : dependentNodes) {
+            removeAugmentations(dependentNode);
+        }
+        getYangNodeSet().removeAll(replacedNodes);
+        getYangNodeSet().removeAll(dependentNodes);
+        createYangNodeSet(relinkedNodes);
+
+        linkNodeSet(relinkedNodes, getYangNodeSet());
+        return relinkedNodes;
+    }
+
+    /**
+     * Links the modules and sub-modules of the set with each other and with
+     * the modules already linked.
+     *
+     * @param yangNodeSet     set of YANG nodes to link
+     * @param identityNodeSet set of YANG nodes whose identities derive from
+     *                        each other
+     */
+    private void linkNodeSet(Set<YangNode> yangNodeSet, Set<YangNode> identityNodeSet) {
+
         // Carry out linking of sub module with module.
+        long startTime = System.nanoTime();
         linkSubModulesToParentModule(yangNodeSet);
+        startTime = stepCompleted(SUB_MODULE_LINKING, startTime);
 
         // Add references to import list.
         addRefToYangFilesImportList(yangNodeSet);
+        startTime = stepCompleted(IMPORT_REFERENCES, startTime);
 
         // Add reference to include list.
         addRefToYangFilesIncludeList(yangNodeSet);
+        startTime = stepCompleted(INCLUDE_REFERENCES, startTime);
 
         // Update the priority for all the files.
         updateFilePriority(yangNodeSet);
+        startTime = stepCompleted(PRIORITY_UPDATE, startTime);
 
         // TODO check for circular import/include.
 
+        // Discard the schema path indexes of an earlier linking.
+        for (YangNode yangNode : yangNodeSet) {
+            if (yangNode instanceof YangModule) {
+                ((YangModule) yangNode).setSchemaPathIndex(null);
+            }
+        }
+
         // Carry out inter-file linking.
         processInterFileLinking(yangNodeSet);
+        startTime = stepCompleted(INTER_FILE_LINKING, startTime);
+
+        // Compute the schema path of all the schema nodes.
+        for (YangNode yangNode : yangNodeSet) {
+            updateSchemaPath(yangNode);
+        }
+        startTime = stepCompleted(SCHEMA_PATH_UPDATE, startTime);
+
+        // Share structurally identical types across the linked files.
+        new TypeCanonicalizer().canonicalize(yangNodeSet);
+        startTime = stepCompleted(TYPE_CANONICALIZATION, startTime);
+
+        // Compute the derived identities of each identity across the linked files.
+        new IdentityDerivationResolver().resolveDerivations(identityNodeSet);
+        startTime = stepCompleted(IDENTITY_DERIVATION, startTime);
+
+        // Precompute the mandatory and default children of each schema node.
+        new MandatoryDefaultResolver().resolveMandatoryAndDefaults(yangNodeSet);
+        startTime = stepCompleted(MANDATORY_DEFAULT_RESOLUTION, startTime);
+
+        // Compile the must and when expressions against the linked schema.
+        XPathConstraintCompiler constraintCompiler = new XPathConstraintCompiler();
+        for (YangNode yangNode : yangNodeSet) {
+            compileConstraints(constraintCompiler, yangNode, yangNode);
+        }
+        stepCompleted(XPATH_CONSTRAINT_COMPILATION, startTime);
+    }
+
+    /**
+     * Informs the linker listener, if any, of the completion of a linking
+     * step.
+     *
+     * @param step      linking step
+     * @param startTime start time of the step in nanoseconds
+     * @return completion time of the step in nanoseconds
+     */
+    private long stepCompleted(YangLinkingStep step, long startTime) {
+        long endTime = System.nanoTime();
+        YangLinkerListener listener = linkerListener;
+        if (listener != null) {
+            listener.stepCompleted(step, endTime - startTime);
+        }
+        return endTime;
+    }
+
+    /**
+     * Returns the linked modules and sub-modules which directly or
+     * indirectly import or include the given ones or belong to them, other
+     * than the given ones.
+     *
+     * @param yangNodes linked modules and sub-modules
+     * @return dependent modules and sub-modules
+     */
+    private Set<YangNode> getDependentNodes(Set<YangNode> yangNodes) {
+        Map<YangNode, List<YangNode>> dependents = new IdentityHashMap<>();
+        for (YangNode linkedNode : getYangNodeSet()) {
+            List<YangNode> dependencies = getModuleDependencies(linkedNode);
+            if (linkedNode instanceof YangSubModule
+                    && ((YangSubModule) linkedNode).getBelongsTo().getModuleNode() != null) {
+                dependencies.add(((YangSubModule) linkedNode).getBelongsTo().getModuleNode());
+            }
+            for (YangNode dependency : dependencies) {
+                List<YangNode> nodeDependents = dependents.get(dependency);
+                if (nodeDependents == null) {
+                    nodeDependents = new ArrayList<>();
+                    dependents.put(dependency, nodeDependents);
+                }
+                nodeDependents.add(linkedNode);
+            }
+        }
+
+        Set<YangNode> dependentNodes = Collections.newSetFromMap(new IdentityHashMap<YangNode, Boolean>());
+        LinkedList<YangNode> pendingNodes = new LinkedList<>(yangNodes);
+        while (!pendingNodes.isEmpty()) {
+            List<YangNode> nodeDependents = dependents.get(pendingNodes.poll());
+            if (nodeDependents == null) {
+                continue;
+            }
+            for (YangNode dependent : nodeDependents) {
+                if (!yangNodes.contains(dependent) && dependentNodes.add(dependent)) {
+                    pendingNodes.add(dependent);
+                }
+            }
+        }
+        return dependentNodes;
+    }
+
+    /**
+     * Removes the augments of a linked module or sub-module from their
+     * target nodes, which may be in modules which are not linked again.
+     *
+     * @param yangNode root node of linked data model tree
+     */
+    private static void removeAugmentations(YangNode yangNode) {
+        YangNode child = yangNode.getChild();
+        while (child != null) {
+            if (child instanceof YangAugment) {
+                YangNode targetNode = ((YangAugment) child).getAugmentedNode();
+                if (targetNode instanceof YangAugmentableNode) {
+                    synchronized (targetNode) {
+                        ((YangAugmentableNode) targetNode).removeAugmentation((YangAugment) child);
+                    }
+                }
+            }
+            child = child.getNextSibling();
+        }
     }
 
     /**
@@ -160,7 +390,139 @@ public class YangLinkerManager
     }
 
     /**
-     * Processes inter file linking for type and uses.
+     * Returns the statistics of the symbol tables used to resolve the
+     * references of the linked modules.
+     *
+     * @return statistics of symbol tables
+     */
+    public YangSymbolTableStatistics getSymbolTableStatistics() {
+        return new YangSymbolTableStatistics(yangNodeSet);
+    }
+
+    @Override
+    public void setLinkerListener(YangLinkerListener linkerListener) {
+        this.linkerListener = linkerListener;
+    }
+
+    /**
+     * Returns the number of target nodes of leafref paths and of paths of
+     * ancestor nodes of relative leafref paths found in the cache of
+     * leafref paths in the last linking.
+     *
+     * @return number of leafref path cache hits
+     */
+    public long getLeafRefPathCacheHitCount() {
+        return leafRefPathCacheHitCount;
+    }
+
+    /**
+     * Returns true if the groupings of the uses in the data trees are
+     * expanded on demand.
+     *
+     * @return true if uses are expanded on demand
+     */
+    public boolean isLazyUsesExpansion() {
+        return lazyUsesExpansion;
+    }
+
+    /**
+     * Sets whether the groupings of the uses in the data trees are expanded
+     * on demand. A uses of a grouping of another module is then only
+     * linked to its grouping, as the uses within a file are expanded once
+     * the file is parsed; the grouping is expanded when the linker resolves
+     * a path through the node holding the uses, or when
+     * {@link #expandUses(YangNode)} is invoked for that node. It suits
+     * consumers which only access part of large models, not code
+     * generation. The modules are linked one after the other.
+     *
+     * @param lazyUsesExpansion true to expand uses on demand
+     */
+    public void setLazyUsesExpansion(boolean lazyUsesExpansion) {
+        this.lazyUsesExpansion = lazyUsesExpansion;
+    }
+
+    /**
+     * Expands the groupings of the uses held by a node of the linked data
+     * trees, whose expansion is deferred. It is to be invoked before the
+     * children or leaves of the node are accessed; a grouping is expanded
+     * with its whole subtree. The schema path, the mandatory and default
+     * children and the constraints of the nodes are updated.
+     *
+     * @param node node of a linked data tree
+     * @throws LinkerException a violation in linker execution
+     */
+    public void expandUses(YangNode node) throws LinkerException {
+        YangUsesExpander expander = new YangUsesExpander();
+        expander.setLinkLeafRefs(true);
+        try {
+            if (!expander.expandChildren(node)) {
+                return;
+            }
+        } catch (DataModelException e) {
+            LinkerException ex = new LinkerException(e.getMessage());
+            ex.setLine(e.getLineNumber());
+            ex.setCharPosition(e.getCharPositionInLine());
+            ex.setFileName(e.getFileName());
+            throw ex;
+        }
+
+        updateSubtreeSchemaPath(node);
+        YangNode rootNode = node;
+        while (rootNode.getParent() != null) {
+            rootNode = rootNode.getParent();
+        }
+        new MandatoryDefaultResolver().resolveMandatoryAndDefaults(Collections.singleton(rootNode));
+        YangNode constraintRoot = node.getParent() == null ? node : node.getParent();
+        compileConstraints(new XPathConstraintCompiler(), constraintRoot, rootNode);
+    }
+
+    /**
+     * Compiles the must and when statements in the subtree of a node of a
+     * linked data tree.
+     *
+     * @param compiler constraint compiler
+     * @param node     node whose subtree is compiled
+     * @param rootNode root node of the data tree
+     * @throws LinkerException if an expression is not valid
+     */
+    private static void compileConstraints(XPathConstraintCompiler compiler, YangNode node,
+                                           YangNode rootNode) throws LinkerException {
+        try {
+            compiler.compileConstraints(node);
+        } catch (DataModelException e) {
+            LinkerException ex = new LinkerException(getErrorInfo(rootNode, e.getLineNumber(),
+                                                                  e.getCharPositionInLine(),
+                                                                  e.getLocalizedMessage()));
+            ex.setLine(e.getLineNumber());
+            ex.setCharPosition(e.getCharPositionInLine());
+            ex.setFileName(e.getFileName());
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the number of modules linked concurrently.
+     *
+     * @return number of modules linked concurrently
+     */
+    public int getLinkingParallelism() {
+        return linkingParallelism;
+    }
+
+    /**
+     * Sets the number of modules linked concurrently, one links the modules
+     * one after the other.
+     *
+     * @param linkingParallelism number of modules linked concurrently
+     */
+    public void setLinkingParallelism(int linkingParallelism) {
+        this.linkingParallelism = Math.max(1, linkingParallelism);
+    }
+
+    /**
+     * Processes inter file linking for type and uses. The modules are linked
+     * in the waves of their dependency graph; the modules of a wave do not
+     * import or include each other and are linked concurrently.
      *
      * @param yangNodeSet set of YANG files info
      * @throws LinkerException a violation in linker execution
@@ -170,40 +532,363 @@ public class YangLinkerManager
         List<YangNode> yangNodeSortedList = new LinkedList<>();
         yangNodeSortedList.addAll(yangNodeSet);
         Collections.sort(yangNodeSortedList);
+        List<List<YangNode>> linkingWaves =
+                new YangModuleDependencyGraph(yangNodeSortedList).getLinkingWaves();
+
+        int maxWaveSize = 0;
+        for (List<YangNode> wave : linkingWaves) {
+            maxWaveSize = Math.max(maxWaveSize, wave.size());
+        }
+        usesExpander = lazyUsesExpansion ? new YangUsesExpander() : null;
+        int threadCount = Math.min(linkingParallelism, maxWaveSize);
+        if (threadCount <= 1 || usesExpander != null) {
+            for (YangNode yangNode : yangNodeSortedList) {
+                processInterFileLinking(yangNode);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                for (List<YangNode> wave : linkingWaves) {
+                    processInterFileLinking(wave, executor);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        processLeafRefLinking(yangNodeSortedList);
+        usesExpander = null;
+    }
+
+    /**
+     * Processes inter file linking of the leafrefs of all the modules, once
+     * their other constructs are linked. The target nodes of the leafref
+     * paths are first resolved concurrently into a cache shared by all the
+     * leafrefs, as this only reads the data model trees; the leafrefs are
+     * then linked module after module, looking up their paths in the
+     * cache. Leafrefs referring to leaves of the same node resolve the path
+     * of that node once.
+     *
+     * @param yangNodeSortedList modules and sub-modules in priority order
+     * @throws LinkerException a violation in linker execution
+     */
+    private void processLeafRefLinking(List<YangNode> yangNodeSortedList)
+            throws LinkerException {
+        YangLeafRefPathCache pathCache = new YangLeafRefPathCache();
+        if (usesExpander != null) {
+            usesExpander.setLinkLeafRefs(true);
+        }
+        List<YangResolutionInfoImpl<?>> resolutionInfos = new ArrayList<>();
+        List<YangReferenceResolver> resolvers = new ArrayList<>();
         for (YangNode yangNode : yangNodeSortedList) {
+            YangReferenceResolver resolver = (YangReferenceResolver) yangNode;
+            List<YangResolutionInfo> resolutionList =
+                    resolver.getUnresolvedResolutionList(ResolvableType.YANG_LEAFREF);
+            if (resolutionList == null) {
+                continue;
+            }
+            for (YangResolutionInfo resolutionInfo : resolutionList) {
+                if (resolutionInfo instanceof YangResolutionInfoImpl) {
+                    YangResolutionInfoImpl<?> resolutionInfoImpl =
+                            (YangResolutionInfoImpl<?>) resolutionInfo;
+                    resolutionInfoImpl.setLeafRefPathCache(pathCache);
+                    resolutionInfoImpl.setUsesExpander(usesExpander);
+                    resolutionInfos.add(resolutionInfoImpl);
+                    resolvers.add(resolver);
+                }
+            }
+        }
+
+        try {
+            prefetchLeafRefTargets(resolutionInfos, resolvers);
+            for (YangNode yangNode : yangNodeSortedList) {
+                try {
+                    resolveInterFileLinking(yangNode, ResolvableType.YANG_LEAFREF);
+                } catch (DataModelException e) {
+                    throw new LinkerException(getErrorInfo(yangNode, e.getLineNumber(),
+                                                           e.getCharPositionInLine(),
+                                                           e.getLocalizedMessage()));
+                } catch (LinkerException e) {
+                    throw new LinkerException(getErrorInfo(yangNode, e.getLineNumber(),
+                                                           e.getCharPositionInLine(),
+                                                           e.getLocalizedMessage()));
+                }
+            }
+        } finally {
+            for (YangResolutionInfoImpl<?> resolutionInfo : resolutionInfos) {
+                resolutionInfo.setLeafRefPathCache(null);
+            }
+            leafRefPathCacheHitCount = pathCache.getHitCount();
+        }
+    }
+
+    /**
+     * Resolves the target nodes of the leafref paths into the cache
+     * concurrently, each task prefetching an equal share of the leafrefs.
+     * Nothing is prefetched when the modules are linked one after the
+     * other, as when uses are expanded on demand.
+     *
+     * @param resolutionInfos resolution information of the leafrefs
+     * @param resolvers       module or sub-module holding each leafref
+     * @throws LinkerException a violation in linker execution
+     */
+    private void prefetchLeafRefTargets(List<YangResolutionInfoImpl<?>> resolutionInfos,
+                                        List<YangReferenceResolver> resolvers)
+            throws LinkerException {
+        int threadCount = Math.min(linkingParallelism, resolutionInfos.size());
+        if (threadCount <= 1 || usesExpander != null) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int task = 0; task < threadCount; task++) {
+                results.add(executor.submit(new LeafRefPrefetchTask(
+                        resolutionInfos, resolvers, task, threadCount)));
+            }
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new LinkerException("Inter file linking is interrupted", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Processes inter file linking of the modules of a wave concurrently.
+     * When linking of more than one module fails, the error of the first
+     * of them in the wave is reported.
+     *
+     * @param wave     modules of the wave
+     * @param executor executor to link modules
+     * @throws LinkerException a violation in linker execution
+     */
+    private void processInterFileLinking(List<YangNode> wave, ExecutorService executor)
+            throws LinkerException {
+        if (wave.size() == 1) {
+            processInterFileLinking(wave.get(0));
+            return;
+        }
+        List<Future<?>> results = new ArrayList<>();
+        for (YangNode yangNode : wave) {
+            results.add(executor.submit(new InterFileLinkingTask(yangNode)));
+        }
+        RuntimeException failure = null;
+        for (Future<?> result : results) {
             try {
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_IF_FEATURE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_USES);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_AUGMENT);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_DERIVED_DATA_TYPE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_BASE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_IDENTITYREF);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_LEAFREF);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_COMPILER_ANNOTATION);
-            } catch (DataModelException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
-            } catch (LinkerException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LinkerException("Inter file linking is interrupted", e);
+            } catch (ExecutionException e) {
+                if (failure != null) {
+                    continue;
+                }
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    failure = (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    failure = new LinkerException(cause.getMessage(), cause);
+                }
             }
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Processes inter file linking of the module, for each resolvable type
+     * in turn, except leafrefs which are linked once all the modules are.
+     *
+     * @param yangNode module or sub-module
+     * @throws LinkerException a violation in linker execution
+     */
+    private void processInterFileLinking(YangNode yangNode)
+            throws LinkerException {
+        try {
+            if (usesExpander != null) {
+                setUsesExpander((YangReferenceResolver) yangNode);
+            }
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_IF_FEATURE);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_USES);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_AUGMENT);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_DERIVED_DATA_TYPE);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_BASE);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_IDENTITYREF);
+            resolveInterFileLinking(yangNode, ResolvableType.YANG_COMPILER_ANNOTATION);
+
+            // Index the linked module for the paths of the modules importing it.
+            if (yangNode instanceof YangModule) {
+                YangModule module = (YangModule) yangNode;
+                module.setSchemaPathIndex(new YangSchemaPathIndex(module));
+            }
+        } catch (DataModelException e) {
+            throw new LinkerException(getErrorInfo(yangNode, e.getLineNumber(),
+                                                   e.getCharPositionInLine(),
+                                                   e.getLocalizedMessage()));
+            // TODO add file path in exception message in util manager.
+        } catch (LinkerException e) {
+            throw new LinkerException(getErrorInfo(yangNode, e.getLineNumber(),
+                                                   e.getCharPositionInLine(),
+                                                   e.getLocalizedMessage()));
+            // TODO add file path in exception message in util manager.
+        }
+    }
+
+    /**
+     * Sets the expander of uses on demand in the resolution information of
+     * the module.
+     *
+     * @param resolver module or sub-module
+     */
+    private void setUsesExpander(YangReferenceResolver resolver) {
+        for (ResolvableType type : ResolvableType.values()) {
+            List<YangResolutionInfo> resolutionList = resolver.getUnresolvedResolutionList(type);
+            if (resolutionList == null) {
+                continue;
+            }
+            for (YangResolutionInfo resolutionInfo : resolutionList) {
+                if (resolutionInfo instanceof YangResolutionInfoImpl) {
+                    ((YangResolutionInfoImpl<?>) resolutionInfo).setUsesExpander(usesExpander);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the information of an error in inter file linking of the
+     * module.
+     *
+     * @param yangNode     module or sub-module
+     * @param lineNumber   line number of the error
+     * @param charPosition character position of the error
+     * @param message      message of the error
+     * @return error information
+     */
+    private static String getErrorInfo(YangNode yangNode, int lineNumber,
+                                       int charPosition, String message) {
+        return "Error in file: " + yangNode.getName() + " in " +
+                yangNode.getFileName() + " at " +
+                "line: " + lineNumber + " at position: " + charPosition + NEW_LINE
+                + message;
+    }
+
+    /**
+     * Processes inter file linking of the module for a resolvable type and
+     * informs the linker listener, if any, of its measures.
+     *
+     * @param yangNode module or sub-module
+     * @param type     resolvable type
+     * @throws DataModelException a violation in data model rule
+     */
+    private void resolveInterFileLinking(YangNode yangNode, ResolvableType type)
+            throws DataModelException {
+        YangReferenceResolver resolver = (YangReferenceResolver) yangNode;
+        YangLinkerListener listener = linkerListener;
+        if (listener == null) {
+            resolver.resolveInterFileLinking(type);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        resolver.resolveInterFileLinking(type);
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        int entryCount = 0;
+        int maxStackDepth = 0;
+        int retryCount = 0;
+        List<YangResolutionInfo> resolutionList = resolver.getUnresolvedResolutionList(type);
+        if (resolutionList != null) {
+            for (YangResolutionInfo resolutionInfo : resolutionList) {
+                entryCount++;
+                if (resolutionInfo instanceof YangResolutionInfoImpl) {
+                    YangResolutionInfoImpl<?> resolutionInfoImpl = (YangResolutionInfoImpl<?>) resolutionInfo;
+                    maxStackDepth = Math.max(maxStackDepth, resolutionInfoImpl.getMaxStackDepth());
+                    retryCount += resolutionInfoImpl.getRetryCount();
+                }
+            }
+        }
+        listener.passCompleted(new YangResolutionPass(yangNode, type, elapsedNanos, entryCount,
+                                                      maxStackDepth, retryCount));
     }
 
+    /**
+     * Represents the task of inter file linking of a module.
+     */
+    private final class InterFileLinkingTask implements Runnable {
+
+        private final YangNode yangNode;
+
+        /**
+         * Creates the task of inter file linking of the module.
+         *
+         * @param yangNode module or sub-module
+         */
+        private InterFileLinkingTask(YangNode yangNode) {
+            this.yangNode = yangNode;
+        }
+
+        @Override
+        public void run() {
+            processInterFileLinking(yangNode);
+        }
+    }
+
+    /**
+     * Represents the task of prefetching the target nodes of a share of
+     * the leafref paths. Failures are left to the linking of the leafrefs,
+     * which reports them with the module of the leafref.
+     */
+    private static final class LeafRefPrefetchTask implements Runnable {
+
+        private final List<YangResolutionInfoImpl<?>> resolutionInfos;
+        private final List<YangReferenceResolver> resolvers;
+        private final int first;
+        private final int step;
+
+        /**
+         * Creates the task of prefetching the leafrefs from the first one,
+         * at every step.
+         *
+         * @param resolutionInfos resolution information of the leafrefs
+         * @param resolvers       module or sub-module holding each leafref
+         * @param first           index of the first leafref
+         * @param step            distance between two leafrefs of the task
+         */
+        private LeafRefPrefetchTask(List<YangResolutionInfoImpl<?>> resolutionInfos,
+                                    List<YangReferenceResolver> resolvers,
+                                    int first, int step) {
+            this.resolutionInfos = resolutionInfos;
+            this.resolvers = resolvers;
+            this.first = first;
+            this.step = step;
+        }
+
+        @Override
+        public void run() {
+            for (int index = first; index < resolutionInfos.size(); index += step) {
+                try {
+                    resolutionInfos.get(index).prefetchLeafRefTarget(resolvers.get(index));
+                } catch (DataModelException e) {
+                    // Reported when the leafref is linked.
+                    continue;
+                } catch (RuntimeException e) {
+                    // Reported when the leafref is linked.
+                    continue;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.linker.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.linker.YangLinkerListener;
+import org.onosproject.yangutils.linker.YangLinkingStep;
+import org.onosproject.yangutils.linker.YangResolutionPass;
+
+/**
+ * Represents the report of where the linking time goes. It sums the wall
+ * time of each linking step and of each resolvable type over the modules,
+ * and keeps the measures of the passes of each module which have
+ * resolution entries.
+ */
+public class YangLinkerTimingReport implements YangLinkerListener {
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private final Map<YangLinkingStep, Long> stepNanos = new EnumMap<>(YangLinkingStep.class);
+    private final Map<ResolvableType, Long> typeNanos = new EnumMap<>(ResolvableType.class);
+    private final Map<ResolvableType, Integer> typeEntryCounts = new EnumMap<>(ResolvableType.class);
+    private final List<YangResolutionPass> passes = new ArrayList<>();
+
+    @Override
+    public synchronized void stepCompleted(YangLinkingStep step, long elapsedNanos) {
+        stepNanos.put(step, getStepNanos(step) + elapsedNanos);
+    }
+
+    @Override
+    public synchronized void passCompleted(YangResolutionPass pass) {
+        typeNanos.put(pass.getType(), getTypeNanos(pass.getType()) + pass.getElapsedNanos());
+        typeEntryCounts.put(pass.getType(), getTypeEntryCount(pass.getType()) + pass.getEntryCount());
+        if (pass.getEntryCount() > 0) {
+            passes.add(pass);
+        }
+    }
+
+    /**
+     * Returns the wall time of a linking step in nanoseconds, summed over
+     * the linkings.
+     *
+     * @param step linking step
+     * @return wall time in nanoseconds
+     */
+    public synchronized long getStepNanos(YangLinkingStep step) {
+        Long nanos = stepNanos.get(step);
+        return nanos == null ? 0 : nanos;
+    }
+
+    /**
+     * Returns the wall time of the inter file linking of a resolvable type
+     * in nanoseconds, summed over the modules.
+     *
+     * @param type resolvable type
+     * @return wall time in nanoseconds
+     */
+    public synchronized long getTypeNanos(ResolvableType type) {
+        Long nanos = typeNanos.get(type);
+        return nanos == null ? 0 : nanos;
+    }
+
+    /**
+     * Returns the number of resolution entries of a resolvable type, summed
+     * over the modules.
+     *
+     * @param type resolvable type
+     * @return number of resolution entries
+     */
+    public synchronized int getTypeEntryCount(ResolvableType type) {
+        Integer count = typeEntryCounts.get(type);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Returns the measures of the passes with resolution entries, in the
+     * order of their completion.
+     *
+     * @return measures of the passes
+     */
+    public synchronized List<YangResolutionPass> getPasses() {
+        return new ArrayList<>(passes);
+    }
+
+    /**
+     * Returns the lines of the report: the time of each linking step, of
+     * each resolvable type and then the measures of each module, by module
+     * name.
+     *
+     * @return lines of the report
+     */
+    public synchronized List<String> getReportLines() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<YangLinkingStep, Long> entry : stepNanos.entrySet()) {
+            lines.add("step " + entry.getKey() + ": " + getMillis(entry.getValue()));
+        }
+        for (Map.Entry<ResolvableType, Long> entry : typeNanos.entrySet()) {
+            lines.add("type " + entry.getKey() + ": " + getMillis(entry.getValue()) + ", "
+                              + getTypeEntryCount(entry.getKey()) + " entries");
+        }
+
+        List<YangResolutionPass> sortedPasses = new ArrayList<>(passes);
+        Collections.sort(sortedPasses, new PassComparator());
+        for (YangResolutionPass pass : sortedPasses) {
+            lines.add("module " + pass.getYangNode().getName() + " " + pass.getType() + ": "
+                              + getMillis(pass.getElapsedNanos()) + ", "
+                              + pass.getEntryCount() + " entries, max stack depth "
+                              + pass.getMaxStackDepth() + ", " + pass.getRetryCount() + " retries");
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the text of a wall time in milliseconds.
+     *
+     * @param nanos wall time in nanoseconds
+     * @return text of wall time
+     */
+    private static String getMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Represents the order of the passes by module name and resolvable
+     * type.
+     */
+    private static final class PassComparator implements Comparator<YangResolutionPass> {
+
+        @Override
+        public int compare(YangResolutionPass pass1, YangResolutionPass pass2) {
+            int result = pass1.getYangNode().getName().compareTo(pass2.getYangNode().getName());
+            if (result != 0) {
+                return result;
+            }
+            return pass1.getType().compareTo(pass2.getType());
+        }
+    }
+}
@@ -53,6 +53,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
 import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
 import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
 import static org.onosproject.yangutils.datamodel.TraversalType.ROOT;
@@ -445,7 +447,8 @@ public final class YangLinkerUtils {
 
         while (potentialInterFileGrouping != null) {
             if (potentialInterFileGrouping instanceof YangGrouping) {
-                addGroupingResolvableEntitiesToResolutionList((YangGrouping) potentialInterFileGrouping);
+                addGroupingResolvableEntitiesToResolutionList((YangGrouping) potentialInterFileGrouping,
+                                                              referenceResolver);
             }
 
             potentialInterFileGrouping = potentialInterFileGrouping.getNextSibling();
@@ -456,11 +459,13 @@ public final class YangLinkerUtils {
      * Add the interfile grouping resolvable entities to reesolution list.
      *
      * @param interFileGrouping interfile grouping
+     * @param referenceResolver module / sub-module of the grouping
      */
-    private static void addGroupingResolvableEntitiesToResolutionList(YangGrouping interFileGrouping) {
+    private static void addGroupingResolvableEntitiesToResolutionList(YangGrouping interFileGrouping,
+                                                                      YangReferenceResolver referenceResolver) {
         YangNode curNode = interFileGrouping;
         TraversalType curTraversal = ROOT;
-        addResolvableLeavesToResolutionList((YangLeavesHolder) curNode);
+        addResolvableLeavesToResolutionList((YangLeavesHolder) curNode, referenceResolver);
         curTraversal = CHILD;
         curNode = interFileGrouping.getChild();
         if (curNode == null) {
@@ -480,7 +485,7 @@ public final class YangLinkerUtils {
                 }
 
                 if (curNode instanceof YangLeavesHolder) {
-                    addResolvableLeavesToResolutionList((YangLeavesHolder) curNode);
+                    addResolvableLeavesToResolutionList((YangLeavesHolder) curNode, referenceResolver);
                 } else if (curNode instanceof YangTypeDef) {
                     List<YangType<?>> typeList = ((YangTypeDef) curNode).getTypeList();
                     if (!typeList.isEmpty()) {
@@ -495,7 +500,7 @@ public final class YangLinkerUtils {
                                         new YangResolutionInfoImpl<YangType>(type, curNode, type.getLineNumber(),
                                                                              type.getCharPosition());
                                 try {
-                                    addResolutionInfo(resolutionInfo);
+                                    addResolutionInfo(resolutionInfo, YANG_DERIVED_DATA_TYPE, referenceResolver);
                                 } catch (DataModelException e) {
                                     String errorInfo = "Error in file: " + curNode.getName() + " in " +
                                             curNode.getFileName() + " at " +
@@ -528,9 +533,11 @@ public final class YangLinkerUtils {
     /**
      * Add resolvable leaves type info to resolution list.
      *
-     * @param leavesHolder leaves holder node
+     * @param leavesHolder      leaves holder node
+     * @param referenceResolver module / sub-module of the leaves holder
      */
-    private static void addResolvableLeavesToResolutionList(YangLeavesHolder leavesHolder) {
+    private static void addResolvableLeavesToResolutionList(YangLeavesHolder leavesHolder,
+                                                            YangReferenceResolver referenceResolver) {
         if (leavesHolder.getListOfLeaf() != null && !leavesHolder.getListOfLeaf().isEmpty()) {
             for (YangLeaf leaf : leavesHolder.getListOfLeaf()) {
                 YangType type = leaf.getDataType();
@@ -543,7 +550,7 @@ public final class YangLinkerUtils {
                             new YangResolutionInfoImpl<>(type, (YangNode) leavesHolder,
                                                          type.getLineNumber(), type.getCharPosition());
                     try {
-                        addResolutionInfo(resolutionInfo);
+                        addResolutionInfo(resolutionInfo, YANG_DERIVED_DATA_TYPE, referenceResolver);
                     } catch (DataModelException e) {
                         throw new LinkerException("Failed to add leaf type info in grouping, to resolution ");
                     }
@@ -557,7 +564,7 @@ public final class YangLinkerUtils {
                             new YangResolutionInfoImpl<YangIdentityRef>(identityRef, (YangNode) leavesHolder,
                                                                         identityRef.getLineNumber(), identityRef.getCharPosition());
                     try {
-                        addResolutionInfo(resolutionInfo);
+                        addResolutionInfo(resolutionInfo, YANG_IDENTITYREF, referenceResolver);
                     } catch (DataModelException e) {
                         throw new LinkerException("Failed to add leaf identity ref info in grouping, to resolution ");
                     }
@@ -577,7 +584,7 @@ public final class YangLinkerUtils {
                             new YangResolutionInfoImpl<YangType>(type, (YangNode) leavesHolder,
                                                                  type.getLineNumber(), type.getCharPosition());
                     try {
-                        addResolutionInfo(resolutionInfo);
+                        addResolutionInfo(resolutionInfo, YANG_DERIVED_DATA_TYPE, referenceResolver);
                     } catch (DataModelException e) {
                         throw new LinkerException("Failed to add leaf type info in grouping, to resolution ");
                     }
@@ -590,7 +597,7 @@ public final class YangLinkerUtils {
                             new YangResolutionInfoImpl<YangIdentityRef>(identityRef, (YangNode) leavesHolder,
                                                                         identityRef.getLineNumber(), identityRef.getCharPosition());
                     try {
-                        addResolutionInfo(resolutionInfo);
+                        addResolutionInfo(resolutionInfo, YANG_IDENTITYREF, referenceResolver);
                     } catch (DataModelException e) {
                         throw new LinkerException("Failed to add leaf identity ref info in grouping, to resolution ");
                     }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.linker.impl;
+
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the graph of dependencies among modules and sub-modules, made
+ * of their imports and includes. The modules are arranged in linking waves:
+ * a module is in a wave after the last wave of the modules it depends on.
+ * The modules of a wave do not depend on each other and can be linked
+ * concurrently, once the modules of the earlier waves are linked.
+ * <p>
+ * Leaves cloned from a grouping by uses share their types with the
+ * grouping, and these types are resolved again for each uses. Hence two
+ * modules which directly or indirectly depend on the same module defining
+ * groupings are placed in different waves.
+ */
+public final class YangModuleDependencyGraph {
+
+    /**
+     * Dependency wave of a module whose wave is being computed, used to
+     * ignore the edges which close a cycle.
+     */
+    private static final int IN_PROGRESS = -1;
+
+    private final Map<YangNode, List<YangNode>> dependencies = new IdentityHashMap<>();
+    private final Map<YangNode, Integer> waves = new IdentityHashMap<>();
+    private final Map<YangNode, Set<YangNode>> groupingModules = new IdentityHashMap<>();
+    private final List<List<YangNode>> linkingWaves = new ArrayList<>();
+
+    /**
+     * Creates the dependency graph of the modules. Within a wave the modules
+     * keep the order in which they are given.
+     *
+     * @param yangNodes root nodes of data model trees
+     */
+    public YangModuleDependencyGraph(List<YangNode> yangNodes) {
+        for (YangNode yangNode : yangNodes) {
+            dependencies.put(yangNode, getDependencies(yangNode));
+        }
+        List<List<YangNode>> dependencyWaves = new ArrayList<>();
+        for (YangNode yangNode : yangNodes) {
+            int wave = getWave(yangNode);
+            while (dependencyWaves.size() <= wave) {
+                dependencyWaves.add(new ArrayList<YangNode>());
+            }
+            dependencyWaves.get(wave).add(yangNode);
+        }
+        for (List<YangNode> wave : dependencyWaves) {
+            addLinkingWaves(wave);
+        }
+    }
+
+    /**
+     * Adds the modules of a dependency wave as linking waves, in which no two
+     * modules depend on the same module defining groupings. A module is
+     * added to the first of these waves it does not conflict with.
+     *
+     * @param dependencyWave modules of dependency wave
+     */
+    private void addLinkingWaves(List<YangNode> dependencyWave) {
+        List<List<YangNode>> waveModules = new ArrayList<>();
+        List<Set<YangNode>> waveGroupingModules = new ArrayList<>();
+        for (YangNode yangNode : dependencyWave) {
+            Set<YangNode> moduleGroupingModules = getGroupingModules(yangNode);
+            int wave = 0;
+            while (wave < waveModules.size()
+                    && !Collections.disjoint(waveGroupingModules.get(wave), moduleGroupingModules)) {
+                wave++;
+            }
+            if (wave == waveModules.size()) {
+                waveModules.add(new ArrayList<YangNode>());
+                waveGroupingModules.add(Collections.newSetFromMap(new IdentityHashMap<YangNode, Boolean>()));
+            }
+            waveModules.get(wave).add(yangNode);
+            waveGroupingModules.get(wave).addAll(moduleGroupingModules);
+        }
+        linkingWaves.addAll(waveModules);
+    }
+
+    /**
+     * Returns the modules grouped in linking waves, in the order of linking.
+     *
+     * @return linking waves of modules
+     */
+    public List<List<YangNode>> getLinkingWaves() {
+        return linkingWaves;
+    }
+
+    /**
+     * Returns the modules on which the module depends.
+     *
+     * @param module module node
+     * @return modules on which module depends
+     */
+    public List<YangNode> getDependencies(YangNode module) {
+        List<YangNode> moduleDependencies = dependencies.get(module);
+        if (moduleDependencies != null) {
+            return moduleDependencies;
+        }
+        return getModuleDependencies(module);
+    }
+
+    /**
+     * Returns the modules which the module imports or includes.
+     *
+     * @param module module node
+     * @return modules on which module depends
+     */
+    public static List<YangNode> getModuleDependencies(YangNode module) {
+        List<YangNode> moduleDependencies = new ArrayList<>();
+        if (!(module instanceof YangReferenceResolver)) {
+            return moduleDependencies;
+        }
+        YangReferenceResolver resolver = (YangReferenceResolver) module;
+        if (resolver.getImportList() != null) {
+            for (YangImport yangImport : resolver.getImportList()) {
+                if (yangImport.getImportedNode() != null) {
+                    moduleDependencies.add(yangImport.getImportedNode());
+                }
+            }
+        }
+        if (resolver.getIncludeList() != null) {
+            for (YangInclude yangInclude : resolver.getIncludeList()) {
+                if (yangInclude.getIncludedNode() != null) {
+                    moduleDependencies.add(yangInclude.getIncludedNode());
+                }
+            }
+        }
+        return moduleDependencies;
+    }
+
+    /**
+     * Returns the modules defining groupings on which the module directly
+     * or indirectly depends.
+     *
+     * @param module module node
+     * @return modules defining groupings
+     */
+    private Set<YangNode> getGroupingModules(YangNode module) {
+        Set<YangNode> modules = groupingModules.get(module);
+        if (modules != null) {
+            return modules;
+        }
+        modules = Collections.newSetFromMap(new IdentityHashMap<YangNode, Boolean>());
+        // Put before the dependencies are visited, to end cyclic dependency.
+        groupingModules.put(module, modules);
+        for (YangNode dependency : getDependencies(module)) {
+            if (isGroupingPresent(dependency)) {
+                modules.add(dependency);
+            }
+            modules.addAll(getGroupingModules(dependency));
+        }
+        return modules;
+    }
+
+    /**
+     * Returns true if the module defines a grouping at the top level, which
+     * can be used by other modules.
+     *
+     * @param module module node
+     * @return true if module defines grouping
+     */
+    private static boolean isGroupingPresent(YangNode module) {
+        YangNode child = module.getChild();
+        while (child != null) {
+            if (child instanceof YangGrouping) {
+                return true;
+            }
+            child = child.getNextSibling();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the dependency wave of the module, computing it from the
+     * waves of the modules it depends on.
+     *
+     * @param module module node
+     * @return linking wave of module
+     */
+    private int getWave(YangNode module) {
+        Integer wave = waves.get(module);
+        if (wave != null) {
+            // Module in progress closes a cycle and does not constrain the wave.
+            return wave;
+        }
+        waves.put(module, IN_PROGRESS);
+        int moduleWave = 0;
+        for (YangNode dependency : getDependencies(module)) {
+            moduleWave = Math.max(moduleWave, getWave(dependency) + 1);
+        }
+        waves.put(module, moduleWave);
+        return moduleWave;
+    }
+}
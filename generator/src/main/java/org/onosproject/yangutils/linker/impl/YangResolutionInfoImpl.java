@@ -52,10 +52,12 @@ import org.onosproject.yangutils.datamodel.YangUses;
 import org.onosproject.yangutils.datamodel.YangXPathResolver;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.ResolvableStatus;
+import org.onosproject.yangutils.datamodel.utils.YangSymbolTable;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -92,7 +94,6 @@ import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_FIND_ANNOT
 import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_FIND_LEAD_INFO_HOLDER;
 import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_LINK;
 import static org.onosproject.yangutils.utils.UtilConstants.IDENTITYREF;
-import static org.onosproject.yangutils.utils.UtilConstants.INVALID_ENTITY;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_LINKER_STATE;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_RESOLVED_ENTITY;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_TARGET;
@@ -130,6 +131,29 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      */
     private Stack<YangEntityToResolveInfoImpl<T>> partialResolvedStack;
 
+    /**
+     * Maximum depth of the stack of partially resolved constructs in the
+     * last inter file linking.
+     */
+    private transient int maxStackDepth;
+
+    /**
+     * Number of attempts to link an intra file resolved construct on top of
+     * the stack in the last inter file linking.
+     */
+    private transient int retryCount;
+
+    /**
+     * Cache of leafref paths shared by the leafrefs linked in one linking.
+     */
+    private transient YangLeafRefPathCache leafRefPathCache;
+
+    /**
+     * Expander of the groupings of uses on demand, null when the uses are
+     * expanded once linked.
+     */
+    private transient YangUsesExpander usesExpander;
+
     /**
      * It is private to ensure the overloaded method be invoked to create an
      * object.
@@ -351,6 +375,12 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private void resolveTopOfStack()
             throws DataModelException {
         T entity = getCurEntityToResolveFromStack();
+        if (entity instanceof YangUses && usesExpander != null
+                && entity == entityToResolveInfo.getEntityToResolve()
+                && usesExpander.deferExpansion((YangUses) entity)) {
+            ((Resolvable) entity).setResolvableStatus(RESOLVED);
+            return;
+        }
         List<T> entityToResolve = (List<T>) ((Resolvable) entity).resolve();
         if (entityToResolve != null && !entityToResolve.isEmpty()) {
             for (T anEntityToResolve : entityToResolve) {
@@ -373,29 +403,39 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private void addUnresolvedEntitiesToResolutionList(T entityToResolve)
             throws DataModelException {
         if (entityToResolve instanceof YangEntityToResolveInfoImpl) {
-            YangEntityToResolveInfoImpl entityToResolveInfo
-                    = (YangEntityToResolveInfoImpl) entityToResolve;
-            if (entityToResolveInfo.getEntityToResolve() instanceof YangLeafRef) {
-                YangLeafRef leafref = (YangLeafRef) entityToResolveInfo
-                        .getEntityToResolve();
-                YangNode parentNodeOfLeafref = entityToResolveInfo
-                        .getHolderOfEntityToResolve();
-                leafref.setParentNodeOfLeafref(parentNodeOfLeafref);
-                if (leafref.getResolvableStatus() == UNRESOLVED) {
-                    leafref.setResolvableStatus(INTRA_FILE_RESOLVED);
-                }
-            }
-
             // Add resolution information to the list.
-            YangResolutionInfoImpl resolutionInfoImpl = new YangResolutionInfoImpl<>(
-                    entityToResolveInfo.getEntityToResolve(),
-                    entityToResolveInfo.getHolderOfEntityToResolve(),
-                    entityToResolveInfo.getLineNumber(),
-                    entityToResolveInfo.getCharPosition());
-            addResolutionInfo(resolutionInfoImpl);
+            addResolutionInfo(getResolutionInfo(
+                    (YangEntityToResolveInfoImpl) entityToResolve));
         }
     }
 
+    /**
+     * Returns the resolution information of an entity of a cloned leaf.
+     * The holder of a leafref is set in the leafref, to be linked from the
+     * holder.
+     *
+     * @param entityToResolveInfo entity to resolve
+     * @return resolution information
+     */
+    static YangResolutionInfoImpl<?> getResolutionInfo(
+            YangEntityToResolveInfoImpl entityToResolveInfo) {
+        if (entityToResolveInfo.getEntityToResolve() instanceof YangLeafRef) {
+            YangLeafRef leafref = (YangLeafRef) entityToResolveInfo
+                    .getEntityToResolve();
+            YangNode parentNodeOfLeafref = entityToResolveInfo
+                    .getHolderOfEntityToResolve();
+            leafref.setParentNodeOfLeafref(parentNodeOfLeafref);
+            if (leafref.getResolvableStatus() == UNRESOLVED) {
+                leafref.setResolvableStatus(INTRA_FILE_RESOLVED);
+            }
+        }
+        return new YangResolutionInfoImpl<>(
+                entityToResolveInfo.getEntityToResolve(),
+                entityToResolveInfo.getHolderOfEntityToResolve(),
+                entityToResolveInfo.getLineNumber(),
+                entityToResolveInfo.getCharPosition());
+    }
+
     /**
      * Resolves linking for a node child and siblings.
      *
@@ -445,8 +485,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
                 /*
                  * Check for the referred node defined in a ancestor scope
                  */
-            YangNode curRefNode = ancestorRefNode.getChild();
-            if (isReferredNodeInSiblingListProcessed(curRefNode)) {
+            if (isReferredNodeInScopeProcessed(ancestorRefNode)) {
                 return;
             }
             ancestorRefNode = ancestorRefNode.getParent();
@@ -513,7 +552,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
 
         YangFeatureHolder featureHolder = getFeatureHolder(ancestorRefNode);
         YangNode curRefNode = (YangNode) featureHolder;
-        if (isReferredNode(curRefNode)) {
+        if (curRefNode != null && getReferredNodeInScope(curRefNode) != null) {
 
             // Adds reference link of entity to the node under resolution.
             addReferredEntityLink(curRefNode, LINKED);
@@ -549,16 +588,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private boolean isIdentityReferenceFound(String nodeName, YangNode ancestorRefNode)
             throws DataModelException {
 
-        // When child is not present return.
-        if (ancestorRefNode.getChild() == null) {
-            return false;
-        }
-
-        ancestorRefNode = ancestorRefNode.getChild();
-
-        // Checks all the siblings under the node and returns the matched node.
-        YangNode nodeFound = isReferredNodeInSiblingProcessedForIdentity(ancestorRefNode,
-                                                                         nodeName);
+        // Looks up the identity defined at the root level of the node.
+        YangNode nodeFound = ancestorRefNode.getSymbolTable().getIdentity(nodeName);
 
         if (nodeFound != null) {
             // Adds reference link of entity to the node under resolution.
@@ -641,171 +672,67 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     }
 
     /**
-     * Checks for the referred parent node for the base/identity.
+     * Checks for the referred node defined in the scope of a node, looked up
+     * in the symbol table of the node.
      *
-     * @param refNode potential referred node
-     * @return the referred parent node of base/identity.
-     * @throws DataModelException data model errors
-     */
-    private YangNode isReferredNodeInSiblingProcessedForIdentity(YangNode refNode,
-                                                                 String refName)
-            throws DataModelException {
-
-        while (refNode != null) {
-            if (refNode instanceof YangIdentity) {
-                // Check if the potential referred node is the actual referred node
-                if (isReferredNodeForIdentity(refNode, refName)) {
-                    return refNode;
-                }
-            }
-            refNode = refNode.getNextSibling();
-        }
-        return null;
-    }
-
-    /**
-     * Checks if the current reference node name and the name in the base/identityref base are equal.
-     *
-     * @param curRefNode the node where the reference is pointed
-     * @param name       name of the base in the base/identityref base
-     * @return status of the match between the name
-     * @throws DataModelException a violation of data model rules
-     */
-    private boolean isReferredNodeForIdentity(YangNode curRefNode, String name)
-            throws DataModelException {
-        T entity = getCurEntityToResolveFromStack();
-        if (entity instanceof YangIdentityRef || entity instanceof YangBase) {
-
-            //Check if name of node name matches with the current reference node.
-            return curRefNode.getName().contentEquals(name);
-        } else {
-            throw new DataModelException(getErrorMsg(
-                    INVALID_ENTITY, curRefNode.getName(), curRefNode.getLineNumber(),
-                    curRefNode.getCharPosition(), curRefNode.getFileName()));
-        }
-    }
-
-    /**
-     * Checks for the referred node defined in a ancestor scope.
-     *
-     * @param refNode potential referred node
+     * @param scopeNode node defining the scope
      * @return status of resolution and updating the partial resolved stack with
      * the any recursive references
      * @throws DataModelException a violation of data model rules
      */
-    private boolean isReferredNodeInSiblingListProcessed(YangNode refNode)
+    private boolean isReferredNodeInScopeProcessed(YangNode scopeNode)
             throws DataModelException {
-        while (refNode != null) {
-
-            // Check if the potential referred node is the actual referred node
-            if (isReferredNode(refNode)) {
-
-                // Adds reference link of entity to the node under resolution.
-                addReferredEntityLink(refNode, LINKED);
-
-                /*
-                 * resolve the reference and update the partial resolution stack
-                 * with any further recursive references
-                 */
-                addUnresolvedRecursiveReferenceToStack(refNode);
-
-                /*
-                 * return true, since the reference is linked and any recursive
-                 * unresolved references is added to the stack
-                 */
-                return true;
-            }
-
-            refNode = refNode.getNextSibling();
+        YangNode refNode = getReferredNodeInScope(scopeNode);
+        if (refNode == null) {
+            return false;
         }
-        return false;
-    }
 
-    /**
-     * Checks if the potential referred node is the actual referred node.
-     *
-     * @param refNode typedef/grouping node
-     * @return true if node is of resolve type otherwise false
-     * @throws DataModelException a violation of data model rules
-     */
-    private boolean isReferredNode(YangNode refNode)
-            throws DataModelException {
-        T entity = getCurEntityToResolveFromStack();
-        if (entity instanceof YangType) {
-            if (refNode instanceof YangTypeDef) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangUses) {
-            if (refNode instanceof YangGrouping) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangIfFeature) {
-            if (refNode instanceof YangFeatureHolder) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangBase || entity instanceof YangIdentityRef) {
-            if (refNode instanceof YangIdentity) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else {
-            throw new DataModelException(getErrorMsg(
-                    LINKER_ERROR, refNode.getName(), refNode.getLineNumber(),
-                    refNode.getCharPosition(), refNode.getFileName()));
-        }
-        return false;
+        // Adds reference link of entity to the node under resolution.
+        addReferredEntityLink(refNode, LINKED);
+
+        /*
+         * resolve the reference and update the partial resolution stack
+         * with any further recursive references
+         */
+        addUnresolvedRecursiveReferenceToStack(refNode);
+        return true;
     }
 
     /**
-     * Checks if node name is same as name in resolution info, i.e. name of
-     * typedef/grouping is same as name of type/uses.
+     * Returns the node referred by the entity under resolution, which is
+     * the typedef, grouping or identity defined as child of the scope node,
+     * or for if-feature the scope node defining the feature.
      *
-     * @param node typedef/grouping node
-     * @return true if node name is same as name in resolution info, otherwise
-     * false
-     * @throws DataModelException a violation of data model rules
+     * @param scopeNode node defining the scope
+     * @return referred node, null if not defined in the scope
      */
-
-    private boolean isNodeNameSameAsResolutionInfoName(YangNode node)
-            throws DataModelException {
+    private YangNode getReferredNodeInScope(YangNode scopeNode) {
         T entity = getCurEntityToResolveFromStack();
+        YangSymbolTable symbolTable = scopeNode.getSymbolTable();
         if (entity instanceof YangType) {
-            return node.getName().contentEquals(((YangType<?>) entity)
-                                                        .getDataTypeName());
+            return symbolTable.getTypeDef(((YangType<?>) entity).getDataTypeName());
         }
         if (entity instanceof YangUses) {
-            return node.getName().contentEquals(((YangUses) entity).getName());
-        }
-        if (entity instanceof YangIfFeature) {
-            return isFeatureDefinedInNode(node);
+            return symbolTable.getGrouping(((YangUses) entity).getName());
         }
         if (entity instanceof YangBase) {
-            return node.getName().contentEquals(((
-                    YangBase) entity).getBaseIdentifier().getName());
+            return symbolTable.getIdentity(((YangBase) entity)
+                                                   .getBaseIdentifier().getName());
         }
         if (entity instanceof YangIdentityRef) {
-            return node.getName().contentEquals(((YangIdentityRef) entity).getName());
+            return symbolTable.getIdentity(((YangIdentityRef) entity).getName());
         }
-        throw new DataModelException(getErrorMsg(
-                INVALID_RESOLVED_ENTITY, node.getName(), node.getLineNumber(),
-                node.getCharPosition(), node.getFileName()));
-    }
-
-    private boolean isFeatureDefinedInNode(YangNode node) {
-        T entity = getCurEntityToResolveFromStack();
-        YangNodeIdentifier ifFeature = ((YangIfFeature) entity).getName();
-        List<YangFeature> featureList = ((YangFeatureHolder) node).getFeatureList();
-        if (featureList != null && !featureList.isEmpty()) {
-            Iterator<YangFeature> iterator = featureList.iterator();
-            while (iterator.hasNext()) {
-                YangFeature feature = iterator.next();
-                if (ifFeature.getName().equals(feature.getName())) {
-                    ((YangIfFeature) entity).setReferredFeature(feature);
-                    ((YangIfFeature) entity).setReferredFeatureHolder(node);
-                    return true;
-                }
+        if (entity instanceof YangIfFeature) {
+            YangFeature feature = symbolTable.getFeature(((YangIfFeature) entity)
+                                                                 .getName().getName());
+            if (feature == null) {
+                return null;
             }
+            ((YangIfFeature) entity).setReferredFeature(feature);
+            ((YangIfFeature) entity).setReferredFeatureHolder(scopeNode);
+            return scopeNode;
         }
-        return false;
+        return null;
     }
 
     /**
@@ -964,6 +891,81 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      */
     private void addInPartialResolvedStack(YangEntityToResolveInfoImpl<T> partialResolvedInfo) {
         partialResolvedStack.push(partialResolvedInfo);
+        maxStackDepth = Math.max(maxStackDepth, partialResolvedStack.size());
+    }
+
+    /**
+     * Returns the maximum depth of the stack of partially resolved
+     * constructs in the last inter file linking.
+     *
+     * @return maximum stack depth
+     */
+    int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Returns the number of attempts to link an intra file resolved
+     * construct on top of the stack in the last inter file linking.
+     *
+     * @return number of link attempts
+     */
+    int getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Sets the cache of leafref paths shared by the leafrefs linked in one
+     * linking.
+     *
+     * @param leafRefPathCache cache of leafref paths, null for no cache
+     */
+    void setLeafRefPathCache(YangLeafRefPathCache leafRefPathCache) {
+        this.leafRefPathCache = leafRefPathCache;
+    }
+
+    /**
+     * Sets the expander of the groupings of uses on demand. The uses to
+     * resolve is then only linked to its grouping, and the groupings of
+     * the uses in the paths of augments and leafrefs are expanded as the
+     * paths are resolved.
+     *
+     * @param usesExpander expander of uses, null to expand the uses once
+     *                     linked
+     */
+    void setUsesExpander(YangUsesExpander usesExpander) {
+        this.usesExpander = usesExpander;
+    }
+
+    /**
+     * Resolves the target node of the leafref to resolve into the cache of
+     * leafref paths, without changing the leafref. It only reads the data
+     * model trees, so the leafrefs of all the modules can be prefetched
+     * concurrently once the other constructs are linked.
+     *
+     * @param dataModelRootNode module/sub-module node holding the leafref
+     * @throws DataModelException a violation of data model rules
+     */
+    void prefetchLeafRefTarget(YangReferenceResolver dataModelRootNode)
+            throws DataModelException {
+        T entityToResolve = entityToResolveInfo.getEntityToResolve();
+        if (leafRefPathCache == null || !(entityToResolve instanceof YangLeafRef)) {
+            return;
+        }
+        YangLeafRef leafref = (YangLeafRef) entityToResolve;
+        if (leafref.getResolvableStatus() != INTRA_FILE_RESOLVED) {
+            return;
+        }
+        List<YangAtomicPath> atomicPaths;
+        if (leafref.getPathType() == RELATIVE_PATH) {
+            atomicPaths = getAbsolutePathFromRelativePath(leafref);
+        } else {
+            atomicPaths = leafref.getAtomicPath();
+        }
+        if (atomicPaths != null && !atomicPaths.isEmpty()) {
+            new YangXpathLinker<T>(leafRefPathCache, null).prefetchLeafRefTargetNode(
+                    atomicPaths, (YangNode) dataModelRootNode, LEAF_REF_LINKING);
+        }
     }
 
     /**
@@ -986,6 +988,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
             throws DataModelException {
 
         curRefResolver = dataModelRootNode;
+        maxStackDepth = 0;
+        retryCount = 0;
 
         // Current node to resolve, it can be a YANG type or YANG uses.
         T entityToResolve = entityToResolveInfo.getEntityToResolve();
@@ -1025,7 +1029,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
             T entityToResolve, YangReferenceResolver root)
             throws DataModelException {
 
-        YangXpathLinker<T> xPathLinker = new YangXpathLinker<T>();
+        YangXpathLinker<T> xPathLinker = new YangXpathLinker<T>(leafRefPathCache, usesExpander);
 
         if (entityToResolve instanceof YangAugment) {
             YangNode targetNode;
@@ -1035,8 +1039,11 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
                             root, AUGMENT_LINKING);
             if (targetNode != null) {
                 if (targetNode instanceof YangAugmentableNode) {
-                    detectCollisionForAugmentedNode(targetNode, augment);
-                    ((YangAugmentableNode) targetNode).addAugmentation(augment);
+                    // Modules augmenting the same target may be linked concurrently.
+                    synchronized (targetNode) {
+                        detectCollisionForAugmentedNode(targetNode, augment);
+                        ((YangAugmentableNode) targetNode).addAugmentation(augment);
+                    }
                     augment.setAugmentedNode(targetNode);
                     setAugmentedFlagInAncestors(targetNode);
                     Resolvable resolvable = (Resolvable) entityToResolve;
@@ -1180,6 +1187,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
                          * import/include list and push the linked referred entity
                          * to the stack, otherwise only push it to the stack.
                          */
+                        retryCount++;
                         linkInterFileTopOfStackRefUpdateStack();
                         break;
 
@@ -1267,92 +1275,169 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private void setAbsolutePathFromRelativePathInLeafref(T resolutionInfo)
             throws DataModelException {
         if (resolutionInfo instanceof YangLeafRef) {
-
-            YangNode leafParent = ((YangLeafRef) resolutionInfo)
-                    .getParentNodeOfLeafref();
             YangLeafRef leafref = (YangLeafRef) resolutionInfo;
 
             // Checks if the leafref has relative path in it.
             if (leafref.getPathType() == RELATIVE_PATH) {
-                YangRelativePath relativePath = leafref.getRelativePath();
-                List<YangAtomicPath> absoluteInRelative = relativePath.getAtomicPathList();
-                int ancestorCount = relativePath.getAncestorNodeCount();
-
-                // Gets the root node from the ancestor count.
-                T nodeOrAugmentList =
-                        getRootNodeWithAncestorCountForLeafref(ancestorCount, leafParent,
-                                                               leafref);
-                if (nodeOrAugmentList instanceof YangNode) {
-                    StringBuilder name = new StringBuilder();
-                    StringBuilder prefix = new StringBuilder();
-                    YangNode rootNode = (YangNode) nodeOrAugmentList;
-                    // Forms a new absolute path from the relative path
-                    while (!(rootNode instanceof YangReferenceResolver)) {
-                        name.append(rootNode.getName());
-                        prefix.append(SLASH_FOR_STRING).append(name.reverse());
-                        name.delete(0, name.length());
-                        rootNode = rootNode.getParent();
-                        if (rootNode == null) {
-                            throw new DataModelException(INVALID_TREE);
-                        }
-                    }
-                    prefix.reverse();
-                    fillAbsolutePathValuesInLeafref(leafref, prefix.toString(),
-                                                    absoluteInRelative);
-                } else {
-                    List<String> listOfAugment = (List<String>) nodeOrAugmentList;
-                    Iterator<String> listOfAugmentIterator = listOfAugment.listIterator();
-                    StringBuilder augment = new StringBuilder(EMPTY_STRING);
-                    while (listOfAugmentIterator.hasNext()) {
-                        augment.append(SLASH_FOR_STRING)
-                                .append(listOfAugmentIterator.next());
-                    }
-                    fillAbsolutePathValuesInLeafref(leafref, augment.toString(),
-                                                    absoluteInRelative);
-                }
+                List<YangAtomicPath> absolutePath = getAbsolutePathFromRelativePath(leafref);
+                leafref.setPathType(ABSOLUTE_PATH);
+                leafref.setAtomicPath(absolutePath);
             }
         }
     }
 
     /**
-     * Fills the absolute path values in the leafref from relative path.
+     * Returns the absolute path of a leafref with relative path, without
+     * changing the leafref. The path of the ancestor node the relative path
+     * starts from is shared by the leafrefs linked with the same cache of
+     * leafref paths, as the copies of a grouping have the same relative
+     * paths from ancestors they have in common.
      *
-     * @param leafref  instance of YANG leafref
-     * @param path     path name which has to be prefixed to relative path
-     * @param relative atomic paths in relative
+     * @param leafref instance of YANG leafref with relative path
+     * @return atomic paths of absolute path
+     * @throws DataModelException a violation of data model rules
+     */
+    private List<YangAtomicPath> getAbsolutePathFromRelativePath(YangLeafRef leafref)
+            throws DataModelException {
+        YangNode leafParent = leafref.getParentNodeOfLeafref();
+        YangRelativePath relativePath = leafref.getRelativePath();
+        List<YangAtomicPath> absoluteInRelative = relativePath.getAtomicPathList();
+        int ancestorCount = relativePath.getAncestorNodeCount();
+
+        // Gets the root node from the ancestor count.
+        T nodeOrAugmentList =
+                getRootNodeWithAncestorCountForLeafref(ancestorCount, leafParent,
+                                                       leafref);
+        if (nodeOrAugmentList instanceof YangNode) {
+            return getAbsolutePathValues(leafref, getAncestorPath((YangNode) nodeOrAugmentList),
+                                         absoluteInRelative);
+        }
+        List<String> listOfAugment = (List<String>) nodeOrAugmentList;
+        Iterator<String> listOfAugmentIterator = listOfAugment.listIterator();
+        StringBuilder augment = new StringBuilder(EMPTY_STRING);
+        while (listOfAugmentIterator.hasNext()) {
+            augment.append(SLASH_FOR_STRING)
+                    .append(listOfAugmentIterator.next());
+        }
+        return getAbsolutePathValues(leafref, getAugmentPath(augment.toString()),
+                                     absoluteInRelative);
+    }
+
+    /**
+     * Returns the node identifiers of the absolute path of an ancestor node
+     * of a leafref.
+     *
+     * @param ancestor ancestor node the relative path starts from
+     * @return node identifiers of the path of the ancestor node
      * @throws DataModelException a violation of data model rules
      */
-    private void fillAbsolutePathValuesInLeafref(YangLeafRef leafref, String path,
-                                                 List<YangAtomicPath> relative)
+    private List<YangNodeIdentifier> getAncestorPath(YangNode ancestor)
             throws DataModelException {
-        leafref.setPathType(ABSOLUTE_PATH);
+        if (leafRefPathCache != null) {
+            List<YangNodeIdentifier> ancestorPath = leafRefPathCache.getAncestorPath(ancestor);
+            if (ancestorPath != null) {
+                return ancestorPath;
+            }
+        }
+        StringBuilder name = new StringBuilder();
+        StringBuilder prefix = new StringBuilder();
+        YangNode rootNode = ancestor;
+        // Forms a new absolute path from the relative path
+        while (!(rootNode instanceof YangReferenceResolver)) {
+            name.append(rootNode.getName());
+            prefix.append(SLASH_FOR_STRING).append(name.reverse());
+            name.delete(0, name.length());
+            rootNode = rootNode.getParent();
+            if (rootNode == null) {
+                throw new DataModelException(INVALID_TREE);
+            }
+        }
+        prefix.reverse();
+        List<YangNodeIdentifier> ancestorPath = getNodeIdentifiers(prefix.toString());
+        if (leafRefPathCache != null) {
+            leafRefPathCache.putAncestorPath(ancestor, ancestorPath);
+        }
+        return ancestorPath;
+    }
+
+    /**
+     * Returns the node identifiers of the path of the augmented nodes
+     * a relative path goes through.
+     *
+     * @param augmentPath path of the augmented nodes
+     * @return node identifiers of the path
+     */
+    private List<YangNodeIdentifier> getAugmentPath(String augmentPath) {
+        if (leafRefPathCache != null) {
+            List<YangNodeIdentifier> path = leafRefPathCache.getAugmentPath(augmentPath);
+            if (path != null) {
+                return path;
+            }
+        }
+        List<YangNodeIdentifier> path = getNodeIdentifiers(augmentPath);
+        if (leafRefPathCache != null) {
+            leafRefPathCache.putAugmentPath(augmentPath, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the node identifiers of a path.
+     *
+     * @param path path name which has to be prefixed to relative path
+     * @return node identifiers of the path
+     */
+    private static List<YangNodeIdentifier> getNodeIdentifiers(String path) {
         String[] pathName = new String[0];
         if (path != null && !path.equals(EMPTY_STRING)) {
             pathName = path.split(SLASH_FOR_STRING);
         }
-        List<YangAtomicPath> finalListForAbsolute = new LinkedList<>();
+        List<YangNodeIdentifier> nodeIds = new ArrayList<>();
         for (String value : pathName) {
             if (value != null && !value.isEmpty() && !value.equals(EMPTY_STRING)) {
-                YangNodeIdentifier nodeId = getValidNodeIdentifier(value, PATH_DATA);
-                YangAtomicPath atomicPath = new YangAtomicPath();
-                atomicPath.setNodeIdentifier(nodeId);
-                finalListForAbsolute.add(atomicPath);
+                nodeIds.add(getValidNodeIdentifier(value, PATH_DATA));
             }
         }
+        return nodeIds;
+    }
+
+    /**
+     * Returns the absolute path values of the leafref from relative path.
+     * Each leafref gets its own atomic paths and node identifiers for the
+     * prefixed path.
+     *
+     * @param leafref  instance of YANG leafref
+     * @param nodeIds  node identifiers of path prefixed to relative path
+     * @param relative atomic paths in relative
+     * @return atomic paths of absolute path
+     * @throws DataModelException a violation of data model rules
+     */
+    private List<YangAtomicPath> getAbsolutePathValues(YangLeafRef leafref,
+                                                       List<YangNodeIdentifier> nodeIds,
+                                                       List<YangAtomicPath> relative)
+            throws DataModelException {
+        List<YangAtomicPath> finalListForAbsolute = new LinkedList<>();
+        for (YangNodeIdentifier value : nodeIds) {
+            YangNodeIdentifier nodeId = new YangNodeIdentifier();
+            nodeId.setPrefix(value.getPrefix());
+            nodeId.setName(value.getName());
+            YangAtomicPath atomicPath = new YangAtomicPath();
+            atomicPath.setNodeIdentifier(nodeId);
+            finalListForAbsolute.add(atomicPath);
+        }
         if (relative != null && !relative.isEmpty()) {
             Iterator<YangAtomicPath> pathIt = relative.listIterator();
             while (pathIt.hasNext()) {
                 YangAtomicPath yangAtomicPath = pathIt.next();
                 finalListForAbsolute.add(yangAtomicPath);
             }
-            leafref.setAtomicPath(finalListForAbsolute);
-        } else {
-            DataModelException ex = new DataModelException(getLeafRefErrorInfo(leafref));
-            ex.setCharPosition(leafref.getCharPosition());
-            ex.setLine(leafref.getLineNumber());
-            ex.setFileName(leafref.getFileName());
-            throw ex;
+            return finalListForAbsolute;
         }
+        DataModelException ex = new DataModelException(getLeafRefErrorInfo(leafref));
+        ex.setCharPosition(leafref.getCharPosition());
+        ex.setLine(leafref.getLineNumber());
+        ex.setFileName(leafref.getFileName());
+        throw ex;
     }
 
     /**
@@ -1462,25 +1547,9 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
         return true;
     }
 
-    //Returns linked node from entity of stack.
+    //Returns linked node from entity of stack, at the root level of node.
     private YangNode getLinkedNode(YangNode node) {
-        T entity = getCurEntityToResolveFromStack();
-        if (entity instanceof YangType) {
-            return findRefTypedef(node);
-        }
-        if (entity instanceof YangUses) {
-            return findRefGrouping(node);
-        }
-        if (entity instanceof YangIfFeature) {
-            return findRefFeature(node);
-        }
-        if (entity instanceof YangBase) {
-            return findRefIdentity(node);
-        }
-        if (entity instanceof YangIdentityRef) {
-            return findRefIdentityRef(node);
-        }
-        return null;
+        return getReferredNodeInScope(node);
     }
 
     /**
@@ -1515,112 +1584,6 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
 
     }
 
-    /**
-     * Finds the referred grouping node at the root level of imported/included node.
-     *
-     * @param refNode module/sub-module node
-     * @return referred grouping
-     */
-    private YangNode findRefGrouping(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangGrouping) {
-                if (tmpNode.getName()
-                        .equals(((YangUses) getCurEntityToResolveFromStack())
-                                        .getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
-    }
-
-    /**
-     * Finds the referred feature node at the root level of imported/included node.
-     *
-     * @param refNode module/sub-module node
-     * @return referred feature
-     */
-    private YangNode findRefFeature(YangNode refNode) {
-        T entity = getCurEntityToResolveFromStack();
-        YangNodeIdentifier ifFeature = ((YangIfFeature) entity).getName();
-        List<YangFeature> featureList = ((YangFeatureHolder) refNode)
-                .getFeatureList();
-        if (featureList != null && !featureList.isEmpty()) {
-            for (YangFeature feature : featureList) {
-                if (ifFeature.getName().equals(feature.getName())) {
-                    ((YangIfFeature) entity).setReferredFeature(feature);
-                    return refNode;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Finds the referred typedef node at the root level of imported/included node.
-     *
-     * @param refNode module/sub-module node
-     * @return referred typedef
-     */
-    private YangNode findRefTypedef(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangTypeDef) {
-                if (tmpNode.getName()
-                        .equals(((YangType) getCurEntityToResolveFromStack())
-                                        .getDataTypeName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
-    }
-
-    /**
-     * Finds the referred identity node at the root level of imported/included node.
-     *
-     * @param refNode module/sub-module node
-     * @return referred identity
-     */
-    private YangNode findRefIdentity(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangIdentity) {
-                if (tmpNode.getName()
-                        .equals(((YangBase) getCurEntityToResolveFromStack())
-                                        .getBaseIdentifier().getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
-    }
-
-    /**
-     * Finds the referred identity node at the root level of imported/included node.
-     *
-     * @param refNode module/sub-module node
-     * @return referred identity
-     */
-    private YangNode findRefIdentityRef(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangIdentity) {
-                if (tmpNode.getName()
-                        .equals(((YangIdentityRef) getCurEntityToResolveFromStack())
-                                        .getBaseIdentity().getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
-    }
-
     /**
      * Sets descendant node augmented flag in ancestors.
      *
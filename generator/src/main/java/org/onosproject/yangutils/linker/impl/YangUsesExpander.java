@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.onosproject.yangutils.linker.impl;
+
+import org.onosproject.yangutils.datamodel.YangEntityToResolveInfoImpl;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.INTRA_FILE_RESOLVED;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+import static org.onosproject.yangutils.utils.UtilConstants.INVALID_TREE;
+
+/**
+ * Represents the expansion on demand of the groupings of uses in the data
+ * trees. When the linker defers the expansion, a uses is only linked to its
+ * grouping; the grouping is expanded at the uses the first time the
+ * children or leaves of the node holding the uses are looked up, by the
+ * linker or by a consumer of the linked trees.
+ * <p>
+ * Groupings of uses in groupings, and of uses with augment or refine, are
+ * always expanded, so a grouping expanded on demand brings its whole
+ * subtree. Expansion changes the data model trees and is not thread safe.
+ */
+final class YangUsesExpander {
+
+    /*
+     * True once the leafrefs are linked, after which the leafrefs of an
+     * expanded grouping are linked with it.
+     */
+    private boolean linkLeafRefs;
+
+    /**
+     * Sets whether the leafrefs of an expanded grouping are linked with it,
+     * or added to the resolution list of their module to be linked with the
+     * other leafrefs.
+     *
+     * @param linkLeafRefs true to link the leafrefs on expansion
+     */
+    void setLinkLeafRefs(boolean linkLeafRefs) {
+        this.linkLeafRefs = linkLeafRefs;
+    }
+
+    /**
+     * Defers the expansion of the grouping at a linked uses, when the uses
+     * is in a data tree and has no augment or refine.
+     *
+     * @param uses linked uses
+     * @return true if the expansion is deferred
+     */
+    boolean deferExpansion(YangUses uses) {
+        if (uses.getChild() != null) {
+            return false;
+        }
+        YangNode ancestor = uses.getParent();
+        while (ancestor != null) {
+            if (ancestor instanceof YangGrouping) {
+                return false;
+            }
+            ancestor = ancestor.getParent();
+        }
+        uses.setExpansionDeferred(true);
+        return true;
+    }
+
+    /**
+     * Expands the groupings of the uses among the children of a node, whose
+     * expansion is deferred.
+     *
+     * @param node node holding uses
+     * @return true if a grouping is expanded
+     * @throws DataModelException a violation of data model rules
+     */
+    boolean expandChildren(YangNode node) throws DataModelException {
+        boolean expanded = false;
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (child instanceof YangUses && ((YangUses) child).isExpansionDeferred()) {
+                expanded |= expand((YangUses) child);
+            }
+            child = child.getNextSibling();
+        }
+        return expanded;
+    }
+
+    /**
+     * Expands the grouping at a uses and links the types of the cloned
+     * leaves. The expansion stays deferred while the grouping has uses
+     * which are not yet resolved.
+     *
+     * @param uses uses whose expansion is deferred
+     * @return true if the grouping is expanded
+     * @throws DataModelException a violation of data model rules
+     */
+    private boolean expand(YangUses uses) throws DataModelException {
+        List<YangEntityToResolveInfoImpl> entities =
+                (List<YangEntityToResolveInfoImpl>) uses.resolve();
+        if (uses.getResolvableStatus() == INTRA_FILE_RESOLVED) {
+            uses.setResolvableStatus(RESOLVED);
+            return false;
+        }
+        uses.setExpansionDeferred(false);
+        uses.getParent().resetAugmentedChildMap();
+        if (entities == null || entities.isEmpty()) {
+            return true;
+        }
+
+        YangReferenceResolver rootResolver = getRootResolver(uses);
+        List<YangResolutionInfoImpl<?>> leafRefInfos = new ArrayList<>();
+        for (YangEntityToResolveInfoImpl entity : entities) {
+            YangResolutionInfoImpl<?> resolutionInfo =
+                    YangResolutionInfoImpl.getResolutionInfo(entity);
+            if (!(entity.getEntityToResolve() instanceof YangLeafRef)) {
+                resolutionInfo.setUsesExpander(this);
+                resolutionInfo.linkInterFile(rootResolver);
+            } else if (linkLeafRefs) {
+                leafRefInfos.add(resolutionInfo);
+            } else {
+                addResolutionInfo(resolutionInfo);
+            }
+        }
+
+        // Leafrefs are linked once the types they may refer to are.
+        for (YangResolutionInfoImpl<?> resolutionInfo : leafRefInfos) {
+            resolutionInfo.setUsesExpander(this);
+            resolutionInfo.linkInterFile(rootResolver);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the module or sub-module holding a node.
+     *
+     * @param node YANG node
+     * @return module or sub-module
+     * @throws DataModelException a violation of data model rules
+     */
+    private static YangReferenceResolver getRootResolver(YangNode node)
+            throws DataModelException {
+        YangNode rootNode = node;
+        while (!(rootNode instanceof YangReferenceResolver)) {
+            rootNode = rootNode.getParent();
+            if (rootNode == null) {
+                throw new DataModelException(INVALID_TREE);
+            }
+        }
+        return (YangReferenceResolver) rootNode;
+    }
+}
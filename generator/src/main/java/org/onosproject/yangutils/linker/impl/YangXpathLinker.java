@@ -34,6 +34,8 @@ import org.onosproject.yangutils.datamodel.YangNodeIdentifier;
 import org.onosproject.yangutils.datamodel.YangOutput;
 import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaPathIndex;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
 
 import java.util.ArrayList;
@@ -44,6 +46,8 @@ import java.util.Map;
 import java.util.Stack;
 
 import static org.onosproject.yangutils.datamodel.exceptions.ErrorMessages.getErrorMsg;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaPathIndex.getPath;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaPathIndex.getPrefixModule;
 import static org.onosproject.yangutils.linker.impl.PrefixResolverType.INTER_TO_INTER;
 import static org.onosproject.yangutils.linker.impl.PrefixResolverType.INTER_TO_INTRA;
 import static org.onosproject.yangutils.linker.impl.PrefixResolverType.INTRA_TO_INTER;
@@ -73,12 +77,30 @@ public class YangXpathLinker<T> {
     private String curPrefix;
     private String constructsParentsPrefix;
     private XpathLinkingTypes linkingType;
+    private final YangLeafRefPathCache leafRefPathCache;
+    private final YangUsesExpander usesExpander;
 
     /**
      * Creates an instance of x-path linker.
      */
     public YangXpathLinker() {
+        this(null, null);
+    }
+
+    /**
+     * Creates an instance of x-path linker which shares the target nodes
+     * of leafref paths through a cache, and expands on demand the groupings
+     * of the uses held by the nodes in the paths.
+     *
+     * @param leafRefPathCache cache of leafref paths, null for no cache
+     * @param usesExpander     expander of uses, null when the uses are
+     *                         expanded once linked
+     */
+    YangXpathLinker(YangLeafRefPathCache leafRefPathCache,
+                    YangUsesExpander usesExpander) {
         absPaths = new ArrayList<>();
+        this.leafRefPathCache = leafRefPathCache;
+        this.usesExpander = usesExpander;
     }
 
     /**
@@ -111,32 +133,14 @@ public class YangXpathLinker<T> {
     T processLeafRefXpathLinking(List<YangAtomicPath> atomicPaths, YangNode root,
                                  YangLeafRef leafref, XpathLinkingTypes curLinking) {
 
-        YangNode targetNode;
-        rootNode = root;
-        prefixResolverTypes = new HashMap<>();
-        linkingType = curLinking;
-        parsePrefixResolverList(atomicPaths);
+        YangNode targetNode = getLeafRefTargetNode(atomicPaths, root, curLinking);
         YangAtomicPath leafRefPath = atomicPaths.get(atomicPaths.size() - 1);
 
-        // When leaf-ref path contains only one absolute path.
-        if (atomicPaths.size() == 1) {
-            targetNode = getTargetNodeWhenPathSizeIsOne(atomicPaths);
-        } else {
-            for (YangAtomicPath atomicPath : atomicPaths) {
-                if (atomicPath != leafRefPath) {
-                    absPaths.add(atomicPath);
-                }
-            }
-            targetNode = parseData(root);
-        }
-        if (targetNode == null) {
-            targetNode = searchInSubModule(root);
-        }
-
         // Invalid path presence in the node list is checked.
         validateInvalidNodesInThePath(leafref);
 
         if (targetNode != null) {
+            expandDeferredUses(targetNode);
             YangLeaf targetLeaf = searchReferredLeaf(targetNode, leafRefPath
                     .getNodeIdentifier().getName());
             if (targetLeaf == null) {
@@ -158,6 +162,119 @@ public class YangXpathLinker<T> {
         return null;
     }
 
+    /**
+     * Resolves the target node of a leafref path into the cache, without
+     * changing the atomic paths of the leafref, so leafref paths can be
+     * resolved concurrently.
+     *
+     * @param atomicPaths atomic path node list
+     * @param root        root node
+     * @param curLinking  x path linking type
+     */
+    void prefetchLeafRefTargetNode(List<YangAtomicPath> atomicPaths, YangNode root,
+                                   XpathLinkingTypes curLinking) {
+        List<YangAtomicPath> paths = new ArrayList<>();
+        for (YangAtomicPath atomicPath : atomicPaths) {
+            YangAtomicPath path = new YangAtomicPath();
+            path.setNodeIdentifier(atomicPath.getNodeIdentifier());
+            paths.add(path);
+        }
+        getLeafRefTargetNode(paths, root, curLinking);
+    }
+
+    /**
+     * Returns the node holding the leaf or leaf-list of a leafref path and
+     * sets the resolved node of the leading atomic paths. Nodes are looked
+     * up in the cache, then in the schema path indexes, and at last by
+     * walking the data model trees; the cache is updated with the nodes
+     * found.
+     *
+     * @param atomicPaths atomic path node list
+     * @param root        root node
+     * @param curLinking  x path linking type
+     * @return target node, null if not found
+     */
+    private YangNode getLeafRefTargetNode(List<YangAtomicPath> atomicPaths, YangNode root,
+                                          XpathLinkingTypes curLinking) {
+        YangNode targetNode;
+        rootNode = root;
+        prefixResolverTypes = new HashMap<>();
+        linkingType = curLinking;
+        parsePrefixResolverList(atomicPaths);
+        int count = atomicPaths.size() - 1;
+
+        // When leaf-ref path contains only one absolute path.
+        if (count == 0) {
+            targetNode = getTargetNodeWhenPathSizeIsOne(atomicPaths);
+        } else {
+            targetNode = getCachedTargetNode(atomicPaths, count);
+            if (targetNode != null) {
+                return targetNode;
+            }
+            targetNode = getIndexedTargetNode(atomicPaths, count);
+            if (targetNode == null) {
+                absPaths.addAll(atomicPaths.subList(0, count));
+                targetNode = parseData(root);
+            }
+            if (targetNode == null) {
+                targetNode = searchInSubModule(root);
+            }
+            cacheTargetNode(atomicPaths, count, targetNode);
+            return targetNode;
+        }
+        if (targetNode == null) {
+            targetNode = searchInSubModule(root);
+        }
+        return targetNode;
+    }
+
+    /**
+     * Returns the target node of the leading atomic paths from the cache
+     * and sets the resolved node of these atomic paths.
+     *
+     * @param paths absolute path node list
+     * @param count number of leading atomic paths to resolve
+     * @return linked target node, null if not cached
+     */
+    private YangNode getCachedTargetNode(List<YangAtomicPath> paths, int count) {
+        if (leafRefPathCache == null) {
+            return null;
+        }
+        YangNode[] resolvedNodes = leafRefPathCache.get(rootNode, paths, count);
+        if (resolvedNodes == null) {
+            return null;
+        }
+        for (int index = 0; index < count; index++) {
+            paths.get(index).setResolvedNode(resolvedNodes[index]);
+        }
+        return resolvedNodes[count - 1];
+    }
+
+    /**
+     * Adds the resolved nodes of the leading atomic paths to the cache,
+     * when the walk resolved all of them to the target node.
+     *
+     * @param paths      absolute path node list
+     * @param count      number of leading atomic paths
+     * @param targetNode linked target node
+     */
+    private void cacheTargetNode(List<YangAtomicPath> paths, int count,
+                                 YangNode targetNode) {
+        if (leafRefPathCache == null || targetNode == null) {
+            return;
+        }
+        YangNode[] resolvedNodes = new YangNode[count];
+        for (int index = 0; index < count; index++) {
+            resolvedNodes[index] = paths.get(index).getResolvedNode();
+            if (resolvedNodes[index] == null) {
+                return;
+            }
+        }
+        if (resolvedNodes[count - 1] == targetNode) {
+            leafRefPathCache.put(rootNode, paths, resolvedNodes);
+        }
+    }
+
     /**
      * Validates the nodes in the path for any invalid node.
      *
@@ -209,13 +326,80 @@ public class YangXpathLinker<T> {
         prefixResolverTypes = new HashMap<>();
         linkingType = curLinking;
         parsePrefixResolverList(paths);
-        YangNode targetNode = parseData(root);
+        YangNode targetNode = getIndexedTargetNode(paths, paths.size());
+        if (targetNode == null) {
+            targetNode = parseData(root);
+        }
         if (targetNode == null) {
             targetNode = searchInSubModule(root);
         }
+        if (targetNode != null) {
+            expandDeferredUses(targetNode);
+        }
         return targetNode;
     }
 
+    /**
+     * Expands the groupings of the uses held by a node, whose expansion is
+     * deferred, so the children and leaves of the node can be looked up.
+     *
+     * @param node node in a path
+     */
+    private void expandDeferredUses(YangNode node) {
+        if (usesExpander == null) {
+            return;
+        }
+        try {
+            usesExpander.expandChildren(node);
+        } catch (DataModelException e) {
+            LinkerException ex = new LinkerException(e.getMessage());
+            ex.setLine(e.getLineNumber());
+            ex.setCharPosition(e.getCharPositionInLine());
+            ex.setFileName(e.getFileName());
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the target node of the leading atomic paths of an absolute
+     * path, looked up in the schema path indexes of the modules defining
+     * the nodes in the path, and sets the resolved node of these atomic
+     * paths. When a node is not found, for instance because its module is
+     * not linked yet, the path is left to be resolved by walking the data
+     * model trees.
+     *
+     * @param paths absolute path node list
+     * @param count number of leading atomic paths to resolve
+     * @return linked target node, null if not found in the indexes
+     */
+    private YangNode getIndexedTargetNode(List<YangAtomicPath> paths, int count) {
+        YangNode[] resolvedNodes = new YangNode[count];
+        String path = null;
+        for (int index = 0; index < count; index++) {
+            YangNodeIdentifier nodeId = paths.get(index).getNodeIdentifier();
+            YangNode module = getPrefixModule(rootNode, nodeId.getPrefix());
+            if (!(module instanceof YangModule)) {
+                return null;
+            }
+            YangSchemaPathIndex pathIndex = ((YangModule) module).getSchemaPathIndex();
+            if (pathIndex == null) {
+                return null;
+            }
+            path = getPath(path, module.getName(), nodeId.getName());
+            resolvedNodes[index] = pathIndex.getNode(path);
+            if (resolvedNodes[index] == null) {
+                return null;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        for (int index = 0; index < count; index++) {
+            paths.get(index).setResolvedNode(resolvedNodes[index]);
+        }
+        return resolvedNodes[count - 1];
+    }
+
     /**
      * Searches for the referred leaf in target node.
      *
@@ -691,6 +875,7 @@ public class YangXpathLinker<T> {
     private YangNode searchTargetNode(YangNode node, YangNodeIdentifier curNodeId) {
 
         if (node != null) {
+            expandDeferredUses(node);
             node = node.getChild();
         }
         while (node != null) {
@@ -123,9 +123,9 @@ public class TempJavaEnumerationFragmentFiles
                     prefix = getPrefixForIdentifier(
                             config.getConflictResolver());
                     if (prefix != null) {
-                        curEnum.setNamedValue(prefix + enumName);
+                        enumeration.setEnumNamedValue(curEnum, prefix + enumName);
                     } else {
-                        curEnum.setNamedValue(YANG_AUTO_PREFIX + enumName);
+                        enumeration.setEnumNamedValue(curEnum, YANG_AUTO_PREFIX + enumName);
                     }
                 }
                 addJavaSnippetInfoToApplicableTempFiles(curEnum);
@@ -31,6 +31,7 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.datamodel.utils.GeneratedLanguage.JAVA_GENERATION;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.AUGMENT_DATA;
@@ -49,6 +50,7 @@ import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorTyp
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_CURRENT_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.UNHANDLED_PARSED_DATA;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getValidAbsoluteSchemaNodeId;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.removeQuotesAndHandleConcat;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
@@ -139,7 +141,7 @@ public final class AugmentListener {
             YangResolutionInfoImpl resolutionInfo = new YangResolutionInfoImpl<YangAugment>(yangAugment,
                     curNode, line,
                     charPositionInLine);
-            addToResolutionList(resolutionInfo, ctx);
+            addToResolutionList(resolutionInfo, listener, ctx);
 
         } else if (curData instanceof YangUses) {
             throw new ParserException(constructListenerErrorMessage(UNHANDLED_PARSED_DATA, AUGMENT_DATA,
@@ -190,13 +192,15 @@ public final class AugmentListener {
      * Add to resolution list.
      *
      * @param resolutionInfo resolution information.
+     * @param listener       listener's object
      * @param ctx            context object of the grammar rule
      */
     private static void addToResolutionList(YangResolutionInfoImpl<YangAugment> resolutionInfo,
+                                            TreeWalkListener listener,
                                             GeneratedYangParser.AugmentStatementContext ctx) {
 
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_AUGMENT, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                     AUGMENT_DATA, ctx.augment().getText(), EXIT, e.getMessage()));
@@ -27,12 +27,14 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_BASE;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorLocation.ENTRY;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorLocation.EXIT;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorMessageConstruction.constructExtendedListenerErrorMessage;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorMessageConstruction.constructListenerErrorMessage;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.*;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getValidNodeIdentifier;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.BASE_DATA;
@@ -97,20 +99,22 @@ public final class BaseListener {
         // Add resolution information to the list
         YangResolutionInfoImpl resolutionInfo =
                 new YangResolutionInfoImpl<YangBase>(yangBase, (YangNode) tmpData, errorLine, errorPosition);
-        addToResolutionList(resolutionInfo, ctx);
+        addToResolutionList(resolutionInfo, listener, ctx);
     }
 
     /**
      * Add to resolution list.
      *
      * @param resolutionInfo resolution information
+     * @param listener       listener's object
      * @param ctx            context object of the grammar rule
      */
     private static void addToResolutionList(YangResolutionInfoImpl<YangBase> resolutionInfo,
+                                            TreeWalkListener listener,
                                             GeneratedYangParser.BaseStatementContext ctx) {
 
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_BASE, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                     BASE_DATA, ctx.string().getText(), EXIT, e.getMessage()));
@@ -27,6 +27,7 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.BASE_DATA;
@@ -41,6 +42,7 @@ import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorTyp
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_CURRENT_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.UNHANDLED_PARSED_DATA;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getValidNodeIdentifier;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
 
@@ -120,7 +122,7 @@ public final class IdentityrefListener {
                         // Add resolution information to the list
                         resolutionInfo = new YangResolutionInfoImpl<YangIdentityRef>(identityRef,
                                 (YangNode) parentNodeOfLeaf, errorLine, errorPosition);
-                        addToResolutionList(resolutionInfo, ctx);
+                        addToResolutionList(resolutionInfo, listener, ctx);
                     } else {
                         identityRef.setInGrouping(true);
                     }
@@ -146,7 +148,7 @@ public final class IdentityrefListener {
                         // Add resolution information to the list
                         resolutionInfo = new YangResolutionInfoImpl<YangIdentityRef>(identityRef,
                                 (YangNode) parentNodeOfLeafList, errorLine, errorPosition);
-                        addToResolutionList(resolutionInfo, ctx);
+                        addToResolutionList(resolutionInfo, listener, ctx);
                     } else {
                         identityRef.setInGrouping(true);
                     }
@@ -167,7 +169,7 @@ public final class IdentityrefListener {
                         // Add resolution information to the list
                         resolutionInfo = new YangResolutionInfoImpl<YangIdentityRef>(identityRef,
                                 (YangNode) parentNodeOfUnionNode, errorLine, errorPosition);
-                        addToResolutionList(resolutionInfo, ctx);
+                        addToResolutionList(resolutionInfo, listener, ctx);
                     } else {
                         identityRef.setInGrouping(true);
                     }
@@ -218,12 +220,14 @@ public final class IdentityrefListener {
      * Adds to resolution list.
      *
      * @param resolutionInfo resolution information
+     * @param listener       listener's object
      * @param ctx            context object of the grammar rule
      */
     private static void addToResolutionList(YangResolutionInfoImpl<YangIdentityRef> resolutionInfo,
+                                            TreeWalkListener listener,
                                             GeneratedYangParser.IdentityrefSpecificationContext ctx) {
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_IDENTITYREF, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                     IDENTITYREF_DATA, ctx.getText(), ENTRY, e.getMessage()));
@@ -43,6 +43,7 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IF_FEATURE;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.IF_FEATURE_DATA;
@@ -53,6 +54,7 @@ import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorMes
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.INVALID_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.UNHANDLED_PARSED_DATA;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getValidNodeIdentifier;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
 
@@ -125,20 +127,22 @@ public final class IfFeatureListener {
         YangResolutionInfoImpl resolutionInfo = new YangResolutionInfoImpl<YangIfFeature>(ifFeature,
                 (YangNode) parentNode, errorLine,
                 errorPosition);
-        addToResolutionList(resolutionInfo, ctx);
+        addToResolutionList(resolutionInfo, listener, ctx);
     }
 
     /**
      * Add to resolution list.
      *
      * @param resolutionInfo resolution information.
+     * @param listener       listener's object
      * @param ctx            context object of the grammar rule
      */
     private static void addToResolutionList(YangResolutionInfo<YangIfFeature> resolutionInfo,
+                                            TreeWalkListener listener,
                                             GeneratedYangParser.IfFeatureStatementContext ctx) {
 
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_IF_FEATURE, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                     IF_FEATURE_DATA, ctx.string().getText(), EXIT, e.getMessage()));
@@ -28,6 +28,7 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_LEAFREF;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.LEAFREF_DATA;
@@ -39,6 +40,7 @@ import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorTyp
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_CURRENT_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.UNHANDLED_PARSED_DATA;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
 
 /*
@@ -138,7 +140,7 @@ public final class LeafrefListener {
                     // Add resolution information to the list.
                     YangResolutionInfoImpl resolutionInfo = new YangResolutionInfoImpl<YangLeafRef>(leafRef,
                             (YangNode) parentNodeOfLeaf, errorLine, errorPosition);
-                    addToResolutionList(resolutionInfo);
+                    addToResolutionList(resolutionInfo, listener);
                 } else {
                     leafRef.setInGrouping(true);
                 }
@@ -164,7 +166,7 @@ public final class LeafrefListener {
                     // Add resolution information to the list.
                     YangResolutionInfoImpl resolutionInfoImpl = new YangResolutionInfoImpl<YangLeafRef>(leafRef,
                             (YangNode) parentNodeOfLeafList, errorLine, errorPosition);
-                    addToResolutionList(resolutionInfoImpl);
+                    addToResolutionList(resolutionInfoImpl, listener);
                 } else {
                     leafRef.setInGrouping(true);
                 }
@@ -216,11 +218,13 @@ public final class LeafrefListener {
      * Adds to resolution list.
      *
      * @param resolutionInfo resolution information
+     * @param listener       listener's object
      */
-    private static void addToResolutionList(YangResolutionInfoImpl resolutionInfo) {
+    private static void addToResolutionList(YangResolutionInfoImpl resolutionInfo,
+                                            TreeWalkListener listener) {
 
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_LEAFREF, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                     LEAFREF_DATA, "", ENTRY, e.getMessage()));
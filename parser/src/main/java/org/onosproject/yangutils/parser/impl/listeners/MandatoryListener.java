@@ -16,6 +16,7 @@
 
 package org.onosproject.yangutils.parser.impl.listeners;
 
+import org.onosproject.yangutils.datamodel.YangChoice;
 import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
@@ -81,7 +82,9 @@ public final class MandatoryListener {
                 YangLeaf leaf = (YangLeaf) tmpNode;
                 leaf.setMandatory(isMandatory);
                 break;
-            case CHOICE_DATA: // TODO
+            case CHOICE_DATA:
+                YangChoice choice = (YangChoice) tmpNode;
+                choice.setMandatory(String.valueOf(isMandatory));
                 break;
             default:
                 throw new ParserException(constructListenerErrorMessage(INVALID_HOLDER, MANDATORY_DATA, "", ENTRY));
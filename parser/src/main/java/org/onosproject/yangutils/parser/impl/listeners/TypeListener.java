@@ -32,6 +32,7 @@ import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.addResolutionInfo;
 import static org.onosproject.yangutils.datamodel.utils.GeneratedLanguage.JAVA_GENERATION;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
@@ -44,6 +45,7 @@ import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorTyp
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_CURRENT_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.MISSING_HOLDER;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorType.UNHANDLED_PARSED_DATA;
+import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getRootResolver;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerUtil.getValidNodeIdentifier;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerValidation.checkStackIsNotEmpty;
 import static org.onosproject.yangutils.translator.tojava.YangDataModelFactory.getYangType;
@@ -147,7 +149,7 @@ public final class TypeListener {
                             new YangResolutionInfoImpl<YangType>(
                                     type, (YangNode) parentNodeOfLeaf, errorLine,
                                     errorPosition);
-                    addToResolutionList(resolutionInfo, ctx);
+                    addToResolutionList(resolutionInfo, listener, ctx);
                 }
                 break;
             case LEAF_LIST_DATA:
@@ -182,7 +184,7 @@ public final class TypeListener {
                             new YangResolutionInfoImpl<YangType>(
                                     type, (YangNode) parentNodeOfLeafList,
                                     errorLine, errorPosition);
-                    addToResolutionList(resolutionInfo, ctx);
+                    addToResolutionList(resolutionInfo, listener, ctx);
                 }
                 break;
             case UNION_DATA:
@@ -215,7 +217,7 @@ public final class TypeListener {
                     YangResolutionInfoImpl resolutionInfo =
                             new YangResolutionInfoImpl<YangType>(
                                     type, unionNode, errorLine, errorPosition);
-                    addToResolutionList(resolutionInfo, ctx);
+                    addToResolutionList(resolutionInfo, listener, ctx);
                 }
 
                 break;
@@ -241,7 +243,7 @@ public final class TypeListener {
                     YangResolutionInfoImpl resolutionInfo =
                             new YangResolutionInfoImpl<YangType>(
                                     type, typeDef, errorLine, errorPosition);
-                    addToResolutionList(resolutionInfo, ctx);
+                    addToResolutionList(resolutionInfo, listener, ctx);
                 }
                 break;
             //TODO: deviate replacement statement.
@@ -291,12 +293,14 @@ public final class TypeListener {
      * Adds to resolution list.
      *
      * @param resolutionInfo resolution information
+     * @param listener       listener's object
      * @param ctx            context object of the grammar rule
      */
     private static void addToResolutionList(YangResolutionInfoImpl<YangType> resolutionInfo,
+                                            TreeWalkListener listener,
                                             GeneratedYangParser.TypeStatementContext ctx) {
         try {
-            addResolutionInfo(resolutionInfo);
+            addResolutionInfo(resolutionInfo, YANG_DERIVED_DATA_TYPE, getRootResolver(listener));
         } catch (DataModelException e) {
             throw new ParserException(constructExtendedListenerErrorMessage(UNHANDLED_PARSED_DATA,
                                                                             TYPE_DATA, ctx.string().getText(), ENTRY, e.getMessage()));
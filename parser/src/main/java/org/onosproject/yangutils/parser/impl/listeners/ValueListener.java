@@ -107,14 +107,8 @@ public final class ValueListener {
         switch (tmpNode.getYangConstructType()) {
             case ENUMERATION_DATA: {
                 YangEnumeration yangEnumeration = (YangEnumeration) tmpNode;
-                for (YangEnum curEnum : yangEnumeration.getEnumSet()) {
-                    if (value == curEnum.getValue()) {
-                        listener.getParsedDataStack().push(enumNode);
-                        return false;
-                    }
-                }
                 listener.getParsedDataStack().push(enumNode);
-                return true;
+                return yangEnumeration.getEnumByValue(value) == null;
             }
             default:
                 listener.getParsedDataStack().push(enumNode);
@@ -33,6 +33,7 @@ import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -584,6 +585,21 @@ public final class ListenerUtil {
         return null;
     }
 
+    /**
+     * Returns the module or sub-module of the file being parsed, which is at
+     * the bottom of the parsed data stack.
+     *
+     * @param listener listener's object
+     * @return module or sub-module, null if the stack does not hold one
+     */
+    public static YangReferenceResolver getRootResolver(TreeWalkListener listener) {
+        if (listener.getParsedDataStack().isEmpty()
+                || !(listener.getParsedDataStack().firstElement() instanceof YangReferenceResolver)) {
+            return null;
+        }
+        return (YangReferenceResolver) listener.getParsedDataStack().firstElement();
+    }
+
     /**
      * Returns the prefix of the current file.
      *
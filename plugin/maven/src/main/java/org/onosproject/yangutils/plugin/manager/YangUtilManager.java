@@ -30,6 +30,7 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.linker.YangLinker;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
 import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.linker.impl.YangLinkerTimingReport;
 import org.onosproject.yangutils.parser.YangUtilsParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
@@ -173,6 +174,12 @@ public class YangUtilManager
     @Parameter(property = "generateJavaFileForSbi", defaultValue = "nbi")
     private String generateJavaFileForSbi;
 
+    /**
+     * Reports the time of the linking steps and resolvable types.
+     */
+    @Parameter(property = "reportLinkerTiming", defaultValue = "false")
+    private boolean reportLinkerTiming;
+
     private String outputDir;
     private String codeGenDir;
 
@@ -289,8 +296,18 @@ public class YangUtilManager
     public void resolveDependenciesUsingLinker()
             throws MojoExecutionException {
         createYangNodeSet();
+        YangLinkerTimingReport timingReport = null;
+        if (reportLinkerTiming) {
+            timingReport = new YangLinkerTimingReport();
+            yangLinker.setLinkerListener(timingReport);
+        }
         try {
             yangLinker.resolveDependencies(yangNodeSet);
+            if (timingReport != null) {
+                for (String line : timingReport.getReportLines()) {
+                    getLog().info(line);
+                }
+            }
         } catch (LinkerException e) {
             printLog(e.getFileName(), e.getLineNumber(), e.getCharPositionInLine(),
                      e.getMessage(), e.getLocalizedMessage());
@@ -18,6 +18,7 @@ package org.onosproject.yangutils.parser.impl.listeners;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -32,7 +33,11 @@ import org.onosproject.yangutils.datamodel.YangNodeType;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.SortedSet;
@@ -145,4 +150,33 @@ public class EnumListenerTest {
         Iterator<YangEnum> enumIterator = enumSet.iterator();
         assertThat(enumIterator.next().getNamedValue(), is("five"));
     }
+
+    /**
+     * Checks enum lookup on name and value, also after deserialization.
+     */
+    @Test
+    public void processEnumLookup() throws IOException, ParserException, ClassNotFoundException {
+        YangNode node = manager.getDataModel("src/test/resources/EnumTypeStatement.yang");
+        YangLeaf leafInfo = ((YangModule) node).getListOfLeaf().get(0);
+        YangEnumeration enumeration = (YangEnumeration) leafInfo.getDataType().getDataTypeExtendedInfo();
+
+        assertThat(enumeration.getEnumByName("100m").getValue(), is(1));
+        assertThat(enumeration.getEnumByValue(2).getNamedValue(), is("auto"));
+        assertThat(enumeration.getEnumByName("1g"), nullValue());
+        assertThat(enumeration.getEnumByValue(3), nullValue());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+        objectOutputStream.writeObject(node);
+        objectOutputStream.close();
+        ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()));
+        YangModule deserialized = (YangModule) objectInputStream.readObject();
+        objectInputStream.close();
+
+        leafInfo = deserialized.getListOfLeaf().get(0);
+        enumeration = (YangEnumeration) leafInfo.getDataType().getDataTypeExtendedInfo();
+        assertThat(enumeration.getEnumByName("10m").getValue(), is(0));
+        assertThat(enumeration.getEnumByValue(1).getNamedValue(), is("100m"));
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangAugmentedChildMap;
+import org.onosproject.yangutils.datamodel.utils.YangAugmentedChildMap.AugmentedChild;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for the map of the data children added by augments.
+ */
+public class AugmentedChildMapTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks the children added by the augments of several modules are
+     * found by name and module, through choice and case. Without the
+     * module, the child of the first augment linked is found.
+     */
+    @Test
+    public void processAugmentedChildMap() throws IOException {
+
+        String searchDir = "src/test/resources/augmentedchildmap";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangList interfaceList = (YangList) getModule("interfaces").getChild().getChild();
+        YangAugment ipAugment = (YangAugment) getModule("ip").getChild();
+        YangAugment vendorAugment = (YangAugment) getModule("vendor").getChild();
+        YangAugmentedChildMap childMap = interfaceList.getAugmentedChildMap();
+        assertThat(childMap.size(), is(5));
+
+        // Same name is told apart by module.
+        AugmentedChild mtu = childMap.get("mtu", "vendor");
+        assertThat(mtu.getAugment(), sameInstance(vendorAugment));
+        assertThat(mtu.getChild(), sameInstance((Object) vendorAugment.getListOfLeaf().get(0)));
+        assertThat(childMap.get("mtu", "ip").getAugment(), sameInstance(ipAugment));
+        assertThat(childMap.get("mtu", null).getAugment(),
+                   sameInstance(interfaceList.getAugmentedInfoList().get(0)));
+        assertThat(childMap.get("ipv4", "ip").getChild(), sameInstance((Object) ipAugment.getChild()));
+        assertThat(childMap.get("ipv4", "vendor"), nullValue());
+        assertThat(childMap.get("name", null), nullValue());
+
+        // Children of the cases of a choice are found through it.
+        YangLeaf speed = (YangLeaf) childMap.get("speed", "vendor").getChild();
+        assertThat(speed.getName(), is("speed"));
+        YangNode optics = (YangNode) childMap.get("optics", null).getChild();
+        assertThat(optics.getParent().getParent().getParent(), sameInstance((YangNode) vendorAugment));
+        YangContainer monitor = (YangContainer) vendorAugment.getNextSibling();
+        assertThat(monitor.getListOfLeaf().get(0).getListOfMust().get(0).getCompiledConstraint(),
+                   notNullValue());
+
+        // Map follows the augments of the node.
+        interfaceList.removeAugmentation(vendorAugment);
+        assertThat(interfaceList.getAugmentedChildMap(), not(sameInstance(childMap)));
+        assertThat(interfaceList.getAugmentedChildMap().size(), is(2));
+        assertThat(interfaceList.getAugmentedChildMap().get("speed", null), nullValue());
+    }
+}
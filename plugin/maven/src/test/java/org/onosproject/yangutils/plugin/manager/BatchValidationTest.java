@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangValueBatchResult;
+import org.onosproject.yangutils.datamodel.YangValueBatchValidator;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for validation of batches of leaf values.
+ */
+public class BatchValidationTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+    private YangContainer members;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/batchvalidation";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) getContainer(module, "settings");
+        members = (YangContainer) getContainer(module, "members");
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getContainer(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks validation of a batch of values records the failed values and
+     * reports their errors on demand.
+     */
+    @Test
+    public void processBatchValidation() {
+
+        YangValueBatchValidator batchValidator = new YangValueBatchValidator();
+        YangSchemaNode level = getLeaf(settings, "level");
+        YangSchemaNode small = getLeaf(members, "small");
+        YangSchemaNode[] schemaNodes = {level, level, small, small, getLeaf(settings, "flags"), settings};
+        String[] values = {"10", "101", "-10", "x", "up", "a"};
+
+        YangValueBatchResult result = batchValidator.validate(schemaNodes, values);
+        assertThat(result.size(), is(6));
+        assertThat(result.isAllValid(), is(false));
+        assertThat(result.getFailureCount(), is(3));
+        assertThat(result.isValid(0), is(true));
+        assertThat(result.isValid(1), is(false));
+        assertThat(result.nextFailure(2), is(3));
+        assertThat(result.getErrorMessage(0), nullValue());
+        assertThat(result.getErrorMessage(3), is("YANG file error : Input value \"x\" is not a valid int8."));
+        assertThat(result.getErrorMessages().size(), is(3));
+
+        // Result is reused for the next batch.
+        YangValueBatchResult reused = batchValidator.validate(Arrays.asList(level, small),
+                                                              Arrays.asList("50", null), result);
+        assertThat(reused, sameInstance(result));
+        assertThat(result.size(), is(2));
+        assertThat(result.getFailures().cardinality(), is(1));
+        assertThat(result.isValid(1), is(false));
+
+        result = batchValidator.validate(small, new String[]{"1", "2", "-3"});
+        assertThat(result.isAllValid(), is(true));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangBinary;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for validation of binary length without decoding the value.
+ */
+public class BinaryLengthTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/binarylength";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) getContainer(module, "settings");
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getContainer(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data type of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return data type of the leaf
+     */
+    private static YangType<?> getType(YangContainer container, String name) {
+        return getLeaf(container, name).getDataType();
+    }
+
+    /**
+     * Checks the decoded length of binary value is computed without decoding.
+     */
+    @Test
+    public void processBinaryLength() {
+
+        assertThat(YangBinary.getDecodedLength(""), is(0L));
+        assertThat(YangBinary.getDecodedLength("AA=="), is(1L));
+        assertThat(YangBinary.getDecodedLength("AAE="), is(2L));
+        assertThat(YangBinary.getDecodedLength("AAECAw"), is(4L));
+        assertThat(YangBinary.getDecodedLength("AAECAwQ="), is(5L));
+        assertThat(YangBinary.getDecodedLength("A"), is(-1L));
+        assertThat(YangBinary.getDecodedLength("AA=A"), is(-1L));
+        assertThat(YangBinary.getDecodedLength("AAE*"), is(-1L));
+        assertThat(YangBinary.getDecodedLength("AAECA==="), is(-1L));
+
+        YangBinary binary = new YangBinary("AAECAwQ=");
+        assertThat(binary.getBinaryData().length, is(5));
+        assertThat(binary.toString(), is("AAECAwQ="));
+
+        YangType<?> key = getType(settings, "key");
+        assertThat(key.isValidValueString("AA=="), is(true));
+        assertThat(key.isValidValueString(""), is(false));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * Test cases for the canonical form of valid values.
+ */
+public class CanonicalValueTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+    private YangContainer members;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/canonicalvalue";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) getContainer(module, "settings");
+        members = (YangContainer) getContainer(module, "members");
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getContainer(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data type of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return data type of the leaf
+     */
+    private static YangType<?> getType(YangContainer container, String name) {
+        return getLeaf(container, name).getDataType();
+    }
+
+    /**
+     * Checks values are validated and canonicalized in one pass.
+     */
+    @Test
+    public void processCanonicalValue() {
+
+        YangType<?> small = getType(members, "small");
+        assertThat(small.getCanonicalValue("+007"), is("7"));
+        assertThat(small.getCanonicalValue("-00"), is("0"));
+        assertThat(small.getCanonicalValue("-010"), is("-10"));
+        assertThat(small.getCanonicalValue("-10"), is("-10"));
+        assertThat(small.getCanonicalValue("11"), nullValue());
+
+        YangType<?> level = getType(settings, "level");
+        assertThat(level.getCanonicalValue("0100"), is("100"));
+        assertThat(level.getCanonicalValue("0101"), nullValue());
+
+        YangType<?> rate = getType(settings, "rate");
+        assertThat(rate.getCanonicalValue("+01.500"), is("1.5"));
+        assertThat(rate.getCanonicalValue("0.005"), is("0.005"));
+        assertThat(rate.getCanonicalValue("10"), is("10.0"));
+        assertThat(rate.getCanonicalValue("1e0"), is("1.0"));
+        assertThat(rate.getCanonicalValue("2"), nullValue());
+        assertThat(getType(settings, "ratio").getCanonicalValue("-0.000"), is("0.0"));
+
+        YangType<?> flags = getType(settings, "flags");
+        assertThat(flags.getCanonicalValue("down up down"), is("up down"));
+        assertThat(flags.getCanonicalValue("up left"), nullValue());
+
+        YangType<?> key = getType(settings, "key");
+        assertThat(key.getCanonicalValue("AAE"), is("AAE="));
+        assertThat(key.getCanonicalValue("AA"), is("AA=="));
+        assertThat(key.getCanonicalValue("AA="), nullValue());
+
+        // Canonical value of the first member type accepting the value.
+        YangType<?> union = getType(settings, "threshold");
+        assertThat(union.getCanonicalValue("+5"), is("5"));
+        assertThat(union.getCanonicalValue("100.50"), is("100.5"));
+        assertThat(union.getCanonicalValue("high"), is("high"));
+        assertThat(union.getCanonicalValue("xyz"), nullValue());
+    }
+}
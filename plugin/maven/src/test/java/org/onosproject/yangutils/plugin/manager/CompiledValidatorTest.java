@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangValueValidator;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT8;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT8;
+
+/**
+ * Test cases for the value validators compiled from the types.
+ */
+public class CompiledValidatorTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/compiledvalidator";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) module.getChild().getNextSibling();
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data type of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return data type of the leaf
+     */
+    private static YangType<?> getType(YangContainer container, String name) {
+        return getLeaf(container, name).getDataType();
+    }
+
+    /**
+     * Checks the validator compiled from the type is cached and is discarded
+     * when the type is modified or resolved again.
+     */
+    @Test
+    public void processCompiledValidator() {
+
+        YangType<?> level = getType(settings, "level");
+        YangValueValidator validator = level.getValidator();
+        assertThat(level.getValidator(), sameInstance(validator));
+        assertThat(validator.isValid("100"), is(true));
+        assertThat(validator.isValid("101"), is(false));
+
+        // Type of a linked leaf may be shared, a new type is modified.
+        YangType<?> type = new YangType<>();
+        type.setDataType(INT8);
+        validator = type.getValidator();
+        assertThat(validator.isValid("200"), is(false));
+        type.setDataType(UINT8);
+        assertThat(type.getValidator(), not(sameInstance(validator)));
+        assertThat(type.isValidValueString("200"), is(true));
+
+        // Validator is compiled again once the type is resolved again.
+        validator = type.getValidator();
+        type.setResolvableStatus(RESOLVED);
+        assertThat(type.getValidator(), not(sameInstance(validator)));
+    }
+
+    /**
+     * Checks the leafref values are validated by the type of the referred
+     * leaf.
+     */
+    @Test
+    public void processLeafRefValidator() {
+
+        YangType<?> levelRef = getType(settings, "level-ref");
+        assertThat(levelRef.isValidValueString("100"), is(true));
+        assertThat(levelRef.isValidValueString("101"), is(false));
+        assertThat(levelRef.isValidValueString("x"), is(false));
+        assertThat(levelRef.getCanonicalValue("0100"), is("100"));
+        try {
+            getLeaf(settings, "level-ref").isValueValid("101");
+        } catch (DataModelException | DataTypeException e) {
+            assertThat(e.getMessage(), is("YANG file error : Input value \"101\" is not a valid UINT8"));
+            return;
+        }
+        throw new AssertionError("Invalid value is accepted");
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for validation of decimal64 values as scaled longs.
+ */
+public class Decimal64ValidationTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/decimal64validation";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) getContainer(module, "settings");
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getContainer(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data type of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return data type of the leaf
+     */
+    private static YangType<?> getType(YangContainer container, String name) {
+        return getLeaf(container, name).getDataType();
+    }
+
+    /**
+     * Checks decimal64 validation with scaled value and range bounds.
+     */
+    @Test
+    public void processDecimal64Validation() {
+
+        YangType<?> rate = getType(settings, "rate");
+        assertThat(rate.isValidValueString("0.001"), is(true));
+        assertThat(rate.isValidValueString("0"), is(false));
+        assertThat(rate.isValidValueString("1.500"), is(true));
+        assertThat(rate.isValidValueString("-1.5"), is(false));
+        assertThat(rate.isValidValueString("9.999"), is(false));
+        assertThat(rate.isValidValueString("10"), is(true));
+        assertThat(rate.isValidValueString("922337203685477.580"), is(true));
+        assertThat(rate.isValidValueString("1.5001"), is(false));
+        assertThat(rate.isValidValueString("1e0"), is(true));
+        assertThat(rate.isValidValueString("1.2.3"), is(false));
+
+        YangType<?> ratio = getType(settings, "ratio");
+        assertThat(ratio.isValidValueString("1.5"), is(true));
+        assertThat(ratio.isValidValueString("-9.223372036854775808"), is(true));
+        assertThat(ratio.isValidValueString("-9.5"), is(false));
+        assertThat(ratio.isValidValueString("10"), is(false));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.FeatureSchemaView;
+import org.onosproject.yangutils.datamodel.utils.FeatureSchemaViewCache;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for views of schema pruned for enabled features.
+ */
+public class FeatureSchemaViewTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangNode module1;
+    private YangNode module2;
+    private YangContainer top;
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the names of the schema nodes.
+     *
+     * @param nodes list of schema nodes
+     * @return names of schema nodes
+     */
+    private static List<String> getNames(List<?> nodes) {
+        List<String> names = new LinkedList<>();
+        for (Object node : nodes) {
+            if (node instanceof YangLeaf) {
+                names.add(((YangLeaf) node).getName());
+            } else {
+                names.add(((YangNode) node).getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the set of feature names.
+     *
+     * @param features feature names
+     * @return set of feature names
+     */
+    private static Set<String> features(String... features) {
+        return new HashSet<>(Arrays.asList(features));
+    }
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/featureview";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        Iterator<YangNode> yangNodeIterator = utilManager.getYangNodeSet().iterator();
+        YangNode rootNode = yangNodeIterator.next();
+        if (rootNode.getName().equals("module1")) {
+            module1 = rootNode;
+            module2 = yangNodeIterator.next();
+        } else {
+            module2 = rootNode;
+            module1 = yangNodeIterator.next();
+        }
+        top = (YangContainer) getChild(module1, "top");
+    }
+
+    /**
+     * Checks nodes are pruned when no feature is enabled.
+     */
+    @Test
+    public void processNoFeature() {
+
+        FeatureSchemaView view = new FeatureSchemaView(utilManager.getYangNodeSet(),
+                                                       Collections.<String>emptySet());
+        assertThat(getNames(view.getActiveLeaves(top)), is(Arrays.asList("name")));
+        assertThat(view.getActiveLeafLists(top).size(), is(0));
+        assertThat(view.isActive(getChild(top, "routes")), is(false));
+
+        // Content of uses is pruned with the uses.
+        assertThat(view.isActive(getChild(top, "errors")), is(false));
+        assertThat(view.isActive(top.getListOfLeaf().get(2)), is(false));
+
+        assertThat(view.isActive(module2.getChild()), is(false));
+        assertThat(view.isActive(getChild(module2, "policy")), is(false));
+    }
+
+    /**
+     * Checks features depending on other features and features of other
+     * modules.
+     */
+    @Test
+    public void processEnabledFeatures() {
+
+        // Feature whose if-feature is not enabled is not enabled.
+        FeatureSchemaView view = new FeatureSchemaView(utilManager.getYangNodeSet(),
+                                                       features("module1:bgp", "module1:stats"));
+        assertThat(view.getActiveLeafLists(top).size(), is(0));
+        assertThat(getNames(view.getActiveLeaves(top)), is(Arrays.asList("name", "uptime", "in-octets")));
+        assertThat(view.isActive(getChild(top, "errors")), is(true));
+        assertThat(view.isActive(getChild(module2, "policy")), is(false));
+
+        view = new FeatureSchemaView(utilManager.getYangNodeSet(), features("module1:routing", "module1:bgp"));
+        YangNode routes = getChild(top, "routes");
+        assertThat(getNames(view.getActiveChildren(top)).contains("routes"), is(true));
+        assertThat(getNames(view.getActiveLeaves(routes)), is(Arrays.asList("protocol")));
+        assertThat(view.getActiveLeafLists(top).size(), is(1));
+        assertThat(view.isActive(module2.getChild()), is(true));
+        assertThat(view.isActive(getChild(module2, "policy")), is(true));
+        assertThat(view.isActive(top.getListOfLeaf().get(1)), is(false));
+
+        // Feature of other module is qualified with its module name.
+        view = new FeatureSchemaView(utilManager.getYangNodeSet(), features("module2:routing"));
+        assertThat(view.isActive(routes), is(false));
+    }
+
+    /**
+     * Checks the view is created once for a set of enabled features.
+     */
+    @Test
+    public void processViewCache() {
+
+        FeatureSchemaViewCache cache = new FeatureSchemaViewCache(utilManager.getYangNodeSet());
+        FeatureSchemaView view = cache.getView(features("module1:routing", "module1:stats"));
+        assertThat(cache.getView(features("module1:stats", "module1:routing")), sameInstance(view));
+        assertThat(cache.getView(features("module1:routing")) == view, is(false));
+        assertThat(cache.size(), is(2));
+        assertThat(view.getInactiveCount(), is(3));
+
+        cache.invalidate();
+        assertThat(cache.size(), is(0));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangIdentity;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.IdentityDerivationResolver;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for derived identities computed after linking.
+ */
+public class IdentityDerivationTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangNode module1;
+    private YangNode module2;
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/identityderivation";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        Iterator<YangNode> yangNodeIterator = utilManager.getYangNodeSet().iterator();
+        YangNode rootNode = yangNodeIterator.next();
+        if (rootNode.getName().equals("module1")) {
+            module1 = rootNode;
+            module2 = yangNodeIterator.next();
+        } else {
+            module2 = rootNode;
+            module1 = yangNodeIterator.next();
+        }
+    }
+
+    /**
+     * Checks the transitive derivation of identities across modules.
+     */
+    @Test
+    public void processDerivedIdentities() {
+
+        YangIdentity interfaceType = (YangIdentity) getChild(module1, "interface-type");
+        YangIdentity ethernet = (YangIdentity) getChild(module1, "ethernet");
+        YangIdentity fastEthernet = (YangIdentity) getChild(module1, "fast-ethernet");
+        YangIdentity crypto = (YangIdentity) getChild(module1, "crypto");
+        YangIdentity gigabitEthernet = (YangIdentity) getChild(module2, "gigabit-ethernet");
+
+        assertThat(gigabitEthernet.isDerivedFrom(fastEthernet), is(true));
+        assertThat(gigabitEthernet.isDerivedFrom(interfaceType), is(true));
+        assertThat(ethernet.isDerivedFrom(interfaceType), is(true));
+        assertThat(interfaceType.isDerivedFrom(ethernet), is(false));
+        assertThat(ethernet.isDerivedFrom(ethernet), is(false));
+        assertThat(gigabitEthernet.isDerivedFrom(crypto), is(false));
+
+        assertThat(interfaceType.getDerivedIdentities().size(), is(5));
+        assertThat(ethernet.getDerivedIdentities().size(), is(2));
+        assertThat(crypto.getDerivedIdentities().size(), is(0));
+        assertThat(interfaceType.getDerivedIdentity("module2", "gigabit-ethernet"),
+                   sameInstance(gigabitEthernet));
+        assertThat(interfaceType.getDerivedIdentity("gigabit-ethernet"), sameInstance(gigabitEthernet));
+
+        // Name defined in both modules is ambiguous without module name.
+        assertThat(interfaceType.getDerivedIdentity("loopback"), nullValue());
+        assertThat(interfaceType.getDerivedIdentity("module2", "loopback"),
+                   sameInstance(getChild(module2, "loopback")));
+
+        // Derivations are recomputed, not accumulated, on another pass.
+        IdentityDerivationResolver resolver = new IdentityDerivationResolver();
+        resolver.resolveDerivations(utilManager.getYangNodeSet());
+        assertThat(resolver.getIdentityCount(), is(7));
+        assertThat(interfaceType.getDerivedIdentities().size(), is(5));
+    }
+
+    /**
+     * Checks identityref values are validated against derived identities.
+     */
+    @Test
+    public void processIdentityRefValidation() {
+
+        YangContainer interfaces = (YangContainer) getChild(module1, "interfaces");
+        YangType<?> type = interfaces.getListOfLeaf().get(0).getDataType();
+        YangType<?> ethernetType = interfaces.getListOfLeaf().get(1).getDataType();
+
+        assertThat(type.isValidValueString("module1:ethernet"), is(true));
+        assertThat(type.isValidValueString("module2:gigabit-ethernet"), is(true));
+        assertThat(type.isValidValueString("fast-ethernet"), is(true));
+        assertThat(type.isValidValueString("interface-type"), is(false));
+        assertThat(type.isValidValueString("loopback"), is(false));
+        assertThat(type.isValidValueString("module1:loopback"), is(true));
+        assertThat(type.isValidValueString("module1:crypto"), is(false));
+        assertThat(type.isValidValueString("module2:ethernet"), is(false));
+
+        assertThat(ethernetType.isValidValueString("gigabit-ethernet"), is(true));
+        assertThat(ethernetType.isValidValueString("module1:loopback"), is(false));
+    }
+
+    /**
+     * Checks the error is reported for an invalid identityref value.
+     */
+    @Test
+    public void processInvalidIdentityRefMessage() {
+
+        YangContainer interfaces = (YangContainer) getChild(module1, "interfaces");
+        try {
+            interfaces.getListOfLeaf().get(1).isValueValid("module1:crypto");
+        } catch (DataModelException | DataTypeException e) {
+            assertThat(e.getMessage(),
+                       is("YANG file error : Input value \"module1:crypto\" is not a valid IDENTITYREF"));
+            return;
+        }
+        throw new AssertionError("Invalid value is accepted");
+    }
+}
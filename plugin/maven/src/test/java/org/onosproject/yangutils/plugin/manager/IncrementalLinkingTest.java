@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangIdentity;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangMust;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangWhen;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.linker.YangNodeLoader;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
+
+/**
+ * Test cases for linking again the modules affected by a module change.
+ */
+public class IncrementalLinkingTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the data model tree of a YANG file, linked within the file.
+     *
+     * @param fileName name of YANG file
+     * @return root node
+     */
+    private static YangNode parse(String fileName) {
+        try {
+            YangNode yangNode = new YangUtilsParserManager().getDataModel(fileName);
+            resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
+            ((YangReferenceResolver) yangNode).resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+            ((YangReferenceResolver) yangNode).resolveSelfFileLinking(YANG_IDENTITYREF);
+            return yangNode;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (DataModelException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the linked root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : yangLinkerManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Represents loader of the YANG file of a linked module.
+     */
+    private static final class FileLoader implements YangNodeLoader {
+
+        private final Set<String> loadedNames = new HashSet<>();
+
+        @Override
+        public YangNode loadNode(YangNode linkedNode) {
+            loadedNames.add(linkedNode.getName());
+            return parse(linkedNode.getFileName());
+        }
+    }
+
+    /**
+     * Checks only the importers of a changed module are linked again.
+     */
+    @Test
+    public void processIncrementalLinking() throws IOException {
+
+        String searchDir = "src/test/resources/relinking/linked";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+        YangNode other = getModule("other");
+        YangNode user = getModule("user");
+
+        // Change of base relinks user and client, which import it directly or not.
+        YangNode base = parse("src/test/resources/relinking/changed/base.yang");
+        FileLoader loader = new FileLoader();
+        Set<YangNode> relinked = yangLinkerManager.relinkDependencies(
+                Collections.singleton(base), Collections.<YangNode>emptySet(), loader);
+        assertThat(relinked.size(), is(3));
+        assertThat(loader.loadedNames.size(), is(2));
+        assertThat(loader.loadedNames.contains("client"), is(true));
+        assertThat(yangLinkerManager.getYangNodeSet().size(), is(4));
+        assertThat(getModule("other"), sameInstance(other));
+        assertThat(getModule("base"), sameInstance(base));
+        assertThat(getModule("user"), not(sameInstance(user)));
+
+        // References of the relinked modules are to the changed module.
+        YangContainer system = (YangContainer) base.getChild().getNextSibling().getNextSibling();
+        YangAugment augment = (YangAugment) getModule("user").getChild().getNextSibling();
+        assertThat(system.getAugmentedInfoList().size(), is(1));
+        assertThat(augment.getAugmentedNode(), sameInstance((YangNode) system));
+        YangLeaf load = augment.getListOfLeaf().get(0);
+        YangDerivedInfo<?> derivedInfo = (YangDerivedInfo<?>) load.getDataType().getDataTypeExtendedInfo();
+        assertThat(derivedInfo.getReferredTypeDef(), sameInstance(base.getChild()));
+        YangIdentity protocol = (YangIdentity) base.getChild().getNextSibling();
+        assertThat(protocol.getDerivedIdentity("tcp").getParent(), sameInstance(getModule("user")));
+
+        // Removal of user leaves base untouched, apart from the augment.
+        yangLinkerManager.relinkDependencies(Collections.<YangNode>emptySet(),
+                                             Collections.singleton(getModule("client")), loader);
+        relinked = yangLinkerManager.relinkDependencies(Collections.<YangNode>emptySet(),
+                                                        Collections.singleton(getModule("user")), loader);
+        assertThat(relinked.isEmpty(), is(true));
+        assertThat(yangLinkerManager.getYangNodeSet().size(), is(2));
+        assertThat(system.getAugmentedInfoList().isEmpty(), is(true));
+        assertThat(getModule("base"), sameInstance(base));
+    }
+
+    /**
+     * Checks the must and when of a grouping used by a linked module stay
+     * bound to it when a module using the grouping too is linked.
+     */
+    @Test
+    public void processIncrementalConstraints() throws IOException {
+
+        String searchDir = "src/test/resources/relinkconstraints/linked";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+        YangContainer server = (YangContainer) getModule("other").getChild();
+        YangLeaf serverAddress = server.getListOfLeaf().get(0);
+        YangMust serverMust = serverAddress.getListOfMust().get(0);
+        YangContainer serverPort = (YangContainer) server.getChild().getNextSibling();
+        YangWhen serverWhen = serverPort.getWhen();
+
+        YangNode user = parse("src/test/resources/relinkconstraints/changed/user.yang");
+        yangLinkerManager.relinkDependencies(Collections.singleton(user), Collections.<YangNode>emptySet(),
+                                             new FileLoader());
+
+        // Unchanged module keeps its compiled must and when.
+        assertThat(serverAddress.getListOfMust().get(0), sameInstance(serverMust));
+        assertThat(serverMust.getCompiledContext(), sameInstance((YangSchemaNode) serverAddress));
+        assertThat(serverWhen.getCompiledContext(), sameInstance((YangSchemaNode) serverPort));
+
+        // Linked module has its own must and when.
+        YangContainer client = (YangContainer) user.getChild();
+        YangLeaf clientAddress = client.getListOfLeaf().get(0);
+        YangMust clientMust = clientAddress.getListOfMust().get(0);
+        YangContainer clientPort = (YangContainer) client.getChild().getNextSibling();
+        assertThat(clientMust, not(sameInstance(serverMust)));
+        assertThat(clientMust.getCompiledConstraint(), notNullValue());
+        assertThat(clientMust.getCompiledContext(), sameInstance((YangSchemaNode) clientAddress));
+        assertThat(clientPort.getWhen(), not(sameInstance(serverWhen)));
+        assertThat(clientPort.getWhen().getCompiledContext(), sameInstance((YangSchemaNode) clientPort));
+    }
+
+    /**
+     * Checks types of a grouping used by a linked module are not shared.
+     */
+    @Test
+    public void processIncrementalCanonicalTypes() throws IOException {
+
+        String searchDir = "src/test/resources/relinkcanonical/linked";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+        YangLeaf groupingLabel = ((YangGrouping) getModule("groupings").getChild()).getListOfLeaf().get(0);
+
+        YangNode user = parse("src/test/resources/relinkcanonical/changed/user.yang");
+        yangLinkerManager.relinkDependencies(Collections.singleton(user), Collections.<YangNode>emptySet(),
+                                             new FileLoader());
+
+        YangContainer client = (YangContainer) user.getChild();
+        YangContainer local = (YangContainer) client.getNextSibling();
+        assertThat(client.getListOfLeaf().get(0).getDataType(), sameInstance(groupingLabel.getDataType()));
+        assertThat(local.getListOfLeaf().get(0).getDataType(), not(sameInstance(groupingLabel.getDataType())));
+    }
+
+    /**
+     * Checks validation of the types of a linked module follows the changed
+     * typedef.
+     */
+    @Test
+    public void processIncrementalTypeValidation() throws IOException {
+
+        String searchDir = "src/test/resources/relinktypedef/linked";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+        List<YangLeaf> leaves = ((YangContainer) getModule("user").getChild()).getListOfLeaf();
+        assertThat(leaves.get(0).getDataType().isValidValueString("80"), is(true));
+        assertThat(leaves.get(1).getDataType().isValidValueString("80"), is(true));
+
+        // Changed typedef narrows the range of the leaf and of the leafref to it.
+        YangNode base = parse("src/test/resources/relinktypedef/changed/base.yang");
+        yangLinkerManager.relinkDependencies(Collections.singleton(base), Collections.<YangNode>emptySet(),
+                                             new FileLoader());
+        leaves = ((YangContainer) getModule("user").getChild()).getListOfLeaf();
+        assertThat(leaves.get(0).getDataType().isValidValueString("50"), is(true));
+        assertThat(leaves.get(0).getDataType().isValidValueString("80"), is(false));
+        assertThat(leaves.get(1).getDataType().isValidValueString("80"), is(false));
+    }
+}
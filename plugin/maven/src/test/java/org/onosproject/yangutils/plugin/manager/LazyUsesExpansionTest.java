@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangMust;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for the expansion of uses on demand.
+ */
+public class LazyUsesExpansionTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks only the uses of imported groupings on the path of a leafref
+     * are expanded by the linker, and the others when requested.
+     */
+    @Test
+    public void processLazyUsesExpansion() throws IOException {
+
+        String searchDir = "src/test/resources/lazyuses";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.setLazyUsesExpansion(true);
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode devices = getModule("devices");
+        YangContainer server = (YangContainer) devices.getChild();
+        YangContainer client = (YangContainer) server.getNextSibling();
+        YangContainer monitor = (YangContainer) client.getNextSibling();
+
+        // Grouping on the path of the leafref is expanded.
+        YangUses serverUses = (YangUses) server.getChild();
+        assertThat(serverUses.isExpansionDeferred(), is(false));
+        YangContainer serverPort = (YangContainer) serverUses.getNextSibling();
+        assertThat(server.getListOfLeaf().size(), is(1));
+        YangLeafRef portNumber = (YangLeafRef) monitor.getListOfLeaf().get(0)
+                .getDataType().getDataTypeExtendedInfo();
+        assertThat(portNumber.getReferredLeafOrLeafList(),
+                   sameInstance((Object) serverPort.getListOfLeaf().get(0)));
+
+        // Other groupings are expanded when requested.
+        YangUses clientUses = (YangUses) client.getChild();
+        assertThat(clientUses.isExpansionDeferred(), is(true));
+        assertThat(clientUses.getNextSibling(), nullValue());
+        assertThat(client.getListOfLeaf().isEmpty(), is(true));
+
+        yangLinkerManager.expandUses(client);
+        assertThat(clientUses.isExpansionDeferred(), is(false));
+        assertThat(client.getListOfLeaf().get(0).getName(), is("address"));
+        YangContainer clientPort = (YangContainer) clientUses.getNextSibling();
+        assertThat(clientPort.getName(), is("port"));
+        assertThat(clientPort.getSchemaPath(), not(nullValue()));
+        assertThat(clientPort.getParent(), sameInstance((YangNode) client));
+    }
+
+    /**
+     * Checks the must and when of a grouping expanded on demand at several
+     * uses are compiled for the context node of each of them, and a must
+     * referring the expanded nodes is compiled once they are expanded.
+     */
+    @Test
+    public void processLazyUsesConstraints() throws IOException {
+
+        String searchDir = "src/test/resources/lazyusesconstraints";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.setLazyUsesExpansion(true);
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangContainer server = (YangContainer) getModule("devices").getChild();
+        YangContainer client = (YangContainer) server.getNextSibling();
+
+        // Must referring a node of a uses not yet expanded is compiled once it is expanded.
+        YangMust monitorMust = ((YangContainer) client.getNextSibling()).getListOfLeaf().get(0)
+                .getListOfMust().get(0);
+        assertThat(monitorMust.getCompiledConstraint(), nullValue());
+        yangLinkerManager.expandUses(server);
+        assertThat(monitorMust.getCompiledConstraint(), notNullValue());
+        yangLinkerManager.expandUses(client);
+
+        YangLeaf serverAddress = server.getListOfLeaf().get(0);
+        YangLeaf clientAddress = client.getListOfLeaf().get(0);
+        YangMust serverMust = serverAddress.getListOfMust().get(0);
+        YangMust clientMust = clientAddress.getListOfMust().get(0);
+        assertThat(clientMust, not(sameInstance(serverMust)));
+        assertThat(serverMust.getCompiledConstraint(), notNullValue());
+        assertThat(serverMust.getCompiledContext(), sameInstance((YangSchemaNode) serverAddress));
+        assertThat(clientMust.getCompiledConstraint(), notNullValue());
+        assertThat(clientMust.getCompiledContext(), sameInstance((YangSchemaNode) clientAddress));
+
+        YangContainer serverPort = (YangContainer) server.getChild().getNextSibling();
+        YangContainer clientPort = (YangContainer) client.getChild().getNextSibling();
+        assertThat(serverPort.getWhen().getCompiledContext(), sameInstance((YangSchemaNode) serverPort));
+        assertThat(clientPort.getWhen().getCompiledContext(), sameInstance((YangSchemaNode) clientPort));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.utils.xpath.XPathDataAccessor;
+import org.onosproject.yangutils.datamodel.utils.xpath.YangLeafRefIndex;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for index of leafref target values.
+ */
+public class LeafRefIndexTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private final DataAccessor accessor = new DataAccessor();
+    private YangNode module;
+    private YangContainer interfaces;
+    private YangList interfaceList;
+    private YangContainer routes;
+
+    /**
+     * Represents data node of the test data tree.
+     */
+    private static final class DataNode {
+
+        private final YangSchemaNode schemaNode;
+        private final List<DataNode> children = new LinkedList<>();
+        private String value;
+
+        /**
+         * Creates data node.
+         *
+         * @param schemaNode schema node of data node
+         * @param value      value of leaf, null for other nodes
+         */
+        private DataNode(YangSchemaNode schemaNode, String value) {
+            this.schemaNode = schemaNode;
+            this.value = value;
+        }
+
+        /**
+         * Adds child data node.
+         *
+         * @param schemaNode schema node of child
+         * @param value      value of leaf, null for other nodes
+         * @return child data node
+         */
+        private DataNode add(YangSchemaNode schemaNode, String value) {
+            DataNode child = new DataNode(schemaNode, value);
+            children.add(child);
+            return child;
+        }
+    }
+
+    /**
+     * Represents accessor of the test data tree.
+     */
+    private static final class DataAccessor implements XPathDataAccessor<DataNode> {
+
+        private int childrenAccessCount;
+
+        @Override
+        public DataNode getRoot(DataNode node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataNode getParent(DataNode node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DataNode> getChildren(DataNode node, YangSchemaNode schemaNode) {
+            childrenAccessCount++;
+            List<DataNode> matched = new LinkedList<>();
+            for (DataNode child : node.children) {
+                if (child.schemaNode == schemaNode) {
+                    matched.add(child);
+                }
+            }
+            return matched;
+        }
+
+        @Override
+        public String getValue(DataNode node) {
+            return node.value;
+        }
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param leaves list of leaves
+     * @param name   name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(List<YangLeaf> leaves, String name) {
+        for (YangLeaf leaf : leaves) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses and links the YANG file.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/leafrefindex";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        module = utilManager.getYangNodeSet().iterator().next();
+        interfaces = (YangContainer) module.getChild();
+        interfaceList = (YangList) interfaces.getChild();
+        routes = (YangContainer) interfaces.getNextSibling();
+    }
+
+    /**
+     * Returns data tree with interfaces of the given names, whose index is
+     * the position of interface.
+     *
+     * @param names names of interfaces
+     * @return root node of data tree
+     */
+    private DataNode createDataTree(String... names) {
+        DataNode root = new DataNode(module, null);
+        DataNode container = root.add(interfaces, null);
+        for (int i = 0; i < names.length; i++) {
+            DataNode entry = container.add(interfaceList, null);
+            entry.add(getLeaf(interfaceList.getListOfLeaf(), "name"), names[i]);
+            entry.add(getLeaf(interfaceList.getListOfLeaf(), "index"), String.valueOf(i + 1));
+        }
+        return root;
+    }
+
+    /**
+     * Checks references are validated against the values of target
+     * instances, and the index is built once.
+     */
+    @Test
+    public void processReferenceValidation() {
+
+        DataNode root = createDataTree("eth0", "eth1", "eth2");
+        YangLeafRefIndex<DataNode> index = new YangLeafRefIndex<>(accessor, root);
+
+        YangLeafRef<?> outgoing = (YangLeafRef<?>) getLeaf(routes.getListOfLeaf(), "outgoing")
+                .getDataType().getDataTypeExtendedInfo();
+        assertThat(index.isValidReference(outgoing, "eth1"), is(true));
+        int accessCount = accessor.childrenAccessCount;
+        assertThat(index.isValidReference(outgoing, "eth3"), is(false));
+        assertThat(index.isValidReference(outgoing, "eth2"), is(true));
+        assertThat(accessor.childrenAccessCount, is(accessCount));
+
+        // Numeric values are compared on their canonical value.
+        YangLeafList indexes = routes.getListOfLeafList().get(0);
+        YangLeafRef<?> indexRef = (YangLeafRef<?>) indexes.getDataType().getDataTypeExtendedInfo();
+        assertThat(index.isValidReference(indexRef, "003"), is(true));
+        assertThat(index.isValidReference(indexRef, "4"), is(false));
+
+        // Leafref not requiring instance accepts any value.
+        YangLeafRef<?> backup = (YangLeafRef<?>) getLeaf(routes.getListOfLeaf(), "backup")
+                .getDataType().getDataTypeExtendedInfo();
+        assertThat(index.isValidReference(backup, "eth9"), is(true));
+    }
+
+    /**
+     * Checks the index is updated incrementally on edits of data tree.
+     */
+    @Test
+    public void processIncrementalUpdate() {
+
+        DataNode root = createDataTree("eth0", "eth1", "eth1");
+        YangLeafRefIndex<DataNode> index = new YangLeafRefIndex<>(accessor, root);
+        YangLeaf name = getLeaf(interfaceList.getListOfLeaf(), "name");
+        assertThat(index.getValueCount(name), is(2));
+
+        int accessCount = accessor.childrenAccessCount;
+        index.addValue(name, "eth5");
+        assertThat(index.containsValue(name, "eth5"), is(true));
+
+        // Value remains while another instance has it.
+        index.removeValue(name, "eth1");
+        assertThat(index.containsValue(name, "eth1"), is(true));
+        index.removeValue(name, "eth1");
+        assertThat(index.containsValue(name, "eth1"), is(false));
+
+        index.updateValue(name, "eth0", "eth7");
+        assertThat(index.containsValue(name, "eth0"), is(false));
+        assertThat(index.containsValue(name, "eth7"), is(true));
+        assertThat(index.getValueCount(name), is(2));
+        assertThat(accessor.childrenAccessCount, is(accessCount));
+
+        // Indexes are rebuilt for new data tree.
+        index.setRootNode(createDataTree("eth0"));
+        assertThat(index.containsValue(name, "eth0"), is(true));
+        assertThat(index.containsValue(name, "eth7"), is(false));
+    }
+}
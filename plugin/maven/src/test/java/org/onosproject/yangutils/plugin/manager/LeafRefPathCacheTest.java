@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+
+/**
+ * Test cases for linking of leafrefs sharing the target node of their
+ * paths through the cache of leafref paths.
+ */
+public class LeafRefPathCacheTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the leafref of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leafref
+     */
+    private static YangLeafRef getLeafRef(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return (YangLeafRef) leaf.getDataType().getDataTypeExtendedInfo();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks leafrefs linked concurrently refer to the leaves of the target
+     * node resolved once.
+     */
+    @Test
+    public void processLeafRefPathCache() throws IOException {
+
+        String searchDir = "src/test/resources/leafrefpathcache";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.setLinkingParallelism(4);
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangContainer networks = (YangContainer) getModule("network").getChild()
+                .getNextSibling().getNextSibling();
+        YangList network = (YangList) networks.getChild();
+        YangLeaf networkId = network.getListOfLeaf().get(0);
+        YangLeaf nodeId = network.getListOfLeaf().get(1);
+
+        YangContainer link = (YangContainer) getModule("topology").getChild();
+        YangContainer source = (YangContainer) link.getChild().getNextSibling();
+        YangContainer destination = (YangContainer) source.getNextSibling();
+        for (YangContainer container : new YangContainer[]{source, destination}) {
+            YangLeafRef networkRef = getLeafRef(container, "network-ref");
+            assertThat(networkRef.getResolvableStatus(), is(RESOLVED));
+            assertThat(networkRef.getReferredLeafOrLeafList(), sameInstance((Object) networkId));
+            YangLeafRef nodeRef = getLeafRef(container, "node-ref");
+            assertThat(nodeRef.getReferredLeafOrLeafList(), sameInstance((Object) nodeId));
+        }
+
+        // All the leafrefs share the target node of their paths.
+        assertThat(yangLinkerManager.getLeafRefPathCacheHitCount() >= 3, is(true));
+    }
+
+    /**
+     * Checks relative leafref paths from the same ancestor node share the
+     * path of the ancestor node.
+     */
+    @Test
+    public void processRelativeLeafRefPathCache() throws IOException {
+
+        String searchDir = "src/test/resources/relativeleafrefpath";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangContainer system = (YangContainer) getModule("endpoints").getChild();
+        YangLeaf name = system.getListOfLeaf().get(0);
+        YangContainer server = (YangContainer) system.getChild();
+        YangContainer client = (YangContainer) server.getNextSibling();
+        assertThat(getLeafRef(server, "name-ref").getReferredLeafOrLeafList(),
+                   sameInstance((Object) name));
+        assertThat(getLeafRef(server, "alias-ref").getReferredLeafOrLeafList(),
+                   sameInstance((Object) name));
+        assertThat(getLeafRef(client, "name-ref").getReferredLeafOrLeafList(),
+                   sameInstance((Object) name));
+
+        // Path of the system container is formed and resolved once.
+        assertThat(yangLinkerManager.getLeafRefPathCacheHitCount(), is(4L));
+    }
+}
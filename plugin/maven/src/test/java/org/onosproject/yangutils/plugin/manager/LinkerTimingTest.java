@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.linker.YangLinkingStep;
+import org.onosproject.yangutils.linker.YangResolutionPass;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.linker.impl.YangLinkerTimingReport;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_LEAFREF;
+
+/**
+ * Test cases for the report of the linking time.
+ */
+public class LinkerTimingTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Checks each linking step and each resolution pass with entries is
+     * reported.
+     */
+    @Test
+    public void processLinkerTiming() throws IOException {
+
+        String searchDir = "src/test/resources/schemapathindex";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        YangLinkerTimingReport timingReport = new YangLinkerTimingReport();
+        yangLinkerManager.setLinkerListener(timingReport);
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        // Augments of ip and vendor, leafrefs of vendor.
+        assertThat(timingReport.getTypeEntryCount(YANG_AUGMENT), is(2));
+        assertThat(timingReport.getTypeEntryCount(YANG_LEAFREF), is(2));
+        YangResolutionPass vendorLeafRefs = null;
+        for (YangResolutionPass pass : timingReport.getPasses()) {
+            assertThat(pass.getEntryCount() > 0, is(true));
+            if (pass.getYangNode().getName().equals("vendor") && pass.getType() == YANG_LEAFREF) {
+                vendorLeafRefs = pass;
+            }
+        }
+        assertThat(vendorLeafRefs.getEntryCount(), is(2));
+        assertThat(vendorLeafRefs.getMaxStackDepth(), is(1));
+        assertThat(vendorLeafRefs.getRetryCount(), is(2));
+
+        List<String> lines = timingReport.getReportLines();
+        assertThat(lines.get(0).startsWith("step SUB_MODULE_LINKING: "), is(true));
+        int stepCount = 0;
+        for (String line : lines) {
+            if (line.startsWith("step ")) {
+                stepCount++;
+            }
+        }
+        assertThat(stepCount, is(YangLinkingStep.values().length));
+        assertThat(lines.get(lines.size() - 3).startsWith("module ip YANG_AUGMENT: "), is(true));
+    }
+}
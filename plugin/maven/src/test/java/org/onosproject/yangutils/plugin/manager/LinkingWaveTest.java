@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangIdentityRef;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.linker.impl.YangModuleDependencyGraph;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+
+/**
+ * Test cases for inter file linking of modules in waves of their dependency
+ * graph.
+ */
+public class LinkingWaveTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the sorted names of the modules of each wave.
+     *
+     * @param waves linking waves
+     * @return names of modules of each wave
+     */
+    private static String getWaveNames(List<List<YangNode>> waves) {
+        List<String> waveNames = new ArrayList<>();
+        for (List<YangNode> wave : waves) {
+            List<String> names = new ArrayList<>();
+            for (YangNode yangNode : wave) {
+                names.add(yangNode.getName());
+            }
+            Collections.sort(names);
+            waveNames.add(names.toString());
+        }
+        return waveNames.toString();
+    }
+
+    /**
+     * Checks modules are linked concurrently in dependency order.
+     */
+    @Test
+    public void processLinkingWaves() throws IOException {
+
+        String searchDir = "src/test/resources/linkingwaves";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.setLinkingParallelism(4);
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        // Modules using groupings of the same module are not in one wave.
+        List<YangNode> modules = new ArrayList<>();
+        for (String name : new String[]{"base", "common", "module1", "module2",
+                "module3", "module4", "module5"}) {
+            modules.add(getModule(name));
+        }
+        YangModuleDependencyGraph graph = new YangModuleDependencyGraph(modules);
+        assertThat(getWaveNames(graph.getLinkingWaves()),
+                   is("[[base, common], [module1, module2, module3], [module4], [module5]]"));
+
+        // Augments of the same target from modules of the same wave.
+        YangContainer system = (YangContainer) getChild(getModule("base"), "system");
+        assertThat(system.getAugmentedInfoList().size(), is(2));
+
+        // Uses, typedef and identity from modules of earlier waves.
+        YangContainer client = (YangContainer) getChild(getModule("module4"), "client");
+        assertThat(client.getListOfLeaf().size(), is(3));
+        YangLeaf usage = client.getListOfLeaf().get(0);
+        assertThat(usage.getName(), is("usage"));
+        assertThat(usage.getDataType().getResolvableStatus(), is(RESOLVED));
+        YangLeaf transport = ((YangLeavesHolder) getModule("module5")).getListOfLeaf().get(0);
+        YangIdentityRef identityRef = (YangIdentityRef) transport.getDataType().getDataTypeExtendedInfo();
+        assertThat(identityRef.getReferredIdentity().getName(), is("tcp"));
+    }
+}
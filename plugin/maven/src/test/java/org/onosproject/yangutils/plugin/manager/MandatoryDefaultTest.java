@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.MandatoryDefaultResolver;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for mandatory and default children computed after linking.
+ */
+public class MandatoryDefaultTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the names of the schema nodes joined by comma.
+     *
+     * @param schemaNodes schema nodes
+     * @return names of schema nodes
+     */
+    private static String getNames(YangSchemaNode[] schemaNodes) {
+        StringBuilder names = new StringBuilder();
+        for (YangSchemaNode schemaNode : schemaNodes) {
+            if (names.length() > 0) {
+                names.append(',');
+            }
+            names.append(schemaNode.getName());
+        }
+        return names.toString();
+    }
+
+    /**
+     * Checks mandatory children and canonical default values of schema nodes.
+     */
+    @Test
+    public void processMandatoryAndDefaults() throws IOException, DataModelException {
+
+        String searchDir = "src/test/resources/mandatorydefault";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        YangNode config = getChild(module, "config");
+
+        // Non presence container with mandatory child is mandatory.
+        assertThat(getNames(module.getMandatoryChildren()), is("config"));
+        assertThat(getNames(config.getMandatoryChildren()),
+                   is("name,servers,entry,system,transport"));
+        assertThat(config.getMandatoryChildCount(), is(5));
+        assertThat(getChild(config, "debug").getMandatoryChildren().length, is(1));
+
+        // Defaults of leaf, typedef and grouping, in canonical form.
+        YangLeaf[] defaultLeaves = config.getDefaultLeaves();
+        assertThat(getNames(defaultLeaves), is("ratio,load,hold-time"));
+        assertThat(config.getDefaultValues()[0], is("1.5"));
+        assertThat(config.getDefaultValues()[1], is("50"));
+        assertThat(config.getDefaultValues()[2], is("90"));
+        assertThat(config.getDefaultChild(null).size(), is(3));
+        assertThat(config.getDefaultChild(null).get(defaultLeaves[1].getYangSchemaNodeIdentifier())
+                           == defaultLeaves[1], is(true));
+
+        // Choice takes the defaults of its default case.
+        YangNode mode = getChild(config, "mode");
+        assertThat(getNames(mode.getDefaultLeaves()), is("delay"));
+        assertThat(mode.getDefaultValues()[0], is("10"));
+        assertThat(getChild(config, "transport").getDefaultLeaves().length, is(0));
+
+        MandatoryDefaultResolver resolver = new MandatoryDefaultResolver();
+        resolver.resolveMandatoryAndDefaults(utilManager.getYangNodeSet());
+        assertThat(resolver.getMandatoryCount(), is(8));
+        assertThat(resolver.getDefaultCount(), is(4));
+    }
+}
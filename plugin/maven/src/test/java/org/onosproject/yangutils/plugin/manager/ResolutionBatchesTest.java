@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangResolutionInfo;
+import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_LEAFREF;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_USES;
+
+/**
+ * Test cases for the batches of resolution information of a module.
+ */
+public class ResolutionBatchesTest {
+
+    private final YangUtilsParserManager manager = new YangUtilsParserManager();
+
+    /**
+     * Checks the entities to resolve are classified in the batch of their
+     * type at parse time.
+     */
+    @Test
+    public void processResolutionBatches() throws IOException, ParserException {
+
+        YangModule module = (YangModule) manager.getDataModel(
+                "src/test/resources/schemapathindex/vendor.yang");
+
+        List<YangResolutionInfo> augments = module.getUnresolvedResolutionList(YANG_AUGMENT);
+        assertThat(augments.size(), is(1));
+        assertThat(augments.get(0).getEntityToResolveInfo().getEntityToResolve() instanceof YangAugment,
+                   is(true));
+        List<YangResolutionInfo> leafRefs = module.getUnresolvedResolutionList(YANG_LEAFREF);
+        assertThat(leafRefs.size(), is(2));
+        for (YangResolutionInfo leafRef : leafRefs) {
+            assertThat(leafRef.getEntityToResolveInfo().getEntityToResolve() instanceof YangLeafRef,
+                       is(true));
+        }
+        assertThat(module.getUnresolvedResolutionList(YANG_USES).isEmpty(), is(true));
+
+        // A batch may be replaced as a whole.
+        module.setResolutionList(augments, YANG_DERIVED_DATA_TYPE);
+        assertThat(module.getUnresolvedResolutionList(YANG_DERIVED_DATA_TYPE).size(), is(1));
+        module.setResolutionList(Collections.<YangResolutionInfo>emptyList(), YANG_AUGMENT);
+        assertThat(module.getUnresolvedResolutionList(YANG_AUGMENT).isEmpty(), is(true));
+        assertThat(module.getUnresolvedResolutionList(YANG_DERIVED_DATA_TYPE).size(), is(1));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeafRef;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaPathIndex;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for the index of schema nodes by absolute schema path.
+ */
+public class SchemaPathIndexTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangModule getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return (YangModule) yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks augment and leafref targets across modules resolve to the
+     * indexed nodes.
+     */
+    @Test
+    public void processSchemaPathIndex() throws IOException {
+
+        String searchDir = "src/test/resources/schemapathindex";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        // Nodes are indexed in the namespace of the module defining them.
+        YangModule interfaces = getModule("interfaces");
+        YangModule ip = getModule("ip");
+        YangContainer container = (YangContainer) interfaces.getChild();
+        YangList list = (YangList) container.getChild();
+        YangSchemaPathIndex interfacesIndex = interfaces.getSchemaPathIndex();
+        assertThat(interfacesIndex.size(), is(2));
+        assertThat(interfacesIndex.getNode("interfaces:interfaces/interfaces:interface"),
+                   sameInstance((YangNode) list));
+        YangAugment ipAugment = (YangAugment) ip.getChild();
+        YangNode ipv4 = ip.getSchemaPathIndex()
+                .getNode("interfaces:interfaces/interfaces:interface/ip:ipv4");
+        assertThat(ipv4, sameInstance(ipAugment.getChild()));
+        assertThat(interfacesIndex.getNode("interfaces:interfaces/interfaces:interface/ip:ipv4"),
+                   nullValue());
+
+        // Prefixes of the importing module are mapped to module names.
+        YangModule vendor = getModule("vendor");
+        YangAugment vendorAugment = (YangAugment) vendor.getChild();
+        assertThat(vendorAugment.getAugmentedNode(), sameInstance(ipv4));
+        assertThat(vendorAugment.getTargetNode().get(1).getResolvedNode(), sameInstance((YangNode) list));
+
+        YangContainer config = (YangContainer) vendorAugment.getNextSibling();
+        YangLeafRef interfaceName = (YangLeafRef) config.getListOfLeaf().get(0)
+                .getDataType().getDataTypeExtendedInfo();
+        assertThat(interfaceName.getReferredLeafOrLeafList(), sameInstance((Object) list.getListOfLeaf().get(0)));
+        YangLeafRef address = (YangLeafRef) config.getListOfLeaf().get(1)
+                .getDataType().getDataTypeExtendedInfo();
+        assertThat(address.getReferredLeafOrLeafList(),
+                   sameInstance((Object) ((YangContainer) ipv4).getListOfLeaf().get(0)));
+    }
+}
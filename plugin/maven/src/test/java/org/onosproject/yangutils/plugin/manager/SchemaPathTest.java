@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCase;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for schema path computed after linking.
+ */
+public class SchemaPathTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param holder leaves holder
+     * @param name   name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangLeavesHolder holder, String name) {
+        for (YangLeaf leaf : holder.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks schema path and depth of nodes, leaves and augment children.
+     */
+    @Test
+    public void processSchemaPath() throws IOException {
+
+        String searchDir = "src/test/resources/schemapath";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        Iterator<YangNode> yangNodeIterator = utilManager.getYangNodeSet().iterator();
+        YangNode rootNode = yangNodeIterator.next();
+        YangNode module1;
+        YangNode module2;
+        if (rootNode.getName().equals("module1")) {
+            module1 = rootNode;
+            module2 = yangNodeIterator.next();
+        } else {
+            module2 = rootNode;
+            module1 = yangNodeIterator.next();
+        }
+
+        assertThat(module1.getSchemaPath(), is("/"));
+        assertThat(module1.getSchemaDepth(), is(0));
+        assertThat(getLeaf((YangLeavesHolder) module1, "version").getSchemaPath(),
+                   is("/module1:version"));
+
+        YangNode network = getChild(module1, "network");
+        assertThat(network.getSchemaPath(), is("/module1:network"));
+        assertThat(network.getSchemaDepth(), is(1));
+
+        YangList node = (YangList) getChild(network, "node");
+        assertThat(node.getSchemaPath(), is("/module1:network/node"));
+        assertThat(node.getSchemaDepth(), is(2));
+        assertThat(getLeaf(node, "node-id").getSchemaPath(), is("/module1:network/node/node-id"));
+
+        // Leaf added through uses is placed where the uses is.
+        YangLeaf address = getLeaf(node, "address");
+        assertThat(address.getSchemaPath(), is("/module1:network/node/address"));
+        assertThat(address.getSchemaDepth(), is(3));
+
+        // Choice and case are part of the schema path.
+        YangCase tcp = (YangCase) getChild(getChild(node, "transport"), "tcp");
+        assertThat(tcp.getSchemaPath(), is("/module1:network/node/transport/tcp"));
+        assertThat(getLeaf(tcp, "port").getSchemaPath(), is("/module1:network/node/transport/tcp/port"));
+        assertThat(getLeaf(tcp, "port").getSchemaDepth(), is(5));
+
+        // Grouping contents are not part of the schema tree.
+        YangNode grouping = getChild(module1, "endpoint");
+        assertThat(grouping.getSchemaPath(), nullValue());
+        assertThat(getLeaf((YangLeavesHolder) grouping, "address").getSchemaPath(), nullValue());
+
+        // Augment takes the schema path of augmented node.
+        YangAugment augment = (YangAugment) module2.getChild();
+        assertThat(augment.getSchemaPath(), is(node.getSchemaPath()));
+        assertThat(augment.getSchemaDepth(), is(2));
+        assertThat(getLeaf(augment, "weight").getSchemaPath(),
+                   is("/module1:network/node/module2:weight"));
+        YangNode stats = getChild(augment, "stats");
+        assertThat(stats.getSchemaPath(), is("/module1:network/node/module2:stats"));
+        assertThat(getLeaf((YangLeavesHolder) stats, "count").getSchemaPath(),
+                   is("/module1:network/node/module2:stats/count"));
+        assertThat(getLeaf((YangLeavesHolder) stats, "count").getSchemaDepth(), is(4));
+
+        // Schema paths are interned.
+        assertThat(augment.getSchemaPath(), sameInstance(node.getSchemaPath()));
+    }
+}
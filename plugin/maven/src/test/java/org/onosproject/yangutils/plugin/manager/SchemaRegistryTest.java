@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNodeIdentifier;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaRegistry;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for registry of linked modules.
+ */
+public class SchemaRegistryTest {
+
+    private static final String NAMESPACE1 = "urn:ietf:params:xml:ns:yang:module1";
+    private static final String NAMESPACE2 = "urn:ietf:params:xml:ns:yang:module2";
+
+    /**
+     * Returns the linked data model trees of the YANG files in directory.
+     *
+     * @param searchDir directory of YANG files
+     * @return root nodes of linked data model trees
+     * @throws IOException when fails to do IO operations
+     */
+    private static Set<YangNode> linkModules(String searchDir) throws IOException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        new YangLinkerManager().resolveDependencies(utilManager.getYangNodeSet());
+        return utilManager.getYangNodeSet();
+    }
+
+    /**
+     * Checks lookup of modules and top level nodes across module revisions.
+     */
+    @Test
+    public void processSchemaRegistry() throws IOException {
+
+        YangSchemaRegistry registry = new YangSchemaRegistry();
+        registry.addModules(linkModules("src/test/resources/schemaregistry/current"));
+        assertThat(registry.size(), is(2));
+
+        YangNode module1 = registry.getModule("module1");
+        YangNode module2 = registry.getModuleByNamespace(NAMESPACE2);
+        assertThat(module2.getName(), is("module2"));
+        assertThat(registry.getModule("module1", "2016-06-01"), sameInstance(module1));
+        assertThat(registry.getModule("module2", null), sameInstance(module2));
+        assertThat(registry.getModule("module3"), nullValue());
+
+        // Top level leaves and nodes, other than typedef and augment.
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "version") instanceof YangLeaf, is(true));
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "system"), sameInstance(module1.getChild().getNextSibling()));
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "name-type"), nullValue());
+        YangList list = (YangList) registry.getTopLevelNode(NAMESPACE2, "interface");
+        YangSchemaNodeIdentifier identifier = new YangSchemaNodeIdentifier();
+        identifier.setName("interface");
+        identifier.setNameSpace((YangNamespace) module2);
+        assertThat(registry.getTopLevelNode(identifier), sameInstance(list));
+
+        // Later revision is used for lookups, earlier stays available.
+        YangNode updated = linkModules("src/test/resources/schemaregistry/updated").iterator().next();
+        registry.addModule(updated);
+        assertThat(registry.size(), is(3));
+        assertThat(registry.getModule("module1"), sameInstance(updated));
+        assertThat(registry.getModuleByNamespace(NAMESPACE1), sameInstance(updated));
+        assertThat(registry.getModule("module1", "2016-06-01"), sameInstance(module1));
+        assertThat(registry.getModule("module1", "2016-09-01"), sameInstance(updated));
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "version"), nullValue());
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "clock").getName(), is("clock"));
+
+        // Same name and revision replaces the module.
+        registry.addModule(linkModules("src/test/resources/schemaregistry/updated").iterator().next());
+        assertThat(registry.size(), is(3));
+        assertThat(registry.removeModule(updated), is(false));
+
+        YangNode replaced = registry.getModule("module1");
+        assertThat(registry.removeModule(replaced), is(true));
+        assertThat(registry.size(), is(2));
+        assertThat(registry.getModule("module1"), sameInstance(module1));
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "clock"), nullValue());
+        assertThat(registry.getTopLevelNode(NAMESPACE1, "version").getName(), is("version"));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangIdentityRef;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+import org.onosproject.yangutils.datamodel.YangUses;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangSymbolTableStatistics;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yangutils.datamodel.utils.GeneratedLanguage.JAVA_GENERATION;
+import static org.onosproject.yangutils.translator.tojava.YangDataModelFactory.getYangTypeDefNode;
+
+/**
+ * Test cases for resolution of references through the symbol tables of
+ * nested scopes.
+ */
+public class SymbolTableTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the root node with the given name.
+     *
+     * @param name name of module
+     * @return root node
+     */
+    private YangNode getModule(String name) {
+        for (YangNode yangNode : utilManager.getYangNodeSet()) {
+            if (yangNode.getName().equals(name)) {
+                return yangNode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the child node of the given type with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @param type class of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name, Class<?> type) {
+        YangNode child = node.getChild();
+        while (child != null && !(type.isInstance(child) && child.getName().equals(name))) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the typedef referred by the type of the leaf.
+     *
+     * @param leaf leaf of derived type
+     * @return referred typedef
+     */
+    private static YangTypeDef getReferredTypeDef(YangLeaf leaf) {
+        return ((YangDerivedInfo<?>) leaf.getDataType().getDataTypeExtendedInfo())
+                .getReferredTypeDef();
+    }
+
+    /**
+     * Checks references resolve to the definitions of the nearest scope and
+     * of imported modules.
+     */
+    @Test
+    public void processSymbolTables() throws IOException, DataModelException {
+
+        String searchDir = "src/test/resources/symboltable";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module1 = getModule("module1");
+        YangNode module2 = getModule("module2");
+        YangContainer system = (YangContainer) getChild(module1, "system", YangContainer.class);
+        YangContainer client = (YangContainer) getChild(module1, "client", YangContainer.class);
+
+        // Definitions of the nested scope hide those of the module.
+        assertThat(getReferredTypeDef(getLeaf(system, "host-name")),
+                   sameInstance(getChild(system, "name-type", YangTypeDef.class)));
+        YangContainer server = (YangContainer) getChild(system, "server", YangContainer.class);
+        YangUses uses = (YangUses) getChild(server, "address", YangUses.class);
+        assertThat(uses.getRefGroup().getParent(), sameInstance((YangNode) system));
+        assertThat(getLeaf(server, "host").getName(), is("host"));
+
+        // Definitions of the module and of the imported module.
+        assertThat(getReferredTypeDef(getLeaf(client, "user")),
+                   sameInstance(getChild(module1, "name-type", YangTypeDef.class)));
+        uses = (YangUses) getChild(client, "address", YangUses.class);
+        assertThat(uses.getRefGroup().getParent(), sameInstance(module1));
+        assertThat(getReferredTypeDef(getLeaf(client, "vrf")),
+                   sameInstance(getChild(module2, "vrf-type", YangTypeDef.class)));
+        assertThat(getLeaf(client, "port").getName(), is("port"));
+
+        // Identity and feature of the module.
+        YangLeaf protocol = getLeaf(system, "protocol");
+        YangIdentityRef identityRef = (YangIdentityRef) protocol.getDataType().getDataTypeExtendedInfo();
+        assertThat(identityRef.getReferredIdentity().getName(), is("static"));
+        assertThat(protocol.getIfFeatureList().get(0).getReferredFeature().getName(), is("routing"));
+
+        YangSymbolTableStatistics statistics = yangLinkerManager.getSymbolTableStatistics();
+        assertThat(statistics.getScopeCount() >= 3, is(true));
+        assertThat(statistics.getHitCount() >= 8, is(true));
+        assertThat(statistics.getLookupCount() >= statistics.getHitCount(), is(true));
+
+        // Table follows the changes of the children.
+        assertThat(module2.getSymbolTable().getTypeDef("port-type"), nullValue());
+        YangTypeDef portType = getYangTypeDefNode(JAVA_GENERATION);
+        portType.setName("port-type");
+        module2.addChild(portType);
+        assertThat(module2.getSymbolTable().getTypeDef("port-type"), sameInstance(portType));
+    }
+}
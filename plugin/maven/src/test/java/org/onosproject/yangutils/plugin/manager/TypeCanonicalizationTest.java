@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangUnion;
+import org.onosproject.yangutils.datamodel.utils.TypeCanonicalizer;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for sharing of structurally identical types after linking.
+ */
+public class TypeCanonicalizationTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Checks identical types are shared and different types are not.
+     */
+    @Test
+    public void processTypeCanonicalization() throws IOException {
+
+        String searchDir = "src/test/resources/typecanonicalization";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        Iterator<YangNode> yangNodeIterator = utilManager.getYangNodeSet().iterator();
+        YangNode rootNode = yangNodeIterator.next();
+        YangModule module1;
+        YangModule module2;
+        if (rootNode.getName().equals("module1")) {
+            module1 = (YangModule) rootNode;
+            module2 = (YangModule) yangNodeIterator.next();
+        } else {
+            module2 = (YangModule) rootNode;
+            module1 = (YangModule) yangNodeIterator.next();
+        }
+
+        YangContainer container = (YangContainer) module1.getChild().getNextSibling();
+        List<YangLeaf> leaves = container.getListOfLeaf();
+        YangType<?> name = leaves.get(0).getDataType();
+        YangType<?> alias = leaves.get(1).getDataType();
+        YangType<?> shortId = leaves.get(2).getDataType();
+        YangType<?> otherId = leaves.get(3).getDataType();
+        YangType<?> longId = leaves.get(4).getDataType();
+        YangType<?> hops = container.getListOfLeafList().get(0).getDataType();
+        YangUnion union = (YangUnion) leaves.get(5).getDataType().getDataTypeExtendedInfo();
+
+        // Derived types referring the same typedef without restriction.
+        assertThat(alias, sameInstance(name));
+
+        // Built-in types with identical and different restrictions.
+        assertThat(otherId, sameInstance(shortId));
+        assertThat(longId, not(sameInstance(shortId)));
+
+        // Union member types and types across files.
+        assertThat(union.getTypeList().get(0), sameInstance(hops));
+        assertThat(module2.getListOfLeaf().get(1).getDataType(), sameInstance(hops));
+
+        // Same typedef referred with a different prefix is not shared.
+        assertThat(module2.getListOfLeaf().get(0).getDataType(), not(sameInstance(name)));
+
+        // Types are already canonical after linking.
+        TypeCanonicalizer canonicalizer = new TypeCanonicalizer();
+        canonicalizer.canonicalize(utilManager.getYangNodeSet());
+        assertThat(canonicalizer.getSharedTypeCount(), is(0));
+    }
+
+    /**
+     * Checks types held in a grouping are not shared with other leaves.
+     */
+    @Test
+    public void processGroupingTypes() throws IOException {
+
+        String searchDir = "src/test/resources/canonicalgrouping";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        List<YangLeaf> groupingLeaves = ((YangGrouping) getChild(module, "endpoint")).getListOfLeaf();
+        List<YangLeaf> localLeaves = ((YangContainer) getChild(module, "local")).getListOfLeaf();
+        List<YangLeaf> siteLeaves = ((YangContainer) getChild(module, "site")).getListOfLeaf();
+
+        // Leaves copied from the grouping keep the types of the grouping.
+        assertThat(siteLeaves.get(0).getDataType(), sameInstance(groupingLeaves.get(0).getDataType()));
+        assertThat(siteLeaves.get(1).getDataType(), sameInstance(groupingLeaves.get(1).getDataType()));
+
+        // Identical types elsewhere are not the types of the grouping.
+        assertThat(localLeaves.get(0).getDataType(), not(sameInstance(groupingLeaves.get(0).getDataType())));
+        assertThat(localLeaves.get(1).getDataType(), not(sameInstance(groupingLeaves.get(1).getDataType())));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for exception free validation of values and union matching.
+ */
+public class UnionValidationTest {
+
+    private static final String[] VALUES = {"5", "11", "high", "false", "abc-12", "abc-", "150.5", "99.99", "xyz"};
+    private static final int ITERATIONS = 200000;
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private YangContainer settings;
+    private YangContainer members;
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/unionvalidation";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        YangNode module = utilManager.getYangNodeSet().iterator().next();
+        settings = (YangContainer) module.getChild().getNextSibling();
+        members = (YangContainer) settings.getNextSibling();
+    }
+
+    /**
+     * Returns the data type of the leaf with the given name.
+     *
+     * @param container container holding the leaf
+     * @param name      name of the leaf
+     * @return data type of the leaf
+     */
+    private static YangType<?> getType(YangContainer container, String name) {
+        for (YangLeaf leaf : container.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf.getDataType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks union member matching without exceptions.
+     */
+    @Test
+    public void processUnionValidation() {
+
+        YangType<?> union = getType(settings, "threshold");
+        assertThat(union.isValidValueString("-10"), is(true));
+        assertThat(union.isValidValueString("11"), is(false));
+        assertThat(union.isValidValueString("low"), is(true));
+        assertThat(union.isValidValueString("true"), is(true));
+        assertThat(union.isValidValueString("abc-12"), is(true));
+        assertThat(union.isValidValueString("abc-"), is(false));
+        assertThat(union.isValidValueString("100.25"), is(true));
+        assertThat(union.isValidValueString("99.99"), is(false));
+        assertThat(union.isValidValueString("250.00"), is(false));
+        assertThat(union.isValidValueString("xyz"), is(false));
+    }
+
+    /**
+     * Checks derived, bits and binary types without exceptions.
+     */
+    @Test
+    public void processOtherTypeValidation() {
+
+        YangType<?> level = getType(settings, "level");
+        assertThat(level.isValidValueString("100"), is(true));
+        assertThat(level.isValidValueString("101"), is(false));
+        assertThat(level.isValidValueString("-1"), is(false));
+        assertThat(level.isValidValueString("1a"), is(false));
+
+        YangType<?> flags = getType(settings, "flags");
+        assertThat(flags.isValidValueString("up down"), is(true));
+        assertThat(flags.isValidValueString("up left"), is(false));
+
+        YangType<?> key = getType(settings, "key");
+        assertThat(key.isValidValueString("AAE="), is(true));
+        assertThat(key.isValidValueString("AA="), is(false));
+        assertThat(key.isValidValueString("AAECAwQ="), is(false));
+    }
+
+    /**
+     * Checks the detailed error is still reported for an invalid value.
+     */
+    @Test
+    public void processInvalidValueMessage() {
+
+        YangLeaf leaf = members.getListOfLeaf().get(0);
+        try {
+            leaf.isValueValid("11");
+        } catch (DataModelException | DataTypeException e) {
+            assertThat(e.getMessage(), is("YANG file error : Input value \"11\" is not a valid INT8"));
+            return;
+        }
+        throw new AssertionError("Invalid value is accepted");
+    }
+
+    /**
+     * Returns true if the value is valid for one of the member leaves, found
+     * by catching the exceptions of each.
+     *
+     * @param memberLeaves leaves typed as the union member types
+     * @param value        value to match
+     * @return true if one of the member types accepts the value
+     */
+    private static boolean isMatchedByException(List<YangLeaf> memberLeaves, String value) {
+        for (YangLeaf leaf : memberLeaves) {
+            try {
+                leaf.isValueValid(value);
+                return true;
+            } catch (DataModelException | DataTypeException e) {
+                // Try next member type.
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a value matches the union exactly when it is valid for one of
+     * the member types, as found by catching the exceptions of each.
+     */
+    @Test
+    public void processUnionMemberMatching() {
+
+        List<YangLeaf> memberLeaves = members.getListOfLeaf();
+        YangType<?> union = getType(settings, "threshold");
+        for (String value : VALUES) {
+            assertThat(value, union.isValidValueString(value), is(isMatchedByException(memberLeaves, value)));
+        }
+    }
+
+    /**
+     * Compares matching a value against the five member union by catching
+     * exceptions of each member type with exception free matching.
+     */
+    @Ignore
+    @Test
+    public void benchmarkUnionValidation() {
+
+        List<YangLeaf> memberLeaves = members.getListOfLeaf();
+        YangType<?> union = getType(settings, "threshold");
+        int matched = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String value : VALUES) {
+                if (isMatchedByException(memberLeaves, value)) {
+                    matched++;
+                }
+            }
+        }
+        long exceptionTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String value : VALUES) {
+                if (union.isValidValueString(value)) {
+                    matched--;
+                }
+            }
+        }
+        long booleanTime = System.nanoTime() - start;
+
+        assertThat(matched, is(0));
+        System.out.println("exception based: " + exceptionTime / 1000000 + " ms, exception free: "
+                                   + booleanTime / 1000000 + " ms");
+    }
+}
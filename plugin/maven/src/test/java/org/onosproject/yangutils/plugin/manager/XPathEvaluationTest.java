@@ -0,0 +1,378 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangMust;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.xpath.XPathCompiler;
+import org.onosproject.yangutils.datamodel.utils.xpath.XPathDataAccessor;
+import org.onosproject.yangutils.datamodel.utils.xpath.YangXPathExpression;
+import org.onosproject.yangutils.linker.exceptions.LinkerException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Test cases for compiled evaluation of must and when expressions.
+ */
+public class XPathEvaluationTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private final YangLinkerManager yangLinkerManager = new YangLinkerManager();
+    private final DataAccessor accessor = new DataAccessor();
+    private YangNode module1;
+    private YangNode module2;
+    private YangContainer interfaces;
+    private YangList interfaceList;
+
+    /**
+     * Represents data node of the test data tree.
+     */
+    private static final class DataNode {
+
+        private final YangSchemaNode schemaNode;
+        private final String value;
+        private final List<DataNode> children = new LinkedList<>();
+        private DataNode parent;
+
+        /**
+         * Creates data node.
+         *
+         * @param schemaNode schema node of data node
+         * @param value      value of leaf, null for other nodes
+         */
+        private DataNode(YangSchemaNode schemaNode, String value) {
+            this.schemaNode = schemaNode;
+            this.value = value;
+        }
+
+        /**
+         * Adds child data node.
+         *
+         * @param child child data node
+         * @return child data node
+         */
+        private DataNode add(DataNode child) {
+            child.parent = this;
+            children.add(child);
+            return child;
+        }
+
+        /**
+         * Adds child leaf data node.
+         *
+         * @param leaf  schema node of leaf
+         * @param value value of leaf
+         * @return this data node
+         */
+        private DataNode addLeaf(YangSchemaNode leaf, String value) {
+            add(new DataNode(leaf, value));
+            return this;
+        }
+    }
+
+    /**
+     * Represents accessor of the test data tree.
+     */
+    private static final class DataAccessor implements XPathDataAccessor<DataNode> {
+
+        @Override
+        public DataNode getRoot(DataNode node) {
+            DataNode root = node;
+            while (root.parent != null) {
+                root = root.parent;
+            }
+            return root;
+        }
+
+        @Override
+        public DataNode getParent(DataNode node) {
+            return node.parent;
+        }
+
+        @Override
+        public List<DataNode> getChildren(DataNode node, YangSchemaNode schemaNode) {
+            List<DataNode> matched = new LinkedList<>();
+            for (DataNode child : node.children) {
+                if (child.schemaNode == schemaNode) {
+                    matched.add(child);
+                }
+            }
+            return matched;
+        }
+
+        @Override
+        public String getValue(DataNode node) {
+            return node.value;
+        }
+    }
+
+    /**
+     * Returns the child node with the given name.
+     *
+     * @param node parent node
+     * @param name name of the child
+     * @return child node
+     */
+    private static YangNode getChild(YangNode node, String name) {
+        YangNode child = node.getChild();
+        while (child != null && !child.getName().equals(name)) {
+            child = child.getNextSibling();
+        }
+        return child;
+    }
+
+    /**
+     * Returns the leaf with the given name.
+     *
+     * @param holder leaves holder
+     * @param name   name of the leaf
+     * @return leaf
+     */
+    private static YangLeaf getLeaf(YangLeavesHolder holder, String name) {
+        for (YangLeaf leaf : holder.getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses and links the YANG files.
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        String searchDir = "src/test/resources/xpathevaluation";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        yangLinkerManager.resolveDependencies(utilManager.getYangNodeSet());
+
+        Iterator<YangNode> yangNodeIterator = utilManager.getYangNodeSet().iterator();
+        YangNode rootNode = yangNodeIterator.next();
+        if (rootNode.getName().equals("module1")) {
+            module1 = rootNode;
+            module2 = yangNodeIterator.next();
+        } else {
+            module2 = rootNode;
+            module1 = yangNodeIterator.next();
+        }
+        interfaces = (YangContainer) getChild(module1, "interfaces");
+        interfaceList = (YangList) getChild(interfaces, "interface");
+    }
+
+    /**
+     * Returns data node of interface list entry.
+     *
+     * @param container data node of interfaces container
+     * @param name      name of interface
+     * @param type      type of interface
+     * @param mtu       mtu of interface, null if not present
+     * @return data node of interface
+     */
+    private DataNode addInterface(DataNode container, String name, String type, String mtu) {
+        DataNode entry = container.add(new DataNode(interfaceList, null));
+        entry.addLeaf(getLeaf(interfaceList, "name"), name).addLeaf(getLeaf(interfaceList, "type"), type);
+        if (mtu != null) {
+            entry.addLeaf(getLeaf(interfaceList, "mtu"), mtu);
+        }
+        return entry;
+    }
+
+    /**
+     * Checks the must and when expressions are compiled after linking.
+     */
+    @Test
+    public void processCompiledConstraints() {
+
+        YangLeaf mtu = getLeaf(interfaceList, "mtu");
+        assertThat(mtu.getListOfMust().get(0).getCompiledConstraint(), notNullValue());
+        assertThat(mtu.getWhen().getCompiledCondition(), notNullValue());
+        assertThat(getLeaf(interfaceList, "parent").getListOfMust().get(0).getCompiledConstraint(),
+                   notNullValue());
+
+        // Augment when is compiled against the augmented node.
+        YangAugment augment = (YangAugment) module2.getChild();
+        assertThat(augment.getWhen().getCompiledCondition(), notNullValue());
+        assertThat(getLeaf(augment, "remote").getListOfMust().get(0).getCompiledConstraint(), notNullValue());
+
+        // Unsupported expression is left uncompiled.
+        YangMust descendant = getLeaf(augment, "key").getListOfMust().get(0);
+        assertThat(descendant.getConstraint(), is("//if:interface"));
+        assertThat(descendant.getCompiledConstraint(), nullValue());
+
+        // Must copied from grouping is compiled for each of its uses.
+        YangLeaf thresholdsHigh = getLeaf((YangLeavesHolder) getChild(interfaceList, "thresholds"), "high");
+        YangLeaf boundsHigh = getLeaf((YangLeavesHolder) getChild(interfaces, "bounds"), "high");
+        YangMust thresholdsMust = thresholdsHigh.getListOfMust().get(0);
+        YangMust boundsMust = boundsHigh.getListOfMust().get(0);
+        assertThat(boundsMust, not(sameInstance(thresholdsMust)));
+        assertThat(boundsMust.getConstraint(), is(thresholdsMust.getConstraint()));
+        assertThat(boundsMust.getCompiledConstraint(), notNullValue());
+        assertThat(thresholdsMust.getCompiledConstraint(), notNullValue());
+        assertThat(boundsMust.getCompiledContext(), sameInstance((YangSchemaNode) boundsHigh));
+        assertThat(thresholdsMust.getCompiledContext(), sameInstance((YangSchemaNode) thresholdsHigh));
+    }
+
+    /**
+     * Checks evaluation of the compiled expressions on a data tree.
+     */
+    @Test
+    public void processEvaluation() {
+
+        DataNode root = new DataNode(module1, null);
+        DataNode container = root.add(new DataNode(interfaces, null));
+        DataNode eth0 = addInterface(container, "eth0", "ethernet", "1500");
+        DataNode eth1 = addInterface(container, "eth1", "ethernet", "20");
+        DataNode tunnel = addInterface(container, "tun0", "tunnel", null);
+
+        YangLeaf mtu = getLeaf(interfaceList, "mtu");
+        YangXPathExpression mtuMust = mtu.getListOfMust().get(0).getCompiledConstraint();
+        YangXPathExpression mtuWhen = mtu.getWhen().getCompiledCondition();
+        assertThat(mtuMust.evaluateBoolean(eth0.children.get(2), accessor), is(true));
+        assertThat(mtuMust.evaluateBoolean(eth1.children.get(2), accessor), is(false));
+        assertThat(mtuWhen.evaluateBoolean(eth0.children.get(2), accessor), is(true));
+
+        // Augment when is evaluated with the augmented node as context.
+        YangAugment augment = (YangAugment) module2.getChild();
+        YangXPathExpression tunnelWhen = augment.getWhen().getCompiledCondition();
+        assertThat(tunnelWhen.evaluateBoolean(tunnel, accessor), is(true));
+        assertThat(tunnelWhen.evaluateBoolean(eth0, accessor), is(false));
+
+        // Absolute path with predicate referring current().
+        YangLeaf parent = getLeaf(interfaceList, "parent");
+        tunnel.addLeaf(parent, "eth1");
+        DataNode parentNode = tunnel.children.get(2);
+        YangXPathExpression parentMust = parent.getListOfMust().get(0).getCompiledConstraint();
+        assertThat(parentMust.evaluateBoolean(parentNode, accessor), is(true));
+        eth0.addLeaf(parent, "eth9");
+        assertThat(parentMust.evaluateBoolean(eth0.children.get(3), accessor), is(false));
+
+        // Function library.
+        DataNode remote = tunnel.add(new DataNode(getLeaf(augment, "remote"), "0.1.2.3"));
+        YangXPathExpression remoteMust = getLeaf(augment, "remote").getListOfMust().get(0)
+                .getCompiledConstraint();
+        assertThat(remoteMust.evaluateBoolean(remote, accessor), is(false));
+    }
+
+    /**
+     * Checks compilation against a context node and the values of
+     * expressions.
+     */
+    @Test
+    public void processCompile() throws DataModelException {
+
+        DataNode root = new DataNode(module1, null);
+        DataNode container = root.add(new DataNode(interfaces, null));
+        addInterface(container, "eth0", "ethernet", "1500");
+        addInterface(container, "eth1", "ethernet", "9000");
+
+        YangXPathExpression count = XPathCompiler.compile("count(interface[mtu > 1000])", interfaces);
+        assertThat(count.evaluate(container, accessor), is((Object) 2.0));
+
+        YangXPathExpression sum = XPathCompiler.compile("interface[2]/mtu div 10 + 1", interfaces);
+        assertThat(sum.evaluate(container, accessor), is((Object) 901.0));
+
+        YangXPathExpression concat = XPathCompiler
+                .compile("concat(interface[1]/name, '-', string-length('abc'))", interfaces);
+        assertThat(concat.evaluate(container, accessor), is((Object) "eth0-3"));
+
+        YangXPathExpression absolute = XPathCompiler.compile("/m1:interfaces/interface/name = 'eth1'", module1);
+        assertThat(absolute.evaluateBoolean(root, accessor), is(true));
+        assertThat(absolute.getExpression(), is("/m1:interfaces/interface/name = 'eth1'"));
+    }
+
+    /**
+     * Checks error is reported for expressions which are not supported or
+     * do not match the schema.
+     */
+    @Test
+    public void processCompileError() {
+
+        assertCompileError("//interface", "Unsupported", "descendant path is not supported at position 0.");
+        assertCompileError("interface/*", "Unsupported", "wildcard name test is not supported at position 10.");
+        assertCompileError("interface/speed", "Invalid", "node speed is not found at position 10.");
+        assertCompileError("x:interface", "Invalid", "prefix x is not imported at position 0.");
+        assertCompileError("lang('en')", "Unsupported", "function lang() is not supported at position 0.");
+        assertCompileError("count(interface", "Invalid", "unexpected end of expression at position 15.");
+    }
+
+    /**
+     * Checks an invalid must expression fails the linking with the location
+     * of the must.
+     */
+    @Test
+    public void processConstraintError() throws IOException {
+
+        thrown.expect(LinkerException.class);
+        thrown.expectMessage("xpathconstrainterror/module1.yang at line: 9 at position: 12");
+        thrown.expectMessage("YANG file error : Invalid XPath expression \"../limit >= .\", node limit is not"
+                                     + " found at position 3.");
+        YangUtilManager errorUtilManager = new YangUtilManager();
+        String searchDir = "src/test/resources/xpathconstrainterror";
+        errorUtilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        errorUtilManager.parseYangFileInfoSet();
+        errorUtilManager.createYangNodeSet();
+        new YangLinkerManager().resolveDependencies(errorUtilManager.getYangNodeSet());
+    }
+
+    /**
+     * Asserts compiling the expression against interfaces container fails
+     * with the given error.
+     *
+     * @param expression XPath expression
+     * @param kind       expected kind of error, invalid or unsupported
+     * @param error      expected error message suffix
+     */
+    private void assertCompileError(String expression, String kind, String error) {
+        try {
+            XPathCompiler.compile(expression, interfaces);
+        } catch (DataModelException e) {
+            assertThat(e.getMessage(),
+                       is("YANG file error : " + kind + " XPath expression \"" + expression + "\", " + error));
+            return;
+        }
+        throw new AssertionError("Expression is compiled: " + expression);
+    }
+}